@@ -0,0 +1,85 @@
+// Interactive key lookups under a storm of exports and searches.
+//
+// Lookups arrive at a fixed rate and must keep their latency target while background clients keep
+// requesting uncached exports and searches. Those run on the background lane; background requests that
+// the service sheds with 429/503 count as expected, not as failures.
+//
+//   k6 run load-tests/bulkhead.js
+//   k6 run -e BASE_URL=http://localhost:8080/api/v1 -e LOOKUP_RATE=50 -e BACKGROUND_VUS=40 -e LOOKUP_P99_MS=50 load-tests/bulkhead.js
+
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api/v1';
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+  scenarios: {
+    lookups: {
+      executor: 'constant-arrival-rate',
+      exec: 'lookup',
+      rate: Number(__ENV.LOOKUP_RATE || 50),
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: 50,
+      maxVUs: 200,
+    },
+    background: {
+      executor: 'constant-vus',
+      exec: 'background',
+      vus: Number(__ENV.BACKGROUND_VUS || 40),
+      duration: DURATION,
+      startTime: __ENV.BACKGROUND_START || '0s',
+    },
+  },
+  thresholds: {
+    'http_req_duration{scenario:lookups}': [`p(99)<${__ENV.LOOKUP_P99_MS || 50}`],
+    'http_req_failed{scenario:lookups}': ['rate<0.01'],
+    'checks{scenario:background}': ['rate>0.99'],
+  },
+};
+
+export function setup() {
+  const login = http.post(`${BASE_URL}/auth/login`,
+      JSON.stringify({ username: 'viewer', password: 'viewer123' }),
+      { headers: { 'Content-Type': 'application/json' } });
+  const token = login.json('accessToken');
+  const headers = { Authorization: `Bearer ${token}` };
+
+  const page = http.get(`${BASE_URL}/translations/locale/en?size=1000`, { headers });
+  const keys = page.json('content').map((translation) => translation.key);
+  const revision = http.get(`${BASE_URL}/translations/export?locale=en`).json('revision');
+  return { headers, keys, revision };
+}
+
+export function lookup(data) {
+  const key = data.keys[Math.floor(Math.random() * data.keys.length)];
+  const res = http.get(`${BASE_URL}/translations/key/${encodeURIComponent(key)}/locale/en`,
+      { headers: data.headers, tags: { name: 'lookup' } });
+  check(res, { 'lookup 200': (r) => r.status === 200 });
+}
+
+const letters = 'abcdefghijklmnopqrstuvwxyz';
+
+export function background(data) {
+  const letter = letters[Math.floor(Math.random() * letters.length)];
+  let res;
+  switch (Math.floor(Math.random() * 3)) {
+    case 0:
+      // As-of exports are never cached, so each one is a full build
+      res = http.get(`${BASE_URL}/translations/export/as-of?revision=${data.revision}`,
+          { headers: data.headers, tags: { name: 'export-as-of' } });
+      break;
+    case 1:
+      res = http.get(`${BASE_URL}/translations/search?content=${letter}e&size=100`,
+          { headers: data.headers, tags: { name: 'search-content' } });
+      break;
+    default:
+      res = http.get(`${BASE_URL}/translations/search?key=${letter}&size=100&sortBy=key`,
+          { headers: data.headers, tags: { name: 'search-key' } });
+  }
+  check(res, { 'background served or shed': (r) => [200, 429, 503].includes(r.status) });
+  if (res.status === 429 || res.status === 503) {
+    sleep(Number(res.headers['Retry-After'] || 1));
+  }
+}
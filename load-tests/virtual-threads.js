@@ -0,0 +1,55 @@
+// Throughput and p99 at 2k concurrent connections with the connection pool as the bottleneck.
+//
+// Every iteration reads an uncached page of a locale (one JDBC round trip on a pooled connection) and looks
+// up a key (Redis, then JDBC on a miss). Run it once against each threading mode on the same machine and
+// compare http_reqs/s and p(99):
+//
+//   SPRING_THREADS_VIRTUAL_ENABLED=false java -jar target/translation-service-1.0.0.jar   # platform threads
+//   SPRING_THREADS_VIRTUAL_ENABLED=true  java -jar target/translation-service-1.0.0.jar   # Java 21 build (-P java21)
+//   k6 run -e MODE=platform load-tests/virtual-threads.js
+//   k6 run -e MODE=virtual  load-tests/virtual-threads.js
+//
+// Keep spring.datasource.hikari.maximum-pool-size at its default of 20 so the pool, not the threads, limits
+// throughput.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api/v1';
+const LOCALES = ['en', 'fr', 'es', 'de', 'it'];
+
+export const options = {
+  scenarios: {
+    connections: {
+      executor: 'constant-vus',
+      vus: Number(__ENV.CONNECTIONS || 2000),
+      duration: __ENV.DURATION || '3m',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  tags: { mode: __ENV.MODE || 'unknown' },
+};
+
+export function setup() {
+  const login = http.post(`${BASE_URL}/auth/login`,
+      JSON.stringify({ username: 'viewer', password: 'viewer123' }),
+      { headers: { 'Content-Type': 'application/json' } });
+  const headers = { Authorization: `Bearer ${login.json('accessToken')}` };
+
+  const page = http.get(`${BASE_URL}/translations/locale/en?size=1000`, { headers });
+  const keys = page.json('content').map((translation) => translation.key);
+  return { headers, keys };
+}
+
+export default function (data) {
+  const locale = LOCALES[Math.floor(Math.random() * LOCALES.length)];
+  const pageNumber = Math.floor(Math.random() * 200);
+  const page = http.get(`${BASE_URL}/translations/locale/${locale}?page=${pageNumber}&size=20`,
+      { headers: data.headers, tags: { name: 'locale-page' } });
+  check(page, { 'page 200': (r) => r.status === 200 });
+
+  const key = data.keys[Math.floor(Math.random() * data.keys.length)];
+  const lookup = http.get(`${BASE_URL}/translations/key/${encodeURIComponent(key)}/locale/en`,
+      { headers: data.headers, tags: { name: 'lookup' } });
+  check(lookup, { 'lookup 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,19 @@
+package com.digitaltolk.translationservice.readapi;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Non-blocking, read-only API for edge traffic: key lookups, batch lookups and exports.
+ * <p>
+ * Reads the service's Postgres schema over R2DBC and shares its Redis cache entries. All writes go through the
+ * service, whose cache evictions therefore also cover the entries this API reads and fills.
+ */
+@SpringBootApplication
+public class TranslationReadApiApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(TranslationReadApiApplication.class, args);
+    }
+
+}
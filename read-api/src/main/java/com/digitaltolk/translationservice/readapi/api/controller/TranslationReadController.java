@@ -0,0 +1,93 @@
+package com.digitaltolk.translationservice.readapi.api.controller;
+
+import com.digitaltolk.translationservice.api.dto.TranslationDto;
+import com.digitaltolk.translationservice.api.dto.TranslationExportResponse;
+import com.digitaltolk.translationservice.readapi.service.TranslationReadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/translations")
+@Tag(name = "Translation Reads", description = "Non-blocking lookups and exports for edge traffic")
+@SecurityRequirement(name = "bearerAuth")
+public class TranslationReadController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslationReadController.class);
+
+    private final TranslationReadService translationReadService;
+
+    public TranslationReadController(TranslationReadService translationReadService) {
+        this.translationReadService = translationReadService;
+    }
+
+    @Operation(summary = "Get translation by key and locale", description = "Retrieves a translation by its key and locale")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Translation found",
+                    content = @Content(schema = @Schema(implementation = TranslationDto.class))),
+        @ApiResponse(responseCode = "404", description = "Translation not found"),
+        @ApiResponse(responseCode = "403", description = "Missing or invalid token")
+    })
+    @GetMapping("/key/{key}/locale/{locale}")
+    public Mono<TranslationDto> getTranslationByKeyAndLocale(
+            @Parameter(description = "Translation key") @PathVariable String key,
+            @Parameter(description = "Locale code") @PathVariable String locale) {
+        logger.debug("Fetching translation with key: {} and locale: {}", key, locale);
+
+        return translationReadService.getTranslationByKeyAndLocale(key, locale);
+    }
+
+    @Operation(summary = "Get translations for several keys",
+               description = "Retrieves the translations of the given keys in one locale, in the order given. Keys without a translation are left out")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Translations found",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = TranslationDto.class)))),
+        @ApiResponse(responseCode = "400", description = "Too many keys"),
+        @ApiResponse(responseCode = "403", description = "Missing or invalid token")
+    })
+    @GetMapping("/batch")
+    public Flux<TranslationDto> getTranslationsByKeys(
+            @Parameter(description = "Locale code") @RequestParam String locale,
+            @Parameter(description = "Translation keys, repeated or comma separated") @RequestParam List<String> keys) {
+        logger.debug("Fetching {} translations for locale: {}", keys.size(), locale);
+
+        return translationReadService.getTranslationsByKeys(keys, locale);
+    }
+
+    @Operation(summary = "Export translations",
+               description = "Export translations in JSON format for frontend consumption. Exports not in the cache are streamed from the database as they are read")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export completed successfully",
+                    content = @Content(schema = @Schema(implementation = TranslationExportResponse.class))),
+        @ApiResponse(responseCode = "429", description = "Export rate limit exceeded for this client"),
+        @ApiResponse(responseCode = "503", description = "Too many exports being streamed on this node")
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<DataBuffer> exportTranslations(
+            @Parameter(description = "Locale filter (optional)") @RequestParam(required = false) String locale,
+            ServerHttpResponse response) {
+        logger.info("Exporting translations for locale: {}", locale != null ? locale : "all");
+
+        return translationReadService.exportTranslations(locale, response.bufferFactory());
+    }
+}
@@ -0,0 +1,82 @@
+package com.digitaltolk.translationservice.readapi.config;
+
+import com.digitaltolk.translationservice.readapi.security.JwtAuthenticationWebFilter;
+import com.digitaltolk.translationservice.security.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Configuration
+@EnableWebFluxSecurity
+public class SecurityConfig {
+
+    @Value("${app.cors.allowed-origins}")
+    private String allowedOrigins;
+
+    /**
+     * The service's own verifier, so tokens it issues are accepted here on exactly the same terms.
+     */
+    @Bean
+    public JwtUtil jwtUtil(@Value("${spring.security.jwt.secret}") String secret,
+                           @Value("${spring.security.jwt.expiration}") long expiration,
+                           @Value("${app.jwt.verified-token-cache-size:10000}") long verifiedTokenCacheSize,
+                           MeterRegistry meterRegistry) {
+        return new JwtUtil(secret, expiration, verifiedTokenCacheSize, meterRegistry);
+    }
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, JwtUtil jwtUtil) {
+        return http
+            .csrf(ServerHttpSecurity.CsrfSpec::disable)
+            .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+            .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+            .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+            .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.FORBIDDEN)))
+            .authorizeExchange(authz -> authz
+                .pathMatchers("/swagger-ui/**", "/api-docs/**", "/swagger-ui.html", "/webjars/**").permitAll()
+                .pathMatchers("/actuator/health", "/actuator/info").permitAll()
+                // Public as on the service, behind the same admission control (ExportRateLimitWebFilter)
+                .pathMatchers(HttpMethod.GET, "/translations/export").permitAll()
+                .pathMatchers(HttpMethod.GET, "/translations/**").hasAnyRole("ADMIN", "EDITOR", "VIEWER")
+                .anyExchange().authenticated()
+            )
+            // Not a bean: WebFlux would also add a WebFilter bean to every request outside the security chain
+            .addFilterAt(new JwtAuthenticationWebFilter(jwtUtil), SecurityWebFiltersOrder.AUTHENTICATION)
+            .build();
+    }
+
+    @Bean
+    public CorsConfigurationSource corsConfigurationSource() {
+        CorsConfiguration configuration = new CorsConfiguration();
+
+        List<String> origins = Arrays.asList(allowedOrigins.split(","));
+        configuration.setAllowedOrigins(origins);
+
+        configuration.setAllowedMethods(List.of("GET", "OPTIONS"));
+        configuration.setAllowedHeaders(List.of("*"));
+        configuration.setAllowCredentials(true);
+        configuration.setMaxAge(3600L);
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", configuration);
+
+        return source;
+    }
+}
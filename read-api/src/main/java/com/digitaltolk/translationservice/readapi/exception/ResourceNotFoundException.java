@@ -0,0 +1,9 @@
+package com.digitaltolk.translationservice.readapi.exception;
+
+public class ResourceNotFoundException extends RuntimeException {
+
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+
+}
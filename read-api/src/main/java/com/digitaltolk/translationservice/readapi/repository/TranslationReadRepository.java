@@ -0,0 +1,135 @@
+package com.digitaltolk.translationservice.readapi.repository;
+
+import com.digitaltolk.translationservice.api.dto.TagDto;
+import com.digitaltolk.translationservice.api.dto.TranslationDto;
+import com.digitaltolk.translationservice.domain.projection.LocalizedContent;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Read-only SQL against the service's schema, which the service's Flyway migrations own.
+ * <p>
+ * Translations come with their tags, attached with one query per lookup or batch, so they match the
+ * service's {@code TranslationDto}s and can share its cache entries.
+ */
+@Repository
+public class TranslationReadRepository {
+
+    private static final String SELECT_TRANSLATIONS = """
+        SELECT t.id, k.translation_key, t.locale, t.content, t.created_at, t.updated_at, t.version
+        FROM translations t JOIN translation_keys k ON k.id = t.key_id
+        """;
+
+    private static final String SELECT_TAGS = """
+        SELECT tt.translation_id, g.id, g.name, g.description, g.created_at, g.updated_at
+        FROM translation_tags tt JOIN tags g ON g.id = tt.tag_id
+        WHERE tt.translation_id = ANY(:translationIds)
+        """;
+
+    private final DatabaseClient databaseClient;
+    private final int exportFetchSize;
+
+    public TranslationReadRepository(DatabaseClient databaseClient,
+                                     @Value("${app.export.fetch-size:1000}") int exportFetchSize) {
+        this.databaseClient = databaseClient;
+        this.exportFetchSize = exportFetchSize;
+    }
+
+    public Mono<TranslationDto> findByKeyAndLocale(String key, String locale) {
+        return databaseClient.sql(SELECT_TRANSLATIONS + "WHERE k.translation_key = :key AND t.locale = :locale")
+                .bind("key", key)
+                .bind("locale", locale)
+                .map((row, metadata) -> toDto(row))
+                .one()
+                .flatMap(translation -> withTags(List.of(translation)).map(translations -> translations.get(0)));
+    }
+
+    /**
+     * Translations of {@code keys} in {@code locale}; keys without one are left out.
+     */
+    public Flux<TranslationDto> findByKeysAndLocale(Collection<String> keys, String locale) {
+        return databaseClient.sql(SELECT_TRANSLATIONS + "WHERE t.locale = :locale AND k.translation_key = ANY(:keys)")
+                .bind("locale", locale)
+                .bind("keys", keys.toArray(String[]::new))
+                .map((row, metadata) -> toDto(row))
+                .all()
+                .collectList()
+                .flatMap(this::withTags)
+                .flatMapIterable(Function.identity());
+    }
+
+    /**
+     * Every translation, or those of one {@code locale}, ordered by locale and key. Rows are fetched from a
+     * cursor {@code app.export.fetch-size} at a time as the subscriber asks for them, so an export is never
+     * held in memory whole.
+     */
+    public Flux<LocalizedContent> streamForExport(String locale) {
+        String sql = "SELECT t.locale, k.translation_key, t.content FROM translations t JOIN translation_keys k ON k.id = t.key_id ";
+        DatabaseClient.GenericExecuteSpec spec = locale != null
+                ? databaseClient.sql(sql + "WHERE t.locale = :locale ORDER BY k.translation_key").bind("locale", locale)
+                : databaseClient.sql(sql + "ORDER BY t.locale, k.translation_key");
+
+        return spec.filter(statement -> statement.fetchSize(exportFetchSize))
+                .map((row, metadata) -> new LocalizedContent(
+                        row.get("locale", String.class),
+                        row.get("translation_key", String.class),
+                        row.get("content", String.class)))
+                .all();
+    }
+
+    public Mono<Long> findLatestRevision() {
+        return databaseClient.sql("SELECT COALESCE(MAX(revision), 0) AS revision FROM translation_changes")
+                .map((row, metadata) -> row.get("revision", Long.class))
+                .one();
+    }
+
+    private Mono<List<TranslationDto>> withTags(List<TranslationDto> translations) {
+        if (translations.isEmpty()) {
+            return Mono.just(translations);
+        }
+        Map<Long, TranslationDto> byId = translations.stream()
+                .collect(Collectors.toMap(TranslationDto::getId, Function.identity()));
+
+        return databaseClient.sql(SELECT_TAGS)
+                .bind("translationIds", byId.keySet().toArray(Long[]::new))
+                .map((row, metadata) -> Map.entry(row.get("translation_id", Long.class), toTagDto(row)))
+                .all()
+                .doOnNext(tag -> byId.get(tag.getKey()).getTags().add(tag.getValue()))
+                .then(Mono.just(translations));
+    }
+
+    private static TranslationDto toDto(Row row) {
+        TranslationDto dto = new TranslationDto();
+        dto.setId(row.get("id", Long.class));
+        dto.setKey(row.get("translation_key", String.class));
+        dto.setLocale(row.get("locale", String.class));
+        dto.setContent(row.get("content", String.class));
+        dto.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        dto.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        dto.setVersion(row.get("version", Long.class));
+        dto.setTags(new HashSet<>());
+        return dto;
+    }
+
+    private static TagDto toTagDto(Row row) {
+        TagDto tag = new TagDto();
+        tag.setId(row.get("id", Long.class));
+        tag.setName(row.get("name", String.class));
+        tag.setDescription(row.get("description", String.class));
+        tag.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        tag.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        return tag;
+    }
+}
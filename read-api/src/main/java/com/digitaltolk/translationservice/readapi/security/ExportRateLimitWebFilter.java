@@ -0,0 +1,77 @@
+package com.digitaltolk.translationservice.readapi.security;
+
+import com.digitaltolk.translationservice.readapi.exception.GlobalExceptionHandler.ErrorResponse;
+import com.digitaltolk.translationservice.readapi.service.ExportAdmissionControl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+
+/**
+ * Rate limits the public export endpoint per client, before the request reaches the cache or the database.
+ * Clients are told when to retry with a 429 and {@code Retry-After}.
+ * <p>
+ * Clients are identified by their address. Behind a proxy this is the forwarded address, as resolved by the
+ * server's {@code forward-headers-strategy}.
+ */
+@Component
+public class ExportRateLimitWebFilter implements WebFilter {
+
+    static final String EXPORT_PATH = "/translations/export";
+
+    private final ExportAdmissionControl exportAdmission;
+    private final ObjectMapper objectMapper;
+
+    public ExportRateLimitWebFilter(ExportAdmissionControl exportAdmission, ObjectMapper objectMapper) {
+        this.exportAdmission = exportAdmission;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.GET || !EXPORT_PATH.equals(request.getPath().pathWithinApplication().value())) {
+            return chain.filter(exchange);
+        }
+
+        long retryAfterSeconds = exportAdmission.admitClient(clientAddress(request));
+        if (retryAfterSeconds == 0) {
+            return chain.filter(exchange);
+        }
+
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            "Too Many Requests",
+            "Export rate limit exceeded, try again later",
+            "uri=" + request.getPath().value(),
+            LocalDateTime.now()
+        );
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.fromCallable(
+                () -> response.bufferFactory().wrap(objectMapper.writeValueAsBytes(errorResponse))));
+    }
+
+    private static String clientAddress(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null) {
+            return "unknown";
+        }
+        return remoteAddress.getAddress() != null
+                ? remoteAddress.getAddress().getHostAddress()
+                : remoteAddress.getHostString();
+    }
+}
@@ -0,0 +1,58 @@
+package com.digitaltolk.translationservice.readapi.security;
+
+import com.digitaltolk.translationservice.security.JwtUtil;
+import com.digitaltolk.translationservice.security.VerifiedToken;
+import io.jsonwebtoken.JwtException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+
+/**
+ * Authenticates requests carrying a bearer token issued by the service; requests without a valid one go on
+ * unauthenticated and are left to the authorization rules.
+ */
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationWebFilter.class);
+
+    private final JwtUtil jwtUtil;
+
+    public JwtAuthenticationWebFilter(JwtUtil jwtUtil) {
+        this.jwtUtil = jwtUtil;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String requestTokenHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (requestTokenHeader == null || !requestTokenHeader.startsWith("Bearer ")) {
+            return chain.filter(exchange);
+        }
+
+        VerifiedToken token;
+        try {
+            // Verification is CPU work only, and repeated tokens are answered from JwtUtil's cache, so it
+            // runs on the event loop
+            token = jwtUtil.verify(requestTokenHeader.substring(7));
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.warn("JWT Token validation failed: {}", e.getMessage());
+            return chain.filter(exchange);
+        }
+
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+            token.username(),
+            null,
+            Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + token.role()))
+        );
+        return chain.filter(exchange)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authToken));
+    }
+}
@@ -0,0 +1,99 @@
+package com.digitaltolk.translationservice.readapi.service;
+
+import com.digitaltolk.translationservice.readapi.exception.CapacityExceededException;
+import com.digitaltolk.translationservice.service.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Admission control for exports, which are public and hold a database connection for as long as they stream.
+ * <p>
+ * The same as the service's: each client gets a token bucket on the public export endpoint (see
+ * {@code ExportRateLimitWebFilter}), and the node streams at most a fixed number of exports from the database at
+ * once. As a streamed export holds its connection until the client has read it all, that number must leave
+ * connections in the pool for lookups, which is checked at startup. Both limits reject immediately instead of
+ * queueing; rejected requests are counted in the {@code translation.export.shed} metric by reason.
+ */
+@Component
+public class ExportAdmissionControl {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportAdmissionControl.class);
+
+    private static final long STREAM_RETRY_AFTER_SECONDS = 2;
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final Semaphore streamSlots;
+    private final Counter rateLimited;
+    private final Counter streamLimited;
+
+    public ExportAdmissionControl(MeterRegistry meterRegistry,
+                                  @Value("${app.export-admission.requests-per-minute:60}") int requestsPerMinute,
+                                  @Value("${app.export-admission.burst:20}") int burst,
+                                  @Value("${app.export-admission.max-clients:100000}") long maxClients,
+                                  @Value("${app.export-admission.max-concurrent-streams:4}") int maxConcurrentStreams,
+                                  @Value("${spring.r2dbc.pool.max-size:10}") int poolSize) {
+        if (maxConcurrentStreams >= poolSize) {
+            throw new IllegalArgumentException(String.format(
+                    "app.export-admission.max-concurrent-streams (%d) must be below spring.r2dbc.pool.max-size (%d), "
+                            + "or streamed exports can take every connection from lookups",
+                    maxConcurrentStreams, poolSize));
+        }
+        this.rateLimiter = new TokenBucketRateLimiter(requestsPerMinute, burst, maxClients, System::nanoTime);
+        this.streamSlots = new Semaphore(maxConcurrentStreams);
+        this.rateLimited = Counter.builder("translation.export.shed")
+                .description("Export requests rejected by admission control")
+                .tag("reason", "rate-limited")
+                .register(meterRegistry);
+        this.streamLimited = Counter.builder("translation.export.shed")
+                .description("Export requests rejected by admission control")
+                .tag("reason", "stream-limit")
+                .register(meterRegistry);
+        Gauge.builder("translation.export.streams.active", streamSlots,
+                        slots -> maxConcurrentStreams - slots.availablePermits())
+                .description("Exports currently being streamed from the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes a token from the client's bucket.
+     *
+     * @return 0 if the request is admitted, otherwise the seconds until the client may retry
+     */
+    public long admitClient(String client) {
+        long waitNanos = rateLimiter.tryAcquire(client);
+        if (waitNanos == 0) {
+            return 0;
+        }
+        rateLimited.increment();
+        logger.debug("Export request from {} rate limited", client);
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    /**
+     * Streams an export if a stream slot is free, holding the slot until the stream terminates or is cancelled.
+     * The slot is taken before subscribing, so a rejected export never waits for a connection.
+     *
+     * @throws CapacityExceededException (as an error signal) if the node is already streaming the maximum
+     *         number of exports
+     */
+    public <T> Flux<T> stream(Supplier<Flux<T>> export) {
+        return Flux.defer(() -> {
+            if (!streamSlots.tryAcquire()) {
+                streamLimited.increment();
+                return Flux.error(new CapacityExceededException(
+                        "Too many exports being streamed on this node, try again later", STREAM_RETRY_AFTER_SECONDS));
+            }
+            return Flux.using(() -> streamSlots, slots -> export.get(), Semaphore::release);
+        });
+    }
+}
@@ -0,0 +1,142 @@
+package com.digitaltolk.translationservice.readapi.service;
+
+import com.digitaltolk.translationservice.domain.projection.LocalizedContent;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Writes an export as the service's {@code TranslationExportResponse} JSON while its rows stream in.
+ * <p>
+ * Rows have to arrive ordered by locale. Each batch of {@code rowsPerBuffer} rows becomes one buffer, so only
+ * a batch is ever held in memory. The totals and locale list are only known once every row has been seen, so
+ * they follow the translations in the object instead of preceding them.
+ */
+final class ExportJsonWriter {
+
+    private static final DateTimeFormatter GENERATED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final String EXPORT_FORMAT_VERSION = "1.0";
+
+    private final JsonFactory jsonFactory;
+    private final long cacheTtl;
+    private final int rowsPerBuffer;
+
+    ExportJsonWriter(JsonFactory jsonFactory, long cacheTtl, int rowsPerBuffer) {
+        this.jsonFactory = jsonFactory;
+        this.cacheTtl = cacheTtl;
+        this.rowsPerBuffer = rowsPerBuffer;
+    }
+
+    Flux<DataBuffer> write(Flux<LocalizedContent> rows, long revision, DataBufferFactory bufferFactory) {
+        return Flux.defer(() -> {
+            Export export = new Export(revision, bufferFactory);
+            return Flux.concat(
+                    Mono.fromCallable(export::start),
+                    rows.buffer(rowsPerBuffer).map(export::append),
+                    Mono.fromCallable(export::finish))
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+        });
+    }
+
+    /**
+     * One export in progress. The generator keeps the JSON nesting across buffers; each buffer takes what it
+     * wrote since the last one.
+     */
+    private final class Export {
+
+        private final long revision;
+        private final DataBufferFactory bufferFactory;
+        private final String generatedAt = LocalDateTime.now().format(GENERATED_AT_FORMAT);
+        private final ByteArrayOutputStream pending = new ByteArrayOutputStream(8192);
+        private final JsonGenerator generator;
+        private final Set<String> locales = new TreeSet<>();
+
+        private String currentLocale;
+        private long keysInLocale;
+        private long totalKeys;
+        private long totalTranslations;
+
+        Export(long revision, DataBufferFactory bufferFactory) {
+            this.revision = revision;
+            this.bufferFactory = bufferFactory;
+            try {
+                this.generator = jsonFactory.createGenerator(pending, JsonEncoding.UTF8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        DataBuffer start() throws IOException {
+            generator.writeStartObject();
+            generator.writeFieldName("translations");
+            generator.writeStartObject();
+            return take();
+        }
+
+        DataBuffer append(List<LocalizedContent> batch) {
+            try {
+                for (LocalizedContent row : batch) {
+                    if (!row.locale().equals(currentLocale)) {
+                        if (currentLocale != null) {
+                            generator.writeEndObject();
+                        }
+                        generator.writeFieldName(row.locale());
+                        generator.writeStartObject();
+                        locales.add(row.locale());
+                        currentLocale = row.locale();
+                        keysInLocale = 0;
+                    }
+                    generator.writeStringField(row.key(), row.content());
+                    totalKeys = Math.max(totalKeys, ++keysInLocale);
+                    totalTranslations++;
+                }
+                return take();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        DataBuffer finish() throws IOException {
+            if (currentLocale != null) {
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+
+            generator.writeArrayFieldStart("locales");
+            for (String locale : locales) {
+                generator.writeString(locale);
+            }
+            generator.writeEndArray();
+            generator.writeNumberField("totalKeys", totalKeys);
+            generator.writeNumberField("totalTranslations", totalTranslations);
+            generator.writeStringField("generatedAt", generatedAt);
+            generator.writeStringField("version", EXPORT_FORMAT_VERSION);
+            generator.writeNumberField("cacheTtl", cacheTtl);
+            generator.writeNumberField("revision", revision);
+            generator.writeEndObject();
+            generator.close();
+            return take();
+        }
+
+        private DataBuffer take() throws IOException {
+            generator.flush();
+            DataBuffer buffer = bufferFactory.wrap(pending.toByteArray());
+            pending.reset();
+            return buffer;
+        }
+    }
+}
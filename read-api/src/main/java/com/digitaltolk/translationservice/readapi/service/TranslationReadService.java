@@ -0,0 +1,164 @@
+package com.digitaltolk.translationservice.readapi.service;
+
+import com.digitaltolk.translationservice.api.dto.TranslationDto;
+import com.digitaltolk.translationservice.api.dto.TranslationExportResponse;
+import com.digitaltolk.translationservice.readapi.exception.CapacityExceededException;
+import com.digitaltolk.translationservice.readapi.exception.ResourceNotFoundException;
+import com.digitaltolk.translationservice.readapi.repository.TranslationReadRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lookups and exports served from the service's Redis cache entries, falling back to Postgres.
+ * <p>
+ * Cache keys and values are the service's own ({@code translations::<key>_<locale>} and
+ * {@code export::<locale|all>}), so lookups here hit the entries the service fills. Nothing is written back:
+ * only the service fills the cache, after its own reads, so a miss read here from a lagging replica, or from the
+ * primary just before a write commits, can never be put back after the service evicted the entry and be served
+ * stale to both APIs. Exports missing from the cache are streamed from the database instead and not cached, so a
+ * node never holds a whole export; how many stream at once is up to {@link ExportAdmissionControl}. A Redis
+ * failure is treated as a miss.
+ */
+@Service
+public class TranslationReadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslationReadService.class);
+
+    static final String TRANSLATIONS_CACHE_PREFIX = "translations::";
+    static final String EXPORT_CACHE_PREFIX = "export::";
+    static final String ALL_LOCALES_EXPORT_KEY = "all";
+
+    private final TranslationReadRepository repository;
+    private final ReactiveRedisTemplate<String, Object> cache;
+    private final ObjectMapper objectMapper;
+    private final ExportAdmissionControl exportAdmission;
+    private final ExportJsonWriter exportJsonWriter;
+    private final int maxBatchKeys;
+
+    public TranslationReadService(TranslationReadRepository repository,
+                                  ReactiveRedisTemplate<String, Object> translationCacheTemplate,
+                                  ObjectMapper objectMapper,
+                                  ExportAdmissionControl exportAdmission,
+                                  @Value("${app.batch-lookup.max-keys:500}") int maxBatchKeys,
+                                  @Value("${app.export.cache-ttl:300}") long exportCacheTtl,
+                                  @Value("${app.export.rows-per-buffer:500}") int rowsPerBuffer) {
+        this.repository = repository;
+        this.cache = translationCacheTemplate;
+        this.objectMapper = objectMapper;
+        this.exportAdmission = exportAdmission;
+        this.exportJsonWriter = new ExportJsonWriter(objectMapper.getFactory(), exportCacheTtl, rowsPerBuffer);
+        this.maxBatchKeys = maxBatchKeys;
+    }
+
+    public Mono<TranslationDto> getTranslationByKeyAndLocale(String key, String locale) {
+        String cacheKey = lookupCacheKey(key, locale);
+
+        return cache.opsForValue().get(cacheKey)
+                .ofType(TranslationDto.class)
+                .onErrorResume(e -> cacheUnavailable(cacheKey, e))
+                .switchIfEmpty(Mono.defer(() -> repository.findByKeyAndLocale(key, locale)))
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(
+                        String.format("Translation not found with key '%s' and locale '%s'", key, locale))));
+    }
+
+    /**
+     * Translations of {@code keys} in {@code locale}, in the order asked for; keys without one are left out.
+     * All keys are read from the cache in one round trip and the misses from the database in one query.
+     */
+    public Flux<TranslationDto> getTranslationsByKeys(List<String> keys, String locale) {
+        List<String> distinctKeys = keys.stream().distinct().toList();
+        if (distinctKeys.size() > maxBatchKeys) {
+            return Flux.error(new IllegalArgumentException(
+                    String.format("At most %d keys can be looked up at once", maxBatchKeys)));
+        }
+        if (distinctKeys.isEmpty()) {
+            return Flux.empty();
+        }
+
+        List<String> cacheKeys = distinctKeys.stream().map(key -> lookupCacheKey(key, locale)).toList();
+        return cache.opsForValue().multiGet(cacheKeys)
+                .onErrorResume(e -> cacheUnavailable("batch of " + cacheKeys.size(), e)
+                        .then(Mono.just(Collections.nCopies(cacheKeys.size(), null))))
+                .flatMapMany(cached -> {
+                    Map<String, TranslationDto> found = new HashMap<>();
+                    List<String> missing = new ArrayList<>();
+                    for (int i = 0; i < distinctKeys.size(); i++) {
+                        if (cached.get(i) instanceof TranslationDto translation) {
+                            found.put(distinctKeys.get(i), translation);
+                        } else {
+                            missing.add(distinctKeys.get(i));
+                        }
+                    }
+
+                    Mono<Map<String, TranslationDto>> all = missing.isEmpty()
+                            ? Mono.just(found)
+                            : repository.findByKeysAndLocale(missing, locale)
+                                .doOnNext(translation -> found.put(translation.getKey(), translation))
+                                .then(Mono.just(found));
+                    return all.flatMapIterable(byKey -> distinctKeys.stream()
+                            .filter(byKey::containsKey)
+                            .map(byKey::get)
+                            .toList());
+                });
+    }
+
+    /**
+     * The export of one locale, or of all when {@code locale} is blank, as JSON buffers.
+     *
+     * @throws CapacityExceededException (as an error signal) if the export is not cached and the node is
+     *         already streaming as many exports as it may
+     */
+    public Flux<DataBuffer> exportTranslations(String locale, DataBufferFactory bufferFactory) {
+        String localeFilter = locale != null && !locale.trim().isEmpty() ? locale : null;
+        String cacheKey = EXPORT_CACHE_PREFIX + (localeFilter != null ? localeFilter : ALL_LOCALES_EXPORT_KEY);
+
+        return cache.opsForValue().get(cacheKey)
+                .ofType(TranslationExportResponse.class)
+                .onErrorResume(e -> cacheUnavailable(cacheKey, e))
+                .map(export -> bufferFactory.wrap(toJson(export)))
+                .flux()
+                .switchIfEmpty(Flux.defer(() -> streamExport(localeFilter, bufferFactory)));
+    }
+
+    private Flux<DataBuffer> streamExport(String locale, DataBufferFactory bufferFactory) {
+        return exportAdmission.stream(() -> {
+            logger.debug("Streaming export for locale: {}", locale != null ? locale : "all");
+
+            // Read before the rows, so the export contains at least every change up to this revision
+            return repository.findLatestRevision()
+                    .flatMapMany(revision -> exportJsonWriter.write(repository.streamForExport(locale), revision, bufferFactory));
+        });
+    }
+
+    private byte[] toJson(TranslationExportResponse export) {
+        try {
+            return objectMapper.writeValueAsBytes(export);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cached export could not be serialized", e);
+        }
+    }
+
+    private static <T> Mono<T> cacheUnavailable(String cacheKey, Throwable e) {
+        logger.warn("Cache unavailable for {}, reading from the database: {}", cacheKey, e.getMessage());
+        return Mono.empty();
+    }
+
+    static String lookupCacheKey(String key, String locale) {
+        return TRANSLATIONS_CACHE_PREFIX + key + "_" + locale;
+    }
+}
@@ -0,0 +1,155 @@
+package com.digitaltolk.translationservice.readapi.api.controller;
+
+import com.digitaltolk.translationservice.api.dto.TranslationDto;
+import com.digitaltolk.translationservice.readapi.exception.CapacityExceededException;
+import com.digitaltolk.translationservice.readapi.exception.GlobalExceptionHandler;
+import com.digitaltolk.translationservice.readapi.exception.ResourceNotFoundException;
+import com.digitaltolk.translationservice.readapi.security.ExportRateLimitWebFilter;
+import com.digitaltolk.translationservice.readapi.service.ExportAdmissionControl;
+import com.digitaltolk.translationservice.readapi.service.TranslationReadService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ActiveProfiles("test")
+class TranslationReadControllerTest {
+
+    @Mock
+    private TranslationReadService translationReadService;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        ExportAdmissionControl exportAdmission = new ExportAdmissionControl(new SimpleMeterRegistry(), 60, 2, 1000, 1, 2);
+        webTestClient = WebTestClient.bindToController(new TranslationReadController(translationReadService))
+                .controllerAdvice(new GlobalExceptionHandler())
+                .webFilter(new ExportRateLimitWebFilter(exportAdmission, new ObjectMapper().findAndRegisterModules()))
+                .build();
+    }
+
+    @Test
+    void getTranslationByKeyAndLocale_Found_ReturnsTranslation() {
+        when(translationReadService.getTranslationByKeyAndLocale("app.title", "en"))
+            .thenReturn(Mono.just(translation("app.title", "Title")));
+
+        webTestClient.get().uri("/translations/key/app.title/locale/en")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.key").isEqualTo("app.title")
+            .jsonPath("$.content").isEqualTo("Title");
+    }
+
+    @Test
+    void getTranslationByKeyAndLocale_Missing_NotFound() {
+        when(translationReadService.getTranslationByKeyAndLocale("app.missing", "en"))
+            .thenReturn(Mono.error(new ResourceNotFoundException("Translation not found")));
+
+        webTestClient.get().uri("/translations/key/app.missing/locale/en")
+            .exchange()
+            .expectStatus().isNotFound()
+            .expectBody()
+            .jsonPath("$.status").isEqualTo(404);
+    }
+
+    @Test
+    void getTranslationsByKeys_CommaSeparatedKeys_ReturnsTranslationsInOrder() {
+        when(translationReadService.getTranslationsByKeys(List.of("b", "a"), "en"))
+            .thenReturn(Flux.just(translation("b", "B"), translation("a", "A")));
+
+        webTestClient.get().uri("/translations/batch?locale=en&keys=b,a")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.length()").isEqualTo(2)
+            .jsonPath("$[0].key").isEqualTo("b")
+            .jsonPath("$[1].key").isEqualTo("a");
+    }
+
+    @Test
+    void getTranslationsByKeys_TooManyKeys_BadRequest() {
+        when(translationReadService.getTranslationsByKeys(any(), any()))
+            .thenReturn(Flux.error(new IllegalArgumentException("At most 3 keys can be looked up at once")));
+
+        webTestClient.get().uri("/translations/batch?locale=en&keys=a,b,c,d")
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void exportTranslations_StreamsBuffersAsJson() {
+        when(translationReadService.exportTranslations(eq("en"), any(DataBufferFactory.class)))
+            .thenReturn(Flux.just(buffer("{\"translations\":{\"en\":"), buffer("{\"app.title\":\"Title\"}}}")));
+
+        webTestClient.get().uri("/translations/export?locale=en")
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentType(MediaType.APPLICATION_JSON)
+            .expectBody()
+            .jsonPath("$.translations.en['app.title']").isEqualTo("Title");
+    }
+
+    @Test
+    void exportTranslations_StreamLimitReached_ServiceUnavailableWithRetryAfter() {
+        when(translationReadService.exportTranslations(isNull(), any(DataBufferFactory.class)))
+            .thenReturn(Flux.error(new CapacityExceededException("Too many exports being streamed on this node", 2)));
+
+        webTestClient.get().uri("/translations/export")
+            .exchange()
+            .expectStatus().isEqualTo(503)
+            .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "2");
+    }
+
+    @Test
+    void exportTranslations_BurstExhausted_TooManyRequestsBeforeService() {
+        when(translationReadService.exportTranslations(any(), any(DataBufferFactory.class)))
+            .thenAnswer(invocation -> Flux.just(buffer("{}")));
+
+        webTestClient.get().uri("/translations/export").exchange().expectStatus().isOk();
+        webTestClient.get().uri("/translations/export").exchange().expectStatus().isOk();
+        webTestClient.get().uri("/translations/export")
+            .exchange()
+            .expectStatus().isEqualTo(429)
+            .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "1")
+            .expectBody()
+            .jsonPath("$.status").isEqualTo(429);
+
+        verify(translationReadService, times(2)).exportTranslations(any(), any(DataBufferFactory.class));
+    }
+
+    private static TranslationDto translation(String key, String content) {
+        TranslationDto dto = new TranslationDto(key, "en", content);
+        dto.setId(1L);
+        dto.setVersion(0L);
+        return dto;
+    }
+
+    private static DataBuffer buffer(String json) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,60 @@
+package com.digitaltolk.translationservice.readapi.service;
+
+import com.digitaltolk.translationservice.readapi.exception.CapacityExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+class ExportAdmissionControlTest {
+
+    private MeterRegistry meterRegistry;
+    private ExportAdmissionControl exportAdmission;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        exportAdmission = new ExportAdmissionControl(meterRegistry, 60, 2, 1000, 1, 2);
+    }
+
+    @Test
+    void admitClient_BurstExhausted_RejectsOnlyThatClient() {
+        assertEquals(0, exportAdmission.admitClient("10.0.0.1"));
+        assertEquals(0, exportAdmission.admitClient("10.0.0.1"));
+
+        assertEquals(1, exportAdmission.admitClient("10.0.0.1"));
+        assertEquals(0, exportAdmission.admitClient("10.0.0.2"));
+        assertEquals(1.0, meterRegistry.counter("translation.export.shed", "reason", "rate-limited").count());
+    }
+
+    @Test
+    void stream_SlotTaken_RejectsUntilFirstIsCancelled() {
+        Sinks.Many<String> rows = Sinks.many().unicast().onBackpressureBuffer();
+        Disposable first = exportAdmission.stream(rows::asFlux).subscribe();
+
+        CapacityExceededException e = assertThrows(CapacityExceededException.class,
+                () -> exportAdmission.stream(() -> Flux.just("row")).blockLast());
+        assertEquals(2, e.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.counter("translation.export.shed", "reason", "stream-limit").count());
+        assertEquals(1.0, meterRegistry.get("translation.export.streams.active").gauge().value());
+
+        first.dispose();
+        assertEquals(List.of("row"), exportAdmission.stream(() -> Flux.just("row")).collectList().block());
+        assertEquals(0.0, meterRegistry.get("translation.export.streams.active").gauge().value());
+    }
+
+    @Test
+    void streamsNotBelowPoolSize_Rejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ExportAdmissionControl(new SimpleMeterRegistry(), 60, 2, 1000, 20, 20));
+    }
+}
@@ -0,0 +1,72 @@
+package com.digitaltolk.translationservice.readapi.service;
+
+import com.digitaltolk.translationservice.api.dto.TranslationExportResponse;
+import com.digitaltolk.translationservice.domain.projection.LocalizedContent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+class ExportJsonWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void write_RowsAcrossLocalesAndBuffers_ReadsBackAsExportResponse() throws Exception {
+        ExportJsonWriter writer = new ExportJsonWriter(objectMapper.getFactory(), 300, 2);
+        Flux<LocalizedContent> rows = Flux.just(
+                new LocalizedContent("en", "app.login.button", "Sign In"),
+                new LocalizedContent("en", "app.login.title", "Login"),
+                new LocalizedContent("en", "app.quote", "Say \"hi\""),
+                new LocalizedContent("fr", "app.login.title", "Connexion"));
+
+        List<DataBuffer> buffers = writer.write(rows, 42, DefaultDataBufferFactory.sharedInstance).collectList().block();
+
+        assertEquals(4, buffers.size()); // Start, two batches of rows, totals
+        TranslationExportResponse export = objectMapper.readValue(concat(buffers), TranslationExportResponse.class);
+        assertEquals(Map.of(
+                "en", Map.of("app.login.button", "Sign In", "app.login.title", "Login", "app.quote", "Say \"hi\""),
+                "fr", Map.of("app.login.title", "Connexion")), export.getTranslations());
+        assertEquals(Set.of("en", "fr"), export.getLocales());
+        assertEquals(3, export.getTotalKeys());
+        assertEquals(4, export.getTotalTranslations());
+        assertEquals(42L, export.getRevision());
+        assertEquals(300L, export.getCacheTtl());
+        assertEquals("1.0", export.getVersion());
+        assertNotNull(export.getGeneratedAt());
+    }
+
+    @Test
+    void write_NoRows_WritesEmptyExport() throws Exception {
+        ExportJsonWriter writer = new ExportJsonWriter(objectMapper.getFactory(), 300, 500);
+
+        List<DataBuffer> buffers = writer.write(Flux.empty(), 0, DefaultDataBufferFactory.sharedInstance).collectList().block();
+
+        TranslationExportResponse export = objectMapper.readValue(concat(buffers), TranslationExportResponse.class);
+        assertTrue(export.getTranslations().isEmpty());
+        assertTrue(export.getLocales().isEmpty());
+        assertEquals(0, export.getTotalTranslations());
+    }
+
+    private static String concat(List<DataBuffer> buffers) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (DataBuffer buffer : buffers) {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            out.writeBytes(bytes);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,163 @@
+package com.digitaltolk.translationservice.readapi.service;
+
+import com.digitaltolk.translationservice.api.dto.TranslationDto;
+import com.digitaltolk.translationservice.api.dto.TranslationExportResponse;
+import com.digitaltolk.translationservice.domain.projection.LocalizedContent;
+import com.digitaltolk.translationservice.readapi.exception.CapacityExceededException;
+import com.digitaltolk.translationservice.readapi.exception.ResourceNotFoundException;
+import com.digitaltolk.translationservice.readapi.repository.TranslationReadRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+class TranslationReadServiceTest {
+
+    private TranslationReadRepository repository;
+    private ReactiveValueOperations<String, Object> valueOperations;
+    private MeterRegistry meterRegistry;
+    private TranslationReadService translationReadService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        repository = mock(TranslationReadRepository.class);
+        ReactiveRedisTemplate<String, Object> cache = mock(ReactiveRedisTemplate.class);
+        valueOperations = mock(ReactiveValueOperations.class);
+        when(cache.opsForValue()).thenReturn(valueOperations);
+        meterRegistry = new SimpleMeterRegistry();
+        ExportAdmissionControl exportAdmission = new ExportAdmissionControl(meterRegistry, 60, 20, 1000, 1, 2);
+
+        translationReadService = new TranslationReadService(
+                repository, cache, new ObjectMapper().findAndRegisterModules(), exportAdmission, 3, 300, 500);
+    }
+
+    @Test
+    void getTranslationByKeyAndLocale_Cached_SkipsDatabase() {
+        TranslationDto cached = translation("app.title", "Title");
+        when(valueOperations.get("translations::app.title_en")).thenReturn(Mono.just(cached));
+
+        assertSame(cached, translationReadService.getTranslationByKeyAndLocale("app.title", "en").block());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getTranslationByKeyAndLocale_NotCached_ReadsDatabaseWithoutWritingBack() {
+        TranslationDto stored = translation("app.title", "Title");
+        when(valueOperations.get("translations::app.title_en")).thenReturn(Mono.empty());
+        when(repository.findByKeyAndLocale("app.title", "en")).thenReturn(Mono.just(stored));
+
+        assertSame(stored, translationReadService.getTranslationByKeyAndLocale("app.title", "en").block());
+        verify(valueOperations, never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    void getTranslationByKeyAndLocale_CacheDown_ReadsDatabase() {
+        TranslationDto stored = translation("app.title", "Title");
+        when(valueOperations.get(anyString())).thenReturn(Mono.error(new RedisConnectionFailureException("down")));
+        when(repository.findByKeyAndLocale("app.title", "en")).thenReturn(Mono.just(stored));
+
+        assertSame(stored, translationReadService.getTranslationByKeyAndLocale("app.title", "en").block());
+    }
+
+    @Test
+    void getTranslationByKeyAndLocale_Missing_NotFound() {
+        when(valueOperations.get(anyString())).thenReturn(Mono.empty());
+        when(repository.findByKeyAndLocale("app.missing", "en")).thenReturn(Mono.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> translationReadService.getTranslationByKeyAndLocale("app.missing", "en").block());
+    }
+
+    @Test
+    void getTranslationsByKeys_ReadsOnlyMissesFromDatabase_InRequestedOrder() {
+        TranslationDto first = translation("a", "A");
+        TranslationDto second = translation("b", "B");
+        when(valueOperations.multiGet(List.of("translations::b_en", "translations::a_en", "translations::c_en")))
+                .thenReturn(Mono.just(Arrays.asList(second, null, null)));
+        when(repository.findByKeysAndLocale(List.of("a", "c"), "en")).thenReturn(Flux.just(first));
+
+        List<TranslationDto> result = translationReadService.getTranslationsByKeys(List.of("b", "a", "b", "c"), "en")
+                .collectList().block();
+
+        assertEquals(List.of(second, first), result);
+        verify(valueOperations, never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    void getTranslationsByKeys_TooManyKeys_Rejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> translationReadService.getTranslationsByKeys(List.of("a", "b", "c", "d"), "en").blockLast());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void exportTranslations_Cached_WritesCachedExport() throws Exception {
+        TranslationExportResponse cached = new TranslationExportResponse(Map.of("en", Map.of("app.title", "Title")));
+        cached.setRevision(7L);
+        when(valueOperations.get("export::en")).thenReturn(Mono.just(cached));
+
+        String json = join(translationReadService.exportTranslations("en", DefaultDataBufferFactory.sharedInstance));
+
+        TranslationExportResponse export = new ObjectMapper().findAndRegisterModules()
+                .readValue(json, TranslationExportResponse.class);
+        assertEquals(7L, export.getRevision());
+        assertEquals("Title", export.getTranslations().get("en").get("app.title"));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void exportTranslations_StreamLimitReached_Rejected() {
+        when(valueOperations.get(anyString())).thenReturn(Mono.empty());
+        when(repository.findLatestRevision()).thenReturn(Mono.just(1L));
+        Sinks.Many<LocalizedContent> rows = Sinks.many().unicast().onBackpressureBuffer();
+        when(repository.streamForExport(null)).thenReturn(rows.asFlux());
+
+        Flux<DataBuffer> first = translationReadService.exportTranslations(null, DefaultDataBufferFactory.sharedInstance);
+        first.subscribe();
+
+        assertThrows(CapacityExceededException.class,
+                () -> translationReadService.exportTranslations(null, DefaultDataBufferFactory.sharedInstance).blockLast());
+        assertEquals(1.0, meterRegistry.counter("translation.export.shed", "reason", "stream-limit").count());
+
+        rows.tryEmitComplete();
+        assertEquals(0.0, meterRegistry.get("translation.export.streams.active").gauge().value());
+    }
+
+    private static TranslationDto translation(String key, String content) {
+        TranslationDto dto = new TranslationDto(key, "en", content);
+        dto.setId(1L);
+        dto.setVersion(0L);
+        return dto;
+    }
+
+    private static String join(Flux<DataBuffer> buffers) {
+        StringBuilder json = new StringBuilder();
+        for (DataBuffer buffer : buffers.collectList().block()) {
+            json.append(buffer.toString(StandardCharsets.UTF_8));
+        }
+        return json.toString();
+    }
+}
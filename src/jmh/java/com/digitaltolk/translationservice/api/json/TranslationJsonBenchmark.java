@@ -0,0 +1,95 @@
+package com.digitaltolk.translationservice.api.json;
+
+import com.digitaltolk.translationservice.api.dto.PagedResponse;
+import com.digitaltolk.translationservice.api.dto.TagDto;
+import com.digitaltolk.translationservice.api.dto.TranslationDto;
+import com.digitaltolk.translationservice.api.dto.TranslationExportResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TranslationJsonBenchmark {
+
+    private static final String[] CONTENT = {
+        "Sign in", "Forgot your password?", "Connexion à votre compte", "Passwort vergessen?",
+        "Ihre Änderungen wurden gespeichert", "保存しました", "Lägg till en ny översättning för \"%s\""
+    };
+
+    /** jackson is the mapper Spring Boot builds; tuned adds {@link TranslationJsonModule} */
+    @Param({"jackson", "tuned"})
+    private String serializers;
+
+    private ObjectMapper objectMapper;
+    private PagedResponse<TranslationDto> page;
+    private TranslationExportResponse export;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        if ("tuned".equals(serializers)) {
+            objectMapper.registerModule(new TranslationJsonModule(20000));
+        }
+
+        // A 100 row page as GET /translations/locale/{locale} returns it, each row with two tags
+        TagDto web = tag(1L, "web");
+        TagDto mobile = tag(2L, "mobile");
+        List<TranslationDto> rows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            TranslationDto dto = new TranslationDto("app.section" + i / 10 + ".label" + i, "en", CONTENT[i % CONTENT.length]);
+            dto.setId((long) i);
+            dto.setVersion((long) i % 3);
+            dto.setCreatedAt(LocalDateTime.of(2024, 1, 1 + i % 28, 10, i % 60, 0));
+            dto.setUpdatedAt(LocalDateTime.of(2024, 6, 1 + i % 28, 12, 0, i % 60));
+            dto.setTags(Set.of(web, mobile));
+            rows.add(dto);
+        }
+        page = new PagedResponse<>(rows, 3, 100, 10030, 101);
+
+        // 10k keys in two locales, as a cached GET /translations/export returns them
+        Map<String, Map<String, String>> translations = new HashMap<>();
+        for (String locale : List.of("en", "fr")) {
+            Map<String, String> byKey = new HashMap<>();
+            for (int i = 0; i < 5000; i++) {
+                byKey.put("app.section" + i / 10 + ".label" + i, CONTENT[i % CONTENT.length]);
+            }
+            translations.put(locale, byKey);
+        }
+        export = new TranslationExportResponse(translations);
+        export.setCacheTtl(300L);
+        export.setRevision(10042L);
+    }
+
+    @Benchmark
+    public void page() throws Exception {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), page);
+    }
+
+    @Benchmark
+    public void export() throws Exception {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), export);
+    }
+
+    private static TagDto tag(long id, String name) {
+        TagDto tag = new TagDto(name, "Shown on " + name);
+        tag.setId(id);
+        tag.setCreatedAt(LocalDateTime.of(2023, 1, 1, 0, 0, 0));
+        tag.setUpdatedAt(LocalDateTime.of(2023, 1, 1, 0, 0, 0));
+        tag.setTranslationCount(5000L);
+        return tag;
+    }
+}
@@ -0,0 +1,51 @@
+package com.digitaltolk.translationservice.security;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtAuthenticationFilterBenchmark {
+
+    /** 0 verifies every request; the default size answers repeated tokens from the cache */
+    @Param({"0", "10000"})
+    private long verifiedTokenCacheSize;
+
+    private JwtAuthenticationFilter filter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        // As in production, where this package logs at INFO; Logback would default to DEBUG here
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+
+        JwtUtil jwtUtil = new JwtUtil(
+                "jY4k+7D/Y+7cPtyE1g6AfLk7T9NmHtXHBFzrhXfZc9R/xZK1Z4Juz7XLj+xPbJeeg5ZJfZULPIxslk7Dn4N1q6Q==",
+                86400000L, verifiedTokenCacheSize, new SimpleMeterRegistry());
+        filter = new JwtAuthenticationFilter(jwtUtil);
+        authorizationHeader = "Bearer " + jwtUtil.generateToken("john.admin", "ADMIN");
+    }
+
+    @Benchmark
+    public Object authenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/translations/1");
+        request.addHeader("Authorization", authorizationHeader);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
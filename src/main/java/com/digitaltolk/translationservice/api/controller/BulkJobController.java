@@ -0,0 +1,86 @@
+package com.digitaltolk.translationservice.api.controller;
+
+import com.digitaltolk.translationservice.api.dto.BulkJobDto;
+import com.digitaltolk.translationservice.api.dto.BulkJobRequest;
+import com.digitaltolk.translationservice.service.BulkJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/translations/bulk-jobs")
+@Validated
+@Tag(name = "Bulk Operations", description = "Asynchronous bulk delete, retag and key rename jobs")
+@SecurityRequirement(name = "bearerAuth")
+public class BulkJobController {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkJobController.class);
+
+    private final BulkJobService bulkJobService;
+
+    public BulkJobController(BulkJobService bulkJobService) {
+        this.bulkJobService = bulkJobService;
+    }
+
+    @Operation(summary = "Submit a bulk job",
+               description = "Queues a bulk operation over all translations matching the locale, key prefix and tag filters")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Job accepted",
+                    content = @Content(schema = @Schema(implementation = BulkJobDto.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid job definition"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "503", description = "Job queue is full")
+    })
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkJobDto> submitJob(@Valid @RequestBody BulkJobRequest request) {
+        logger.info("Submitting bulk job: {}", request);
+
+        BulkJobDto job = bulkJobService.submit(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @Operation(summary = "Get bulk job status", description = "Retrieves the status and progress of a bulk job")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Job found",
+                    content = @Content(schema = @Schema(implementation = BulkJobDto.class))),
+        @ApiResponse(responseCode = "404", description = "Job not found"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @GetMapping("/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkJobDto> getJob(
+            @Parameter(description = "Job ID") @PathVariable String jobId) {
+        logger.debug("Fetching bulk job: {}", jobId);
+
+        return ResponseEntity.ok(bulkJobService.getJob(jobId));
+    }
+
+    @Operation(summary = "List bulk jobs", description = "Lists recent bulk jobs on this node, newest first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Jobs retrieved successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<BulkJobDto>> getJobs() {
+        logger.debug("Fetching bulk jobs");
+
+        return ResponseEntity.ok(bulkJobService.getJobs());
+    }
+}
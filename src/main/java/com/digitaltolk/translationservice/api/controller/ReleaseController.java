@@ -0,0 +1,175 @@
+package com.digitaltolk.translationservice.api.controller;
+
+import com.digitaltolk.translationservice.api.dto.PagedResponse;
+import com.digitaltolk.translationservice.api.dto.ReleaseDto;
+import com.digitaltolk.translationservice.api.dto.ReleaseRequest;
+import com.digitaltolk.translationservice.service.ReleaseService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/translations/releases")
+@Validated
+@Tag(name = "Releases", description = "Immutable, content-addressed translation releases")
+@SecurityRequirement(name = "bearerAuth")
+public class ReleaseController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReleaseController.class);
+
+    private final ReleaseService releaseService;
+
+    public ReleaseController(ReleaseService releaseService) {
+        this.releaseService = releaseService;
+    }
+
+    @Operation(summary = "Publish a release",
+               description = "Freezes the current translations of the given locales (all by default) into an immutable release. " +
+                             "Publishing unchanged content returns the existing release")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Release published",
+                    content = @Content(schema = @Schema(implementation = ReleaseDto.class))),
+        @ApiResponse(responseCode = "400", description = "Nothing to publish for the requested locales"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ReleaseDto> publishRelease(@Valid @RequestBody ReleaseRequest request) {
+        logger.info("Publishing release: {}", request);
+
+        ReleaseDto release = releaseService.publish(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(release);
+    }
+
+    @Operation(summary = "Get release", description = "Retrieves a release and its per-locale bundles")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Release found",
+                    content = @Content(schema = @Schema(implementation = ReleaseDto.class))),
+        @ApiResponse(responseCode = "404", description = "Release not found"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @GetMapping("/{releaseId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('EDITOR') or hasRole('VIEWER')")
+    public ResponseEntity<ReleaseDto> getRelease(
+            @Parameter(description = "Release ID") @PathVariable String releaseId) {
+        logger.debug("Fetching release: {}", releaseId);
+
+        return ResponseEntity.ok(releaseService.getRelease(releaseId));
+    }
+
+    @Operation(summary = "List releases", description = "Lists published releases, newest first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Releases retrieved successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN') or hasRole('EDITOR') or hasRole('VIEWER')")
+    public ResponseEntity<PagedResponse<ReleaseDto>> getReleases(
+            @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") @Min(0) int page,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        logger.debug("Fetching releases - page: {}, size: {}", page, size);
+
+        return ResponseEntity.ok(releaseService.getReleases(page, size));
+    }
+
+    @Operation(summary = "Export release",
+               description = "Exports a release for frontend applications. The content never changes, so responses are " +
+                             "cacheable forever and revalidate with the bundle hash as ETag, suffixed with -gzip for the " +
+                             "gzip-encoded body")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Release exported successfully"),
+        @ApiResponse(responseCode = "304", description = "Client copy is current"),
+        @ApiResponse(responseCode = "404", description = "Release or locale not found")
+    })
+    @GetMapping("/{releaseId}/export")
+    public ResponseEntity<byte[]> exportRelease(
+            @Parameter(description = "Release ID") @PathVariable String releaseId,
+            @Parameter(description = "Locale filter (optional)") @RequestParam(required = false) @Size(max = 10) String locale,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        // The two encodings are different representations, so each gets its own strong ETag
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String hash = releaseService.getExportETag(releaseId, locale);
+        String etag = "\"" + (gzip ? hash + "-gzip" : hash) + "\"";
+        CacheControl cacheControl = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        logger.debug("Exporting release {} for locale: {}", releaseId, locale != null ? locale : "all");
+
+        byte[] gzipped = releaseService.getExportGzipped(releaseId, locale);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzipped);
+        }
+        return response.body(ReleaseService.gunzip(gzipped));
+    }
+
+    /**
+     * Whether {@code Accept-Encoding} allows gzip with a non-zero quality, either by name or through
+     * {@code *} when gzip is not listed.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase();
+            double quality = quality(parts);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = gzipQuality != null ? Math.max(gzipQuality, quality) : quality;
+            } else if (coding.equals("*")) {
+                anyQuality = quality;
+            }
+        }
+        Double effective = gzipQuality != null ? gzipQuality : anyQuality;
+        return effective != null && effective > 0;
+    }
+
+    private static double quality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.length() > 2 && parameter.substring(0, 2).equalsIgnoreCase("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
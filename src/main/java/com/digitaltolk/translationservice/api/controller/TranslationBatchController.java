@@ -0,0 +1,58 @@
+package com.digitaltolk.translationservice.api.controller;
+
+import com.digitaltolk.translationservice.api.dto.BatchRequest;
+import com.digitaltolk.translationservice.api.dto.BatchResponse;
+import com.digitaltolk.translationservice.service.TranslationBatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/translations/batch")
+@Validated
+@Tag(name = "Batch Operations", description = "Ordered reads and writes of several translations in one request")
+@SecurityRequirement(name = "bearerAuth")
+public class TranslationBatchController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslationBatchController.class);
+
+    private final TranslationBatchService batchService;
+
+    public TranslationBatchController(TranslationBatchService batchService) {
+        this.batchService = batchService;
+    }
+
+    @Operation(summary = "Run a batch of operations",
+               description = "Runs GET, CREATE, UPSERT, UPDATE, PATCH and DELETE operations in order, either in one transaction "
+                       + "(ATOMIC) or each on its own (PER_OPERATION), and returns one result per operation. "
+                       + "Failed operations are reported in the results, not as the response status. DELETE requires ADMIN")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch ran; see each result's status",
+                    content = @Content(schema = @Schema(implementation = BatchResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid operations or too many of them"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN') or hasRole('EDITOR')")
+    public ResponseEntity<BatchResponse> executeBatch(@Valid @RequestBody BatchRequest request,
+                                                      Authentication authentication) {
+        logger.info("Running batch of {} operation(s) in {} mode", request.getOperations().size(),
+                   request.getMode() != null ? request.getMode() : "default");
+
+        boolean mayDelete = authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        return ResponseEntity.ok(batchService.execute(request, mayDelete));
+    }
+}
@@ -1,9 +1,14 @@
 package com.digitaltolk.translationservice.api.controller;
 
+import com.digitaltolk.translationservice.api.dto.LocaleStatsDto;
 import com.digitaltolk.translationservice.api.dto.PagedResponse;
+import com.digitaltolk.translationservice.api.dto.ResponseView;
+import com.digitaltolk.translationservice.api.dto.TranslationChangeFeedResponse;
 import com.digitaltolk.translationservice.api.dto.TranslationDto;
 import com.digitaltolk.translationservice.api.dto.TranslationExportResponse;
+import com.digitaltolk.translationservice.api.dto.TranslationPatchRequest;
 import com.digitaltolk.translationservice.api.dto.TranslationSearchRequest;
+import com.digitaltolk.translationservice.service.BackgroundLane;
 import com.digitaltolk.translationservice.service.TranslationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,17 +19,21 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/translations")
@@ -36,25 +45,37 @@ public class TranslationController {
     private static final Logger logger = LoggerFactory.getLogger(TranslationController.class);
 
     private final TranslationService translationService;
+    private final BackgroundLane backgroundLane;
 
-    public TranslationController(TranslationService translationService) {
+    public TranslationController(TranslationService translationService, BackgroundLane backgroundLane) {
         this.translationService = translationService;
+        this.backgroundLane = backgroundLane;
     }
 
-    @Operation(summary = "Create a new translation", description = "Creates a new translation with the provided key, locale, and content")
+    @Operation(summary = "Create a new translation",
+               description = "Creates a new translation with the provided key, locale, and content. " +
+                             "With upsert=true an existing translation for the same key and locale is overwritten instead of rejected")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Translation created successfully",
                     content = @Content(schema = @Schema(implementation = TranslationDto.class))),
+        @ApiResponse(responseCode = "200", description = "Translation created or updated (upsert mode)",
+                    content = @Content(schema = @Schema(implementation = TranslationDto.class))),
         @ApiResponse(responseCode = "400", description = "Invalid input data"),
         @ApiResponse(responseCode = "409", description = "Translation with same key and locale already exists"),
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     @PostMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('EDITOR')")
-    public ResponseEntity<TranslationDto> createTranslation(@Valid @RequestBody TranslationDto translationDto) {
-        logger.info("Creating translation with key: {} and locale: {}", 
-                   translationDto.getKey(), translationDto.getLocale());
+    public ResponseEntity<TranslationDto> createTranslation(
+            @Valid @RequestBody TranslationDto translationDto,
+            @Parameter(description = "Overwrite an existing translation instead of failing with 409") @RequestParam(defaultValue = "false") boolean upsert) {
+        logger.info("Creating translation with key: {} and locale: {} (upsert: {})", 
+                   translationDto.getKey(), translationDto.getLocale(), upsert);
         
+        if (upsert) {
+            return ResponseEntity.ok(translationService.upsertTranslation(translationDto));
+        }
+
         TranslationDto createdTranslation = translationService.createTranslation(translationDto);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTranslation);
     }
@@ -79,6 +100,29 @@ public class TranslationController {
         return ResponseEntity.ok(updatedTranslation);
     }
 
+    @Operation(summary = "Partially update a translation",
+               description = "Updates the content and/or tags of a translation identified by key and locale. " +
+                             "If a version is supplied the update only applies when it matches the stored version")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Translation patched successfully",
+                    content = @Content(schema = @Schema(implementation = TranslationDto.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid input data"),
+        @ApiResponse(responseCode = "404", description = "Translation not found"),
+        @ApiResponse(responseCode = "409", description = "Version does not match the stored version"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @PatchMapping("/key/{key}/locale/{locale}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('EDITOR')")
+    public ResponseEntity<TranslationDto> patchTranslation(
+            @Parameter(description = "Translation key") @PathVariable @Size(max = 500) String key,
+            @Parameter(description = "Locale code") @PathVariable @Size(max = 10) String locale,
+            @Valid @RequestBody TranslationPatchRequest patchRequest) {
+        logger.info("Patching translation with key: {} and locale: {}", key, locale);
+
+        TranslationDto patchedTranslation = translationService.patchTranslation(key, locale, patchRequest);
+        return ResponseEntity.ok(patchedTranslation);
+    }
+
     @Operation(summary = "Get translation by ID", description = "Retrieves a translation by its ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Translation found",
@@ -114,15 +158,16 @@ public class TranslationController {
         return ResponseEntity.ok(translation);
     }
 
-    @Operation(summary = "Search translations", description = "Search translations with various filters and pagination")
+    @Operation(summary = "Search translations", description = "Search translations with various filters and pagination. view=minimal returns only key, locale and content")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Search completed successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid search parameters"),
-        @ApiResponse(responseCode = "401", description = "Unauthorized")
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "503", description = "Too much background work queued on this node")
     })
     @GetMapping("/search")
     @PreAuthorize("hasRole('ADMIN') or hasRole('EDITOR') or hasRole('VIEWER')")
-    public ResponseEntity<PagedResponse<TranslationDto>> searchTranslations(
+    public CompletableFuture<ResponseEntity<PagedResponse<TranslationDto>>> searchTranslations(
             @Parameter(description = "Translation key pattern") @RequestParam(required = false) @Size(max = 500) String key,
             @Parameter(description = "Locale filter") @RequestParam(required = false) @Size(max = 10) String locale,
             @Parameter(description = "Content search term") @RequestParam(required = false) @Size(max = 1000) String content,
@@ -130,7 +175,8 @@ public class TranslationController {
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") @Min(0) int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "20") @Min(1) int size,
             @Parameter(description = "Sort field") @RequestParam(defaultValue = "updatedAt") String sortBy,
-            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDirection) {
+            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDirection,
+            @Parameter(description = "Fields per translation: minimal (key, locale, content) or full") @RequestParam(defaultValue = "full") String view) {
         
         TranslationSearchRequest searchRequest = new TranslationSearchRequest();
         searchRequest.setKey(key);
@@ -141,15 +187,16 @@ public class TranslationController {
         searchRequest.setSize(size);
         searchRequest.setSortBy(sortBy);
         searchRequest.setSortDirection(sortDirection);
+        searchRequest.setView(ResponseView.from(view));
         
         logger.debug("Searching translations with filters - key: {}, locale: {}, content: {}, tag: {}", 
                     key, locale, content, tagName);
         
-        PagedResponse<TranslationDto> result = translationService.searchTranslations(searchRequest);
-        return ResponseEntity.ok(result);
+        return backgroundLane.submit(() -> translationService.searchTranslations(searchRequest))
+                .thenApply(ResponseEntity::ok);
     }
 
-    @Operation(summary = "Get translations by locale", description = "Retrieves all translations for a specific locale with pagination")
+    @Operation(summary = "Get translations by locale", description = "Retrieves all translations for a specific locale with pagination. view=minimal returns only key, locale and content")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Translations retrieved successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid parameters"),
@@ -160,10 +207,11 @@ public class TranslationController {
     public ResponseEntity<PagedResponse<TranslationDto>> getTranslationsByLocale(
             @Parameter(description = "Locale code") @PathVariable @Size(max = 10) String locale,
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") @Min(0) int page,
-            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") @Min(1) int size) {
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") @Min(1) int size,
+            @Parameter(description = "Fields per translation: minimal (key, locale, content) or full") @RequestParam(defaultValue = "full") String view) {
         logger.debug("Fetching translations for locale: {}", locale);
         
-        PagedResponse<TranslationDto> result = translationService.getTranslationsByLocale(locale, page, size);
+        PagedResponse<TranslationDto> result = translationService.getTranslationsByLocale(locale, page, size, ResponseView.from(view));
         return ResponseEntity.ok(result);
     }
 
@@ -171,15 +219,64 @@ public class TranslationController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Export completed successfully",
                     content = @Content(schema = @Schema(implementation = TranslationExportResponse.class))),
-        @ApiResponse(responseCode = "401", description = "Unauthorized")
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "429", description = "Export rate limit exceeded for this client"),
+        @ApiResponse(responseCode = "503", description = "Too many exports being built or background work queued on this node")
     })
     @GetMapping("/export")
-    public ResponseEntity<TranslationExportResponse> exportTranslations(
+    public CompletableFuture<ResponseEntity<TranslationExportResponse>> exportTranslations(
             @Parameter(description = "Locale filter (optional)") @RequestParam(required = false) @Size(max = 10) String locale) {
         logger.info("Exporting translations for locale: {}", locale != null ? locale : "all");
-        
-        TranslationExportResponse export = translationService.exportTranslations(locale);
-        return ResponseEntity.ok(export);
+
+        // Cache hits never touch the database, so only misses queue for the lane
+        TranslationExportResponse cached = translationService.getCachedExport(locale);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(ResponseEntity.ok(cached));
+        }
+        return backgroundLane.submit(() -> translationService.exportTranslations(locale))
+                .thenApply(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Export translations as of a revision",
+               description = "Exports translations as they were at a revision, or at the latest revision recorded at or before a timestamp. Give exactly one of the two")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export completed successfully",
+                    content = @Content(schema = @Schema(implementation = TranslationExportResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Neither or both of revision and timestamp given, or revision beyond the latest"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "503", description = "Too many exports being built or background work queued on this node")
+    })
+    @GetMapping("/export/as-of")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('EDITOR') or hasRole('VIEWER')")
+    public CompletableFuture<ResponseEntity<TranslationExportResponse>> exportTranslationsAsOf(
+            @Parameter(description = "Locale filter (optional)") @RequestParam(required = false) @Size(max = 10) String locale,
+            @Parameter(description = "Change log revision") @RequestParam(required = false) @Min(0) Long revision,
+            @Parameter(description = "Point in time, e.g. 2024-01-01T10:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime timestamp) {
+        logger.info("Exporting translations for locale: {} as of revision {} / time {}",
+                   locale != null ? locale : "all", revision, timestamp);
+
+        return backgroundLane.submit(() -> translationService.exportTranslationsAsOf(locale, revision, timestamp))
+                .thenApply(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Get translation changes",
+               description = "Reads the change log after the given revision, oldest first. Poll again with the returned nextRevision")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Changes retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = TranslationChangeFeedResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @GetMapping("/changes")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('EDITOR') or hasRole('VIEWER')")
+    public ResponseEntity<TranslationChangeFeedResponse> getChanges(
+            @Parameter(description = "Return changes after this revision") @RequestParam(defaultValue = "0") @Min(0) long since,
+            @Parameter(description = "Locale filter (optional)") @RequestParam(required = false) @Size(max = 10) String locale,
+            @Parameter(description = "Maximum number of changes") @RequestParam(defaultValue = "500") @Min(1) @Max(5000) int limit) {
+        logger.debug("Fetching translation changes since revision {} for locale: {}", since, locale);
+
+        TranslationChangeFeedResponse changes = translationService.getChanges(since, locale, limit);
+        return ResponseEntity.ok(changes);
     }
 
     @Operation(summary = "Delete translation", description = "Deletes a translation by ID")
@@ -198,6 +295,22 @@ public class TranslationController {
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(summary = "Delete locale", description = "Deletes all translations of a locale")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Locale deleted successfully"),
+        @ApiResponse(responseCode = "404", description = "No translations for the locale"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @DeleteMapping("/locale/{locale}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> deleteLocale(
+            @Parameter(description = "Locale code") @PathVariable @Size(max = 10) String locale) {
+        logger.info("Deleting all translations for locale: {}", locale);
+
+        translationService.deleteLocale(locale);
+        return ResponseEntity.noContent().build();
+    }
+
     @Operation(summary = "Get available locales", description = "Retrieves all available locales in the system")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Locales retrieved successfully"),
@@ -212,6 +325,20 @@ public class TranslationController {
         return ResponseEntity.ok(locales);
     }
 
+    @Operation(summary = "Get locale statistics",
+               description = "Translation count, latest change revision and last change time of every locale")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @GetMapping("/locales/stats")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('EDITOR') or hasRole('VIEWER')")
+    public ResponseEntity<List<LocaleStatsDto>> getLocaleStats() {
+        logger.debug("Fetching locale statistics");
+
+        return ResponseEntity.ok(translationService.getLocaleStats());
+    }
+
     @Operation(summary = "Get translation count by locale", description = "Gets the number of translations for a specific locale")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Count retrieved successfully"),
@@ -0,0 +1,79 @@
+package com.digitaltolk.translationservice.api.controller;
+
+import com.digitaltolk.translationservice.api.dto.TranslationChangeFeedResponse;
+import com.digitaltolk.translationservice.service.TranslationChangeLongPoll;
+import com.digitaltolk.translationservice.service.TranslationChangeStream;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/translations")
+@Validated
+@Tag(name = "Translation Changes", description = "Push and long-poll delivery of translation changes")
+public class TranslationStreamController {
+
+    private final TranslationChangeStream changeStream;
+    private final TranslationChangeLongPoll changeLongPoll;
+
+    public TranslationStreamController(TranslationChangeStream changeStream, TranslationChangeLongPoll changeLongPoll) {
+        this.changeStream = changeStream;
+        this.changeLongPoll = changeLongPoll;
+    }
+
+    @Operation(summary = "Stream translation changes",
+               description = "Server-Sent Events stream of committed changes. Emits 'ready' on connect, 'change' per " +
+                             "translation change (event id = revision) and 'resync' when the client fell too far " +
+                             "behind and should reload the export. Reconnects resume from Last-Event-ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Stream opened"),
+        @ApiResponse(responseCode = "503", description = "Subscriber limit reached on this node")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @Parameter(description = "Locales to subscribe to (all when omitted)") @RequestParam(required = false) @Size(max = 50) List<String> locales,
+            @Parameter(description = "Last revision received, sent automatically by EventSource on reconnect")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        Set<String> localeFilter = locales != null ? new HashSet<>(locales) : Set.of();
+        return changeStream.subscribe(localeFilter, lastEventId);
+    }
+
+    @Operation(summary = "Wait for translation changes",
+               description = "Long-poll: returns as soon as changes newer than 'since' commit for the requested locales, " +
+                             "or an empty page when the timeout elapses. Start from the export's revision and " +
+                             "continue with the returned nextRevision")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Changes, or an empty page on timeout",
+                    content = @Content(schema = @Schema(implementation = TranslationChangeFeedResponse.class))),
+        @ApiResponse(responseCode = "503", description = "Waiting request limit reached on this node")
+    })
+    @GetMapping("/changes/wait")
+    public DeferredResult<TranslationChangeFeedResponse> waitForChanges(
+            @Parameter(description = "Last revision the client has applied") @RequestParam @Min(0) long since,
+            @Parameter(description = "Locales to wait for (all when omitted)") @RequestParam(required = false) @Size(max = 50) List<String> locales,
+            @Parameter(description = "Maximum number of changes") @RequestParam(defaultValue = "500") @Min(1) @Max(5000) int limit,
+            @Parameter(description = "Seconds to wait before returning an empty page") @RequestParam(defaultValue = "30") @Min(1) @Max(120) int timeout) {
+        Set<String> localeFilter = locales != null ? new HashSet<>(locales) : Set.of();
+        return changeLongPoll.await(since, localeFilter, limit, timeout * 1000L);
+    }
+}
@@ -0,0 +1,109 @@
+package com.digitaltolk.translationservice.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.Set;
+
+@Schema(description = "One operation of a batch. Which fields are required depends on the type")
+public class BatchOperation {
+
+    public enum Type {
+        GET,
+        CREATE,
+        UPSERT,
+        UPDATE,
+        PATCH,
+        DELETE
+    }
+
+    @NotNull(message = "Operation type is required")
+    @Schema(description = "Operation to run", example = "CREATE", required = true)
+    private Type type;
+
+    @Schema(description = "Translation ID. Required for UPDATE and DELETE; GET takes it instead of key and locale", example = "1")
+    private Long id;
+
+    @Size(max = 500, message = "Translation key must not exceed 500 characters")
+    @Schema(description = "Translation key. Required for CREATE, UPSERT, UPDATE and PATCH", example = "app.login.title")
+    private String key;
+
+    @Size(max = 10, message = "Locale must not exceed 10 characters")
+    @Schema(description = "Locale code. Required with key", example = "en")
+    private String locale;
+
+    @Size(min = 1, max = 5000, message = "Content must be between 1 and 5000 characters")
+    @Schema(description = "Translation content. Required for CREATE, UPSERT and UPDATE", example = "Login")
+    private String content;
+
+    @Valid
+    @Schema(description = "Tags. For PATCH and UPSERT, omitting them leaves the current tags")
+    private Set<TagDto> tags;
+
+    @Schema(description = "Expected current version, for PATCH", example = "3")
+    private Long version;
+
+    public BatchOperation() {}
+
+    public BatchOperation(Type type) {
+        this.type = type;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public String getLocale() {
+        return locale;
+    }
+
+    public void setLocale(String locale) {
+        this.locale = locale;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public Set<TagDto> getTags() {
+        return tags;
+    }
+
+    public void setTags(Set<TagDto> tags) {
+        this.tags = tags;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,75 @@
+package com.digitaltolk.translationservice.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of one batch operation")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchOperationResult {
+
+    @Schema(description = "Position of the operation in the request (0-based)", example = "0")
+    private int index;
+
+    @Schema(description = "Operation type", example = "CREATE")
+    private BatchOperation.Type type;
+
+    @Schema(description = "HTTP status the operation would have had on its own endpoint. "
+            + "424 marks operations of a failed ATOMIC batch that were rolled back or not run", example = "201")
+    private int status;
+
+    @Schema(description = "The translation read or written; absent for DELETE and failures")
+    private TranslationDto translation;
+
+    @Schema(description = "Failure reason", example = "Translation with key 'app.title' and locale 'en' already exists")
+    private String error;
+
+    public BatchOperationResult() {}
+
+    public BatchOperationResult(int index, BatchOperation.Type type, int status, TranslationDto translation, String error) {
+        this.index = index;
+        this.type = type;
+        this.status = status;
+        this.translation = translation;
+        this.error = error;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public BatchOperation.Type getType() {
+        return type;
+    }
+
+    public void setType(BatchOperation.Type type) {
+        this.type = type;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public TranslationDto getTranslation() {
+        return translation;
+    }
+
+    public void setTranslation(TranslationDto translation) {
+        this.translation = translation;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,49 @@
+package com.digitaltolk.translationservice.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+@Schema(description = "Translation operations to run in order")
+public class BatchRequest {
+
+    public enum Mode {
+        ATOMIC,
+        PER_OPERATION
+    }
+
+    @Schema(description = "ATOMIC runs every operation in one transaction and rolls all of them back on the first failure. "
+            + "PER_OPERATION commits each operation on its own and carries on past failures. Defaults to app.batch.default-mode",
+            example = "ATOMIC")
+    private Mode mode;
+
+    @NotEmpty(message = "At least one operation is required")
+    @Valid
+    @Schema(description = "Operations, run in the order given", required = true)
+    private List<BatchOperation> operations;
+
+    public BatchRequest() {}
+
+    public BatchRequest(Mode mode, List<BatchOperation> operations) {
+        this.mode = mode;
+        this.operations = operations;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public List<BatchOperation> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(List<BatchOperation> operations) {
+        this.operations = operations;
+    }
+}
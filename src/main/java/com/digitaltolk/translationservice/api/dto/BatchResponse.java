@@ -0,0 +1,62 @@
+package com.digitaltolk.translationservice.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Outcome of a batch, one result per operation in request order")
+public class BatchResponse {
+
+    @Schema(description = "Mode the batch ran in", example = "ATOMIC")
+    private BatchRequest.Mode mode;
+
+    @Schema(description = "Whether every operation succeeded", example = "true")
+    private boolean succeeded;
+
+    @Schema(description = "Number of operations that failed", example = "0")
+    private int failedCount;
+
+    @Schema(description = "Per-operation results")
+    private List<BatchOperationResult> results;
+
+    public BatchResponse() {}
+
+    public BatchResponse(BatchRequest.Mode mode, List<BatchOperationResult> results) {
+        this.mode = mode;
+        this.results = results;
+        this.failedCount = (int) results.stream().filter(result -> result.getStatus() >= 400).count();
+        this.succeeded = failedCount == 0;
+    }
+
+    public BatchRequest.Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(BatchRequest.Mode mode) {
+        this.mode = mode;
+    }
+
+    public boolean isSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(boolean succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(int failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public List<BatchOperationResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BatchOperationResult> results) {
+        this.results = results;
+    }
+}
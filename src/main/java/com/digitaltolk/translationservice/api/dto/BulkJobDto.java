@@ -0,0 +1,121 @@
+package com.digitaltolk.translationservice.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Bulk job status and progress")
+public class BulkJobDto {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    @Schema(description = "Job ID", example = "4f7c1a52-3f0e-4a7b-9d55-0c1f3e0f6a11")
+    private String id;
+
+    @Schema(description = "Submitted request")
+    private BulkJobRequest request;
+
+    @Schema(description = "Job status", example = "RUNNING")
+    private Status status;
+
+    @Schema(description = "Number of translations matching the filter when the job started", example = "120000")
+    private long totalCount;
+
+    @Schema(description = "Number of translations processed so far", example = "45000")
+    private long processedCount;
+
+    @Schema(description = "Failure reason if the job failed")
+    private String error;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(description = "Submission timestamp", example = "2024-01-01T10:00:00")
+    private LocalDateTime submittedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(description = "Start timestamp", example = "2024-01-01T10:00:01")
+    private LocalDateTime startedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(description = "Completion timestamp", example = "2024-01-01T10:00:30")
+    private LocalDateTime finishedAt;
+
+    public BulkJobDto() {}
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public BulkJobRequest getRequest() {
+        return request;
+    }
+
+    public void setRequest(BulkJobRequest request) {
+        this.request = request;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(long totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    public long getProcessedCount() {
+        return processedCount;
+    }
+
+    public void setProcessedCount(long processedCount) {
+        this.processedCount = processedCount;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(LocalDateTime submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
@@ -0,0 +1,106 @@
+package com.digitaltolk.translationservice.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "Bulk operation over all translations matching a filter")
+public class BulkJobRequest {
+
+    public enum Type {
+        DELETE,
+        ADD_TAG,
+        REMOVE_TAG,
+        MOVE_KEY_PREFIX
+    }
+
+    @NotNull(message = "Job type is required")
+    @Schema(description = "Operation to apply", example = "DELETE", required = true)
+    private Type type;
+
+    @Size(max = 10, message = "Locale must not exceed 10 characters")
+    @Schema(description = "Only translations in this locale", example = "fr")
+    private String locale;
+
+    @Size(max = 500, message = "Key prefix must not exceed 500 characters")
+    @Schema(description = "Only translations whose key starts with this prefix. Required for MOVE_KEY_PREFIX", example = "legacy.")
+    private String keyPrefix;
+
+    @Size(max = 100, message = "Tag name must not exceed 100 characters")
+    @Schema(description = "Only translations carrying this tag", example = "mobile")
+    private String tagName;
+
+    @Size(max = 100, message = "Target tag must not exceed 100 characters")
+    @Schema(description = "Tag to add or remove. Required for ADD_TAG and REMOVE_TAG", example = "deprecated")
+    private String targetTag;
+
+    @Size(max = 500, message = "New key prefix must not exceed 500 characters")
+    @Schema(description = "Replacement for keyPrefix. Required for MOVE_KEY_PREFIX", example = "app.")
+    private String newKeyPrefix;
+
+    public BulkJobRequest() {}
+
+    public BulkJobRequest(Type type) {
+        this.type = type;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public String getLocale() {
+        return locale;
+    }
+
+    public void setLocale(String locale) {
+        this.locale = locale;
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    public void setKeyPrefix(String keyPrefix) {
+        this.keyPrefix = keyPrefix;
+    }
+
+    public String getTagName() {
+        return tagName;
+    }
+
+    public void setTagName(String tagName) {
+        this.tagName = tagName;
+    }
+
+    public String getTargetTag() {
+        return targetTag;
+    }
+
+    public void setTargetTag(String targetTag) {
+        this.targetTag = targetTag;
+    }
+
+    public String getNewKeyPrefix() {
+        return newKeyPrefix;
+    }
+
+    public void setNewKeyPrefix(String newKeyPrefix) {
+        this.newKeyPrefix = newKeyPrefix;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkJobRequest{" +
+                "type=" + type +
+                ", locale='" + locale + '\'' +
+                ", keyPrefix='" + keyPrefix + '\'' +
+                ", tagName='" + tagName + '\'' +
+                ", targetTag='" + targetTag + '\'' +
+                ", newKeyPrefix='" + newKeyPrefix + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,64 @@
+package com.digitaltolk.translationservice.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Translation statistics of one locale")
+public class LocaleStatsDto {
+
+    @Schema(description = "Locale code", example = "en")
+    private String locale;
+
+    @Schema(description = "Number of translations", example = "25000")
+    private long translationCount;
+
+    @Schema(description = "Latest change log revision touching this locale", example = "1042")
+    private long lastRevision;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(description = "Time of the latest change", example = "2024-01-01T10:00:00")
+    private LocalDateTime lastUpdated;
+
+    public LocaleStatsDto() {}
+
+    public LocaleStatsDto(String locale, long translationCount, long lastRevision, LocalDateTime lastUpdated) {
+        this.locale = locale;
+        this.translationCount = translationCount;
+        this.lastRevision = lastRevision;
+        this.lastUpdated = lastUpdated;
+    }
+
+    public String getLocale() {
+        return locale;
+    }
+
+    public void setLocale(String locale) {
+        this.locale = locale;
+    }
+
+    public long getTranslationCount() {
+        return translationCount;
+    }
+
+    public void setTranslationCount(long translationCount) {
+        this.translationCount = translationCount;
+    }
+
+    public long getLastRevision() {
+        return lastRevision;
+    }
+
+    public void setLastRevision(long lastRevision) {
+        this.lastRevision = lastRevision;
+    }
+
+    public LocalDateTime getLastUpdated() {
+        return lastUpdated;
+    }
+
+    public void setLastUpdated(LocalDateTime lastUpdated) {
+        this.lastUpdated = lastUpdated;
+    }
+}
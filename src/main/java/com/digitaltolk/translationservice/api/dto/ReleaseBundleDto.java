@@ -0,0 +1,64 @@
+package com.digitaltolk.translationservice.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "One locale bundle of a release")
+public class ReleaseBundleDto {
+
+    @Schema(description = "Locale code", example = "en")
+    private String locale;
+
+    @Schema(description = "SHA-256 of the bundle JSON, also used as its ETag", example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+    private String hash;
+
+    @Schema(description = "Number of translations in the bundle", example = "1250")
+    private int translationCount;
+
+    @Schema(description = "Uncompressed size in bytes", example = "48213")
+    private int sizeBytes;
+
+    @Schema(description = "Gzip-compressed size in bytes", example = "9120")
+    private int compressedSizeBytes;
+
+    public ReleaseBundleDto() {}
+
+    public String getLocale() {
+        return locale;
+    }
+
+    public void setLocale(String locale) {
+        this.locale = locale;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public void setHash(String hash) {
+        this.hash = hash;
+    }
+
+    public int getTranslationCount() {
+        return translationCount;
+    }
+
+    public void setTranslationCount(int translationCount) {
+        this.translationCount = translationCount;
+    }
+
+    public int getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public void setSizeBytes(int sizeBytes) {
+        this.sizeBytes = sizeBytes;
+    }
+
+    public int getCompressedSizeBytes() {
+        return compressedSizeBytes;
+    }
+
+    public void setCompressedSizeBytes(int compressedSizeBytes) {
+        this.compressedSizeBytes = compressedSizeBytes;
+    }
+}
@@ -0,0 +1,69 @@
+package com.digitaltolk.translationservice.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "Published, immutable translation release")
+public class ReleaseDto {
+
+    @Schema(description = "Content-derived release ID", example = "3a7bd3e2360a3d29eea436fcfb7e44c735d117c42d1c1835420b6b9942dd4f1b")
+    private String id;
+
+    @Schema(description = "Human readable name", example = "ios-4.12.0")
+    private String name;
+
+    @Schema(description = "Change log revision the release was cut at", example = "1042")
+    private Long revision;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(description = "Publication timestamp", example = "2024-01-01T10:00:00")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "Bundles included in the release")
+    private List<ReleaseBundleDto> bundles;
+
+    public ReleaseDto() {}
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(Long revision) {
+        this.revision = revision;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public List<ReleaseBundleDto> getBundles() {
+        return bundles;
+    }
+
+    public void setBundles(List<ReleaseBundleDto> bundles) {
+        this.bundles = bundles;
+    }
+}
@@ -0,0 +1,44 @@
+package com.digitaltolk.translationservice.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Request to publish a release")
+public class ReleaseRequest {
+
+    @Size(max = 200, message = "Name must not exceed 200 characters")
+    @Schema(description = "Optional human readable name", example = "ios-4.12.0")
+    private String name;
+
+    @Size(max = 200, message = "At most 200 locales can be published at once")
+    @Schema(description = "Locales to include (all locales when omitted)", example = "[\"en\", \"fr\"]")
+    private List<@Size(min = 2, max = 10) String> locales;
+
+    public ReleaseRequest() {}
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<String> getLocales() {
+        return locales;
+    }
+
+    public void setLocales(List<String> locales) {
+        this.locales = locales;
+    }
+
+    @Override
+    public String toString() {
+        return "ReleaseRequest{" +
+                "name='" + name + '\'' +
+                ", locales=" + locales +
+                '}';
+    }
+}
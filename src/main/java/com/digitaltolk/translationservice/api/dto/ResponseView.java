@@ -0,0 +1,29 @@
+package com.digitaltolk.translationservice.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Locale;
+
+/**
+ * How much of each translation a listing returns. {@code MINIMAL} is key, locale and content only, read
+ * without the tag query and serialized without the omitted fields.
+ */
+@Schema(description = "Fields returned per translation", enumAsRef = true)
+public enum ResponseView {
+    MINIMAL,
+    FULL;
+
+    /**
+     * @throws IllegalArgumentException if {@code value} is not a view name, in any case
+     */
+    public static ResponseView from(String value) {
+        if (value == null || value.isBlank()) {
+            return FULL;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown view '" + value + "', expected 'minimal' or 'full'");
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.digitaltolk.translationservice.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "A single entry of the translation change log")
+public class TranslationChangeDto {
+
+    @Schema(description = "Global, monotonically increasing revision", example = "1042")
+    private Long revision;
+
+    @Schema(description = "Translation ID", example = "1")
+    private Long translationId;
+
+    @Schema(description = "Translation key", example = "app.login.title")
+    private String key;
+
+    @Schema(description = "Locale code", example = "en")
+    private String locale;
+
+    @Schema(description = "Operation", example = "UPDATE", allowableValues = {"CREATE", "UPDATE", "DELETE"})
+    private String operation;
+
+    @Schema(description = "Content after the change, absent for deletes", example = "Login")
+    private String content;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(description = "Change timestamp", example = "2024-01-01T10:00:00")
+    private LocalDateTime changedAt;
+
+    public TranslationChangeDto() {}
+
+    public Long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(Long revision) {
+        this.revision = revision;
+    }
+
+    public Long getTranslationId() {
+        return translationId;
+    }
+
+    public void setTranslationId(Long translationId) {
+        this.translationId = translationId;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public String getLocale() {
+        return locale;
+    }
+
+    public void setLocale(String locale) {
+        this.locale = locale;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+}
@@ -0,0 +1,63 @@
+package com.digitaltolk.translationservice.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "A page of the translation change log, ordered by revision")
+public class TranslationChangeFeedResponse {
+
+    @Schema(description = "Changes after the requested revision")
+    private List<TranslationChangeDto> changes;
+
+    @Schema(description = "Revision to pass as 'since' on the next request", example = "1042")
+    private long nextRevision;
+
+    @Schema(description = "Latest revision in the change log when the page was read", example = "1100")
+    private long latestRevision;
+
+    @Schema(description = "Whether more changes are available after nextRevision", example = "true")
+    private boolean hasMore;
+
+    public TranslationChangeFeedResponse() {}
+
+    public TranslationChangeFeedResponse(List<TranslationChangeDto> changes, long nextRevision,
+                                         long latestRevision, boolean hasMore) {
+        this.changes = changes;
+        this.nextRevision = nextRevision;
+        this.latestRevision = latestRevision;
+        this.hasMore = hasMore;
+    }
+
+    public List<TranslationChangeDto> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<TranslationChangeDto> changes) {
+        this.changes = changes;
+    }
+
+    public long getNextRevision() {
+        return nextRevision;
+    }
+
+    public void setNextRevision(long nextRevision) {
+        this.nextRevision = nextRevision;
+    }
+
+    public long getLatestRevision() {
+        return latestRevision;
+    }
+
+    public void setLatestRevision(long latestRevision) {
+        this.latestRevision = latestRevision;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -1,6 +1,7 @@
 package com.digitaltolk.translationservice.api.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -9,6 +10,7 @@ import java.time.LocalDateTime;
 import java.util.Set;
 
 @Schema(description = "Translation data transfer object")
+@JsonInclude(JsonInclude.Include.NON_NULL) // Fields left out of a minimal view are omitted, not null
 public class TranslationDto {
 
     @Schema(description = "Translation ID", example = "1")
@@ -36,6 +36,9 @@ public class TranslationExportResponse {
     @Schema(description = "Cache TTL in seconds", example = "300")
     private Long cacheTtl;
 
+    @Schema(description = "Change log revision the export includes; pass as 'since' to the change feed or long-poll", example = "1042")
+    private Long revision;
+
 
     public TranslationExportResponse() {
         this.generatedAt = LocalDateTime.now();
@@ -133,4 +136,12 @@ public class TranslationExportResponse {
     public void setCacheTtl(Long cacheTtl) {
         this.cacheTtl = cacheTtl;
     }
+
+    public Long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(Long revision) {
+        this.revision = revision;
+    }
 }
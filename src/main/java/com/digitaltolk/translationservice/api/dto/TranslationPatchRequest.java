@@ -0,0 +1,52 @@
+package com.digitaltolk.translationservice.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+
+import java.util.Set;
+
+@Schema(description = "Partial translation update. Omitted fields are left unchanged")
+public class TranslationPatchRequest {
+
+    @Size(min = 1, max = 5000, message = "Content must be between 1 and 5000 characters")
+    @Schema(description = "New translation content", example = "Sign in")
+    private String content;
+
+    @Valid
+    @Schema(description = "Replacement tag set. An empty set removes all tags")
+    private Set<TagDto> tags;
+
+    @Schema(description = "Expected current version. The patch is rejected with 409 if it does not match", example = "3")
+    private Long version;
+
+    public TranslationPatchRequest() {}
+
+    public TranslationPatchRequest(String content) {
+        this.content = content;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public Set<TagDto> getTags() {
+        return tags;
+    }
+
+    public void setTags(Set<TagDto> tags) {
+        this.tags = tags;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -37,6 +37,9 @@ public class TranslationSearchRequest {
     @Schema(description = "Sort direction", example = "desc", defaultValue = "desc", allowableValues = {"asc", "desc"})
     private String sortDirection = "desc";
 
+    @Schema(description = "Fields returned per translation", example = "minimal", defaultValue = "full", allowableValues = {"minimal", "full"})
+    private ResponseView view = ResponseView.FULL;
+
     public TranslationSearchRequest() {}
 
     public String getKey() {
@@ -102,4 +105,12 @@ public class TranslationSearchRequest {
     public void setSortDirection(String sortDirection) {
         this.sortDirection = sortDirection;
     }
+
+    public ResponseView getView() {
+        return view;
+    }
+
+    public void setView(ResponseView view) {
+        this.view = view;
+    }
 }
@@ -0,0 +1,52 @@
+package com.digitaltolk.translationservice.api.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes timestamps as the DTOs' {@code @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")} does, digit by digit into
+ * a caller's buffer instead of through a {@link DateTimeFormatter}.
+ */
+final class JsonTimestamps {
+
+    static final int LENGTH = 19;
+
+    private static final DateTimeFormatter FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private JsonTimestamps() {
+    }
+
+    static char[] newBuffer() {
+        return new char[LENGTH];
+    }
+
+    static void write(JsonGenerator gen, LocalDateTime time, char[] buffer) throws IOException {
+        int year = time.getYear();
+        if (year < 1 || year > 9999) {
+            // Years the pattern writes with a sign or as year of era
+            gen.writeString(time.format(FORMAT));
+            return;
+        }
+        digits(buffer, 0, year / 100);
+        digits(buffer, 2, year % 100);
+        buffer[4] = '-';
+        digits(buffer, 5, time.getMonthValue());
+        buffer[7] = '-';
+        digits(buffer, 8, time.getDayOfMonth());
+        buffer[10] = 'T';
+        digits(buffer, 11, time.getHour());
+        buffer[13] = ':';
+        digits(buffer, 14, time.getMinute());
+        buffer[16] = ':';
+        digits(buffer, 17, time.getSecond());
+        gen.writeString(buffer, 0, LENGTH);
+    }
+
+    private static void digits(char[] buffer, int offset, int value) {
+        buffer[offset] = (char) ('0' + value / 10);
+        buffer[offset + 1] = (char) ('0' + value % 10);
+    }
+}
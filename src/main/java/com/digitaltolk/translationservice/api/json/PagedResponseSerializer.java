@@ -0,0 +1,74 @@
+package com.digitaltolk.translationservice.api.json;
+
+import com.digitaltolk.translationservice.api.dto.PagedResponse;
+import com.digitaltolk.translationservice.api.dto.TranslationDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * {@link PagedResponse} of any element type. Translations go straight to their serializer; other elements are
+ * looked up as Jackson would.
+ */
+final class PagedResponseSerializer extends StdSerializer<PagedResponse<?>> {
+
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString PAGE = new SerializedString("page");
+    private static final SerializedString SIZE = new SerializedString("size");
+    private static final SerializedString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializedString TOTAL_PAGES = new SerializedString("totalPages");
+    private static final SerializedString FIRST = new SerializedString("first");
+    private static final SerializedString LAST = new SerializedString("last");
+    private static final SerializedString NUMBER_OF_ELEMENTS = new SerializedString("numberOfElements");
+    private static final SerializedString EMPTY = new SerializedString("empty");
+
+    private final TranslationDtoSerializer translationSerializer;
+
+    @SuppressWarnings("unchecked")
+    PagedResponseSerializer(TranslationDtoSerializer translationSerializer) {
+        super((Class<PagedResponse<?>>) (Class<?>) PagedResponse.class);
+        this.translationSerializer = translationSerializer;
+    }
+
+    @Override
+    public void serialize(PagedResponse<?> page, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(page);
+        gen.writeFieldName(CONTENT);
+        List<?> content = page.getContent();
+        if (content == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartArray(content, content.size());
+            for (Object item : content) {
+                if (item instanceof TranslationDto translation) {
+                    translationSerializer.serialize(translation, gen, provider);
+                } else {
+                    provider.defaultSerializeValue(item, gen);
+                }
+            }
+            gen.writeEndArray();
+        }
+
+        gen.writeFieldName(PAGE);
+        gen.writeNumber(page.getPage());
+        gen.writeFieldName(SIZE);
+        gen.writeNumber(page.getSize());
+        gen.writeFieldName(TOTAL_ELEMENTS);
+        gen.writeNumber(page.getTotalElements());
+        gen.writeFieldName(TOTAL_PAGES);
+        gen.writeNumber(page.getTotalPages());
+        gen.writeFieldName(FIRST);
+        gen.writeBoolean(page.isFirst());
+        gen.writeFieldName(LAST);
+        gen.writeBoolean(page.isLast());
+        gen.writeFieldName(NUMBER_OF_ELEMENTS);
+        gen.writeNumber(page.getNumberOfElements());
+        gen.writeFieldName(EMPTY);
+        gen.writeBoolean(page.isEmpty());
+        gen.writeEndObject();
+    }
+}
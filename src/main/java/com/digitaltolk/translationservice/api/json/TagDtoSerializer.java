@@ -0,0 +1,64 @@
+package com.digitaltolk.translationservice.api.json;
+
+import com.digitaltolk.translationservice.api.dto.TagDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * {@link TagDto} with every field written, nulls included, in declaration order.
+ */
+final class TagDtoSerializer extends StdSerializer<TagDto> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString TRANSLATION_COUNT = new SerializedString("translationCount");
+
+    TagDtoSerializer() {
+        super(TagDto.class);
+    }
+
+    @Override
+    public void serialize(TagDto tag, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(tag);
+        gen.writeFieldName(ID);
+        writeNumber(gen, tag.getId());
+        gen.writeFieldName(NAME);
+        gen.writeString(tag.getName());
+        gen.writeFieldName(DESCRIPTION);
+        gen.writeString(tag.getDescription());
+
+        char[] buffer = JsonTimestamps.newBuffer();
+        gen.writeFieldName(CREATED_AT);
+        writeTimestamp(gen, tag.getCreatedAt(), buffer);
+        gen.writeFieldName(UPDATED_AT);
+        writeTimestamp(gen, tag.getUpdatedAt(), buffer);
+
+        gen.writeFieldName(TRANSLATION_COUNT);
+        writeNumber(gen, tag.getTranslationCount());
+        gen.writeEndObject();
+    }
+
+    static void writeNumber(JsonGenerator gen, Long value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    private static void writeTimestamp(JsonGenerator gen, LocalDateTime time, char[] buffer) throws IOException {
+        if (time == null) {
+            gen.writeNull();
+        } else {
+            JsonTimestamps.write(gen, time, buffer);
+        }
+    }
+}
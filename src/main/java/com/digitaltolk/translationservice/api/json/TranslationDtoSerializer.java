@@ -0,0 +1,133 @@
+package com.digitaltolk.translationservice.api.json;
+
+import com.digitaltolk.translationservice.api.dto.TagDto;
+import com.digitaltolk.translationservice.api.dto.TranslationDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * {@link TranslationDto} with null fields left out, as its {@code @JsonInclude(NON_NULL)} asks.
+ * <p>
+ * Content is what most of a translation's JSON is, and a translation's content only changes with its version, so
+ * the escaped UTF-8 of recently written content is kept per id and version and copied out as is. A hit is still
+ * compared with the DTO's content, so a DTO mapped before its version was bumped cannot be answered with stale
+ * text. Content with characters outside the BMP is not kept, as it would encode differently from the generator.
+ */
+final class TranslationDtoSerializer extends StdSerializer<TranslationDto> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString KEY = new SerializedString("key");
+    private static final SerializedString LOCALE = new SerializedString("locale");
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString TAGS = new SerializedString("tags");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString VERSION = new SerializedString("version");
+
+    private final TagDtoSerializer tagSerializer;
+    private final Cache<ContentVersion, SerializedString> encodedContent;
+
+    /**
+     * @param contentCacheSize contents kept encoded; 0 encodes every time
+     */
+    TranslationDtoSerializer(TagDtoSerializer tagSerializer, long contentCacheSize) {
+        super(TranslationDto.class);
+        this.tagSerializer = tagSerializer;
+        this.encodedContent = contentCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(contentCacheSize).build()
+                : null;
+    }
+
+    @Override
+    public void serialize(TranslationDto dto, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(dto);
+        if (dto.getId() != null) {
+            gen.writeFieldName(ID);
+            gen.writeNumber(dto.getId().longValue());
+        }
+        if (dto.getKey() != null) {
+            gen.writeFieldName(KEY);
+            gen.writeString(dto.getKey());
+        }
+        if (dto.getLocale() != null) {
+            gen.writeFieldName(LOCALE);
+            gen.writeString(dto.getLocale());
+        }
+        if (dto.getContent() != null) {
+            gen.writeFieldName(CONTENT);
+            writeContent(dto, gen);
+        }
+
+        Set<TagDto> tags = dto.getTags();
+        if (tags != null) {
+            gen.writeFieldName(TAGS);
+            gen.writeStartArray(tags, tags.size());
+            for (TagDto tag : tags) {
+                if (tag == null) {
+                    gen.writeNull();
+                } else {
+                    tagSerializer.serialize(tag, gen, provider);
+                }
+            }
+            gen.writeEndArray();
+        }
+
+        if (dto.getCreatedAt() != null || dto.getUpdatedAt() != null) {
+            char[] buffer = JsonTimestamps.newBuffer();
+            if (dto.getCreatedAt() != null) {
+                gen.writeFieldName(CREATED_AT);
+                JsonTimestamps.write(gen, dto.getCreatedAt(), buffer);
+            }
+            if (dto.getUpdatedAt() != null) {
+                gen.writeFieldName(UPDATED_AT);
+                JsonTimestamps.write(gen, dto.getUpdatedAt(), buffer);
+            }
+        }
+        if (dto.getVersion() != null) {
+            gen.writeFieldName(VERSION);
+            gen.writeNumber(dto.getVersion().longValue());
+        }
+        gen.writeEndObject();
+    }
+
+    private void writeContent(TranslationDto dto, JsonGenerator gen) throws IOException {
+        String content = dto.getContent();
+        if (encodedContent == null || dto.getId() == null || dto.getVersion() == null) {
+            gen.writeString(content);
+            return;
+        }
+
+        ContentVersion contentVersion = new ContentVersion(dto.getId(), dto.getVersion());
+        SerializedString encoded = encodedContent.getIfPresent(contentVersion);
+        if (encoded == null || !encoded.getValue().equals(content)) {
+            if (hasSurrogates(content)) {
+                // The generator escapes surrogate pairs, where SerializedString would write them as raw UTF-8
+                gen.writeString(content);
+                return;
+            }
+            // Encoded on first write and kept by the SerializedString itself
+            encoded = new SerializedString(content);
+            encodedContent.put(contentVersion, encoded);
+        }
+        gen.writeString(encoded);
+    }
+
+    private static boolean hasSurrogates(String content) {
+        for (int i = 0; i < content.length(); i++) {
+            if (Character.isSurrogate(content.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record ContentVersion(long id, long version) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.digitaltolk.translationservice.api.json;
+
+import com.digitaltolk.translationservice.api.dto.TranslationExportResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link TranslationExportResponse} written as a straight walk over its maps, without a serializer lookup per
+ * value.
+ */
+final class TranslationExportResponseSerializer extends StdSerializer<TranslationExportResponse> {
+
+    private static final SerializedString TRANSLATIONS = new SerializedString("translations");
+    private static final SerializedString LOCALES = new SerializedString("locales");
+    private static final SerializedString TOTAL_KEYS = new SerializedString("totalKeys");
+    private static final SerializedString TOTAL_TRANSLATIONS = new SerializedString("totalTranslations");
+    private static final SerializedString GENERATED_AT = new SerializedString("generatedAt");
+    private static final SerializedString VERSION = new SerializedString("version");
+    private static final SerializedString CDN_URL = new SerializedString("cdnUrl");
+    private static final SerializedString CACHE_TTL = new SerializedString("cacheTtl");
+    private static final SerializedString REVISION = new SerializedString("revision");
+
+    TranslationExportResponseSerializer() {
+        super(TranslationExportResponse.class);
+    }
+
+    @Override
+    public void serialize(TranslationExportResponse export, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(export);
+        gen.writeFieldName(TRANSLATIONS);
+        Map<String, Map<String, String>> translations = export.getTranslations();
+        if (translations == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartObject(translations);
+            for (Map.Entry<String, Map<String, String>> locale : translations.entrySet()) {
+                gen.writeFieldName(locale.getKey());
+                Map<String, String> byKey = locale.getValue();
+                if (byKey == null) {
+                    gen.writeNull();
+                    continue;
+                }
+                gen.writeStartObject(byKey);
+                for (Map.Entry<String, String> translation : byKey.entrySet()) {
+                    gen.writeFieldName(translation.getKey());
+                    gen.writeString(translation.getValue());
+                }
+                gen.writeEndObject();
+            }
+            gen.writeEndObject();
+        }
+
+        gen.writeFieldName(LOCALES);
+        Set<String> locales = export.getLocales();
+        if (locales == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartArray(locales, locales.size());
+            for (String locale : locales) {
+                gen.writeString(locale);
+            }
+            gen.writeEndArray();
+        }
+
+        gen.writeFieldName(TOTAL_KEYS);
+        gen.writeNumber(export.getTotalKeys());
+        gen.writeFieldName(TOTAL_TRANSLATIONS);
+        gen.writeNumber(export.getTotalTranslations());
+        gen.writeFieldName(GENERATED_AT);
+        if (export.getGeneratedAt() == null) {
+            gen.writeNull();
+        } else {
+            JsonTimestamps.write(gen, export.getGeneratedAt(), JsonTimestamps.newBuffer());
+        }
+        gen.writeFieldName(VERSION);
+        gen.writeString(export.getVersion());
+        gen.writeFieldName(CDN_URL);
+        gen.writeString(export.getCdnUrl());
+        gen.writeFieldName(CACHE_TTL);
+        TagDtoSerializer.writeNumber(gen, export.getCacheTtl());
+        gen.writeFieldName(REVISION);
+        TagDtoSerializer.writeNumber(gen, export.getRevision());
+        gen.writeEndObject();
+    }
+}
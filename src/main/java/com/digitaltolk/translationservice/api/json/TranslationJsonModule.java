@@ -0,0 +1,24 @@
+package com.digitaltolk.translationservice.api.json;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Hand-written serializers for the payloads the API writes most: translations and their tags, pages of them, and
+ * exports. Each writes exactly what Jackson's bean serialization would, using pre-encoded field names and no
+ * per-field reflection or formatter.
+ */
+public final class TranslationJsonModule extends SimpleModule {
+
+    /**
+     * @param contentCacheSize translation contents kept as escaped UTF-8, keyed by id and version; 0 disables
+     */
+    public TranslationJsonModule(long contentCacheSize) {
+        super("TranslationJsonModule");
+        TagDtoSerializer tagSerializer = new TagDtoSerializer();
+        TranslationDtoSerializer translationSerializer = new TranslationDtoSerializer(tagSerializer, contentCacheSize);
+        addSerializer(tagSerializer);
+        addSerializer(translationSerializer);
+        addSerializer(new PagedResponseSerializer(translationSerializer));
+        addSerializer(new TranslationExportResponseSerializer());
+    }
+}
@@ -2,15 +2,21 @@ package com.digitaltolk.translationservice.api.mapper;
 
 import com.digitaltolk.translationservice.api.dto.TagDto;
 import com.digitaltolk.translationservice.domain.entity.Tag;
+import com.digitaltolk.translationservice.domain.projection.TranslationTag;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
 public class TagMapper {
 
+    /**
+     * Maps the tag without its translation count, which would need every translation of the tag; see
+     * {@link #toDtoList(List, Map)}.
+     */
     public TagDto toDto(Tag tag) {
         if (tag == null) {
             return null;
@@ -23,10 +29,21 @@ public class TagMapper {
         dto.setCreatedAt(tag.getCreatedAt());
         dto.setUpdatedAt(tag.getUpdatedAt());
 
-        if (tag.getTranslations() != null) {
-            dto.setTranslationCount((long) tag.getTranslations().size());
+        return dto;
+    }
+
+    public TagDto toDto(TranslationTag tag) {
+        if (tag == null) {
+            return null;
         }
 
+        TagDto dto = new TagDto();
+        dto.setId(tag.tagId());
+        dto.setName(tag.name());
+        dto.setDescription(tag.description());
+        dto.setCreatedAt(tag.createdAt());
+        dto.setUpdatedAt(tag.updatedAt());
+
         return dto;
     }
 
@@ -62,6 +79,23 @@ public class TagMapper {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Maps the tags with their translation counts, keyed by tag id. Tags missing from the map have none.
+     */
+    public List<TagDto> toDtoList(List<Tag> tags, Map<Long, Long> translationCounts) {
+        if (tags == null) {
+            return null;
+        }
+
+        return tags.stream()
+                .map(tag -> {
+                    TagDto dto = toDto(tag);
+                    dto.setTranslationCount(translationCounts.getOrDefault(tag.getId(), 0L));
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+
 
     public Set<TagDto> toDtoSet(Set<Tag> tags) {
         if (tags == null) {
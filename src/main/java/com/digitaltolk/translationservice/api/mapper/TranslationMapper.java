@@ -1,10 +1,22 @@
 package com.digitaltolk.translationservice.api.mapper;
 
+import com.digitaltolk.translationservice.api.dto.LocaleStatsDto;
+import com.digitaltolk.translationservice.api.dto.TagDto;
+import com.digitaltolk.translationservice.api.dto.TranslationChangeDto;
 import com.digitaltolk.translationservice.api.dto.TranslationDto;
+import com.digitaltolk.translationservice.domain.entity.LocaleStats;
 import com.digitaltolk.translationservice.domain.entity.Translation;
+import com.digitaltolk.translationservice.domain.entity.TranslationChange;
+import com.digitaltolk.translationservice.domain.projection.LocalizedContent;
+import com.digitaltolk.translationservice.domain.projection.TranslationTag;
+import com.digitaltolk.translationservice.domain.projection.TranslationView;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
@@ -39,6 +51,10 @@ public class TranslationMapper {
         return dto;
     }
 
+    /**
+     * Maps everything but the key, which has to be resolved to a shared
+     * {@link com.digitaltolk.translationservice.domain.entity.TranslationKey} by the caller.
+     */
     public Translation toEntity(TranslationDto dto) {
         if (dto == null) {
             return null;
@@ -46,7 +62,6 @@ public class TranslationMapper {
 
         Translation translation = new Translation();
         translation.setId(dto.getId());
-        translation.setKey(dto.getKey());
         translation.setLocale(dto.getLocale());
         translation.setContent(dto.getContent());
         translation.setVersion(dto.getVersion());
@@ -60,12 +75,14 @@ public class TranslationMapper {
         return translation;
     }
 
+    /**
+     * Updates everything but the key; see {@link #toEntity}.
+     */
     public void updateEntity(Translation translation, TranslationDto dto) {
         if (translation == null || dto == null) {
             return;
         }
 
-        translation.setKey(dto.getKey());
         translation.setLocale(dto.getLocale());
         translation.setContent(dto.getContent());
 
@@ -87,6 +104,42 @@ public class TranslationMapper {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Maps a page of projected translations, attaching the tags fetched for them by translation id.
+     */
+    public List<TranslationDto> toDtoList(List<TranslationView> views, List<TranslationTag> tags) {
+        if (views == null) {
+            return null;
+        }
+
+        Map<Long, Set<TagDto>> tagsByTranslation = new HashMap<>();
+        for (TranslationTag tag : tags) {
+            tagsByTranslation.computeIfAbsent(tag.translationId(), id -> new HashSet<>()).add(tagMapper.toDto(tag));
+        }
+
+        return views.stream()
+                .map(view -> toDto(view, tagsByTranslation.getOrDefault(view.id(), new HashSet<>())))
+                .collect(Collectors.toList());
+    }
+
+    public TranslationDto toDto(TranslationView view, Set<TagDto> tags) {
+        if (view == null) {
+            return null;
+        }
+
+        TranslationDto dto = new TranslationDto();
+        dto.setId(view.id());
+        dto.setKey(view.key());
+        dto.setLocale(view.locale());
+        dto.setContent(view.content());
+        dto.setCreatedAt(view.createdAt());
+        dto.setUpdatedAt(view.updatedAt());
+        dto.setVersion(view.version());
+        dto.setTags(tags);
+
+        return dto;
+    }
+
     public List<Translation> toEntityList(List<TranslationDto> dtos) {
         if (dtos == null) {
             return null;
@@ -109,4 +162,38 @@ public class TranslationMapper {
 
         return dto;
     }
+
+    public TranslationDto toMinimalDto(LocalizedContent content) {
+        if (content == null) {
+            return null;
+        }
+
+        return new TranslationDto(content.key(), content.locale(), content.content());
+    }
+
+    public TranslationChangeDto toChangeDto(TranslationChange change) {
+        if (change == null) {
+            return null;
+        }
+
+        TranslationChangeDto dto = new TranslationChangeDto();
+        dto.setRevision(change.getRevision());
+        dto.setTranslationId(change.getTranslationId());
+        dto.setKey(change.getKey());
+        dto.setLocale(change.getLocale());
+        dto.setOperation(change.getOperation().name());
+        dto.setContent(change.getContent());
+        dto.setChangedAt(change.getChangedAt());
+
+        return dto;
+    }
+
+    public LocaleStatsDto toLocaleStatsDto(LocaleStats stats) {
+        if (stats == null) {
+            return null;
+        }
+
+        return new LocaleStatsDto(stats.getLocale(), stats.getTranslationCount(),
+                stats.getLastRevision(), stats.getLastUpdated());
+    }
 }
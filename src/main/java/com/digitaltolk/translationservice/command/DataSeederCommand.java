@@ -2,7 +2,11 @@ package com.digitaltolk.translationservice.command;
 
 import com.digitaltolk.translationservice.domain.entity.Tag;
 import com.digitaltolk.translationservice.domain.entity.Translation;
+import com.digitaltolk.translationservice.domain.entity.TranslationKey;
+import com.digitaltolk.translationservice.domain.repository.LocaleStatsRepository;
 import com.digitaltolk.translationservice.domain.repository.TagRepository;
+import com.digitaltolk.translationservice.domain.repository.TranslationChangeRepository;
+import com.digitaltolk.translationservice.domain.repository.TranslationKeyRepository;
 import com.digitaltolk.translationservice.domain.repository.TranslationRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,7 +26,10 @@ public class DataSeederCommand implements CommandLineRunner {
     private static final Logger logger = LoggerFactory.getLogger(DataSeederCommand.class);
 
     private final TranslationRepository translationRepository;
+    private final TranslationKeyRepository translationKeyRepository;
     private final TagRepository tagRepository;
+    private final LocaleStatsRepository localeStatsRepository;
+    private final TranslationChangeRepository translationChangeRepository;
 
     private static final String[] LOCALES = {"en", "fr", "es", "de", "it", "pt", "ru", "zh", "ja", "ko"};
     private static final String[] CONTEXTS = {"app", "auth", "nav", "error", "validation", "form", "button", "label",
@@ -36,9 +43,16 @@ public class DataSeederCommand implements CommandLineRunner {
             "text", "description", "placeholder", "tooltip", "hint", "warning", "success", "info", "loading",
             "empty", "nodata", "required", "optional"};
 
-    public DataSeederCommand(TranslationRepository translationRepository, TagRepository tagRepository) {
+    public DataSeederCommand(TranslationRepository translationRepository,
+                             TranslationKeyRepository translationKeyRepository,
+                             TagRepository tagRepository,
+                             LocaleStatsRepository localeStatsRepository,
+                             TranslationChangeRepository translationChangeRepository) {
         this.translationRepository = translationRepository;
+        this.translationKeyRepository = translationKeyRepository;
         this.tagRepository = tagRepository;
+        this.localeStatsRepository = localeStatsRepository;
+        this.translationChangeRepository = translationChangeRepository;
     }
 
     @Override
@@ -59,6 +73,7 @@ public class DataSeederCommand implements CommandLineRunner {
 
         for (int batch = 0; batch < batches; batch++) {
             List<Translation> translations = generateTranslationBatch(batchSize, existingTags);
+            translationKeyRepository.saveAll(translations.stream().map(Translation::getTranslationKey).toList());
             translationRepository.saveAll(translations);
 
             if ((batch + 1) % 10 == 0) {
@@ -66,6 +81,10 @@ public class DataSeederCommand implements CommandLineRunner {
             }
         }
 
+        // Seeded rows bypass the change log, which otherwise keeps the locale statistics and history up to date
+        localeStatsRepository.rebuild();
+        translationChangeRepository.recordHistoryBaseline();
+
         long endTime = System.currentTimeMillis();
         logger.info("Data seeding completed in {} ms", (endTime - startTime));
         logStatistics();
@@ -79,7 +98,7 @@ public class DataSeederCommand implements CommandLineRunner {
             String locale = LOCALES[ThreadLocalRandom.current().nextInt(LOCALES.length)];
             String content = generateTranslationContent(key, locale);
 
-            Translation translation = new Translation(key, locale, content);
+            Translation translation = new Translation(new TranslationKey(key), locale, content);
 
             if (!availableTags.isEmpty()) {
                 int tagCount = ThreadLocalRandom.current().nextInt(4);
@@ -17,10 +17,19 @@ import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactor
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 
+import java.util.Set;
+
+/**
+ * The Redis caches behind {@code @Cacheable}. Statistics are kept per cache and, as the caches are created at
+ * startup, published by actuator as {@code cache.gets} (hits and misses), {@code cache.puts} and
+ * {@code cache.removals} (evictions) tagged with the cache name.
+ */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    static final Set<String> CACHE_NAMES = Set.of("translations", "export", "locales");
+
     @Value("${spring.redis.host}")
     private String redisHost;
 
@@ -55,6 +64,8 @@ public class CacheConfig {
 
         return RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(cacheConfig)
+                .initialCacheNames(CACHE_NAMES)
+                .enableStatistics()
                 .build();
     }
 }
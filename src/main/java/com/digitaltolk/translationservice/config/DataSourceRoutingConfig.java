@@ -0,0 +1,91 @@
+package com.digitaltolk.translationservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read/write splitting, enabled with {@code app.datasource.replicas.enabled}. The primary pool is configured
+ * from {@code spring.datasource} as usual; each replica URL gets its own, smaller pool with the same
+ * credentials unless overridden. When disabled, Spring Boot's single auto-configured pool is used unchanged.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Value("${app.datasource.replicas.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${app.datasource.replicas.username:${spring.datasource.username}}")
+    private String replicaUsername;
+
+    @Value("${app.datasource.replicas.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${app.datasource.replicas.maximum-pool-size:10}")
+    private int replicaPoolSize;
+
+    @Value("${app.datasource.replicas.connection-timeout:2000}")
+    private long replicaConnectionTimeout;
+
+    @Value("${app.datasource.replicas.health-check-interval:5000}")
+    private long healthCheckInterval;
+
+    @Value("${app.datasource.replicas.max-lag:10000}")
+    private long maxLag;
+
+    @Value("${app.datasource.replicas.sticky-window:5000}")
+    private long stickyWindow;
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(replicaUsername);
+            replica.setPassword(replicaPassword);
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setConnectionTimeout(replicaConnectionTimeout);
+            replica.setReadOnly(true);
+            // A replica that is down at startup must not stop the service; the health check picks it up later
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+        }
+
+        return new ReadWriteRoutingDataSource(primary, replicas, new ReadYourWritesTracker(stickyWindow),
+                healthCheckInterval, 2, maxLag);
+    }
+
+    /**
+     * The data source used by JPA, Flyway and everything else. Connections are only fetched from the router on
+     * the first statement, after the transaction's read-only flag has been set.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
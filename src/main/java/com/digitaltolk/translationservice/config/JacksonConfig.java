@@ -0,0 +1,20 @@
+package com.digitaltolk.translationservice.config;
+
+import com.digitaltolk.translationservice.api.json.TranslationJsonModule;
+import com.fasterxml.jackson.databind.Module;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Adds the hand-written DTO serializers to the ObjectMapper Spring Boot builds for HTTP responses. The Redis
+ * cache has its own mapper, with type information, and keeps Jackson's bean serialization.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module translationJsonModule(@Value("${app.json.content-cache-size:20000}") long contentCacheSize) {
+        return new TranslationJsonModule(contentCacheSize);
+    }
+}
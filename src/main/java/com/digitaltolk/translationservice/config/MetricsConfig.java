@@ -0,0 +1,101 @@
+package com.digitaltolk.translationservice.config;
+
+import com.digitaltolk.translationservice.api.dto.TranslationDto;
+import com.digitaltolk.translationservice.api.dto.TranslationSearchRequest;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Timers for {@code @Timed} service classes, tagged by class, method and locale.
+ * <p>
+ * The locale is taken from a {@code locale} argument or from the translation or search request passed in;
+ * {@value #ALL_LOCALES} stands for a blank locale, which covers every locale, and {@value #NO_LOCALE} for
+ * methods without one, since Prometheus needs the same tag keys on all series of a metric. Locales come from
+ * requests, so only the first {@code app.metrics.max-locale-tags} distinct locales seen on {@code translation.}
+ * metrics get their own tag value; any further locale is recorded as {@value #OTHER_LOCALES}, so junk locales
+ * can neither grow the registry without bound nor make real ones go unrecorded.
+ */
+@Configuration
+public class MetricsConfig {
+
+    public static final String LOCALE_TAG = "locale";
+    public static final String ALL_LOCALES = "all";
+    public static final String NO_LOCALE = "none";
+    public static final String OTHER_LOCALES = "other";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry, MetricsConfig::methodTags);
+    }
+
+    @Bean
+    public MeterFilter localeTagLimit(@Value("${app.metrics.max-locale-tags:200}") int maxLocaleTags) {
+        Set<String> locales = ConcurrentHashMap.newKeySet();
+        return new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                String locale = id.getTag(LOCALE_TAG);
+                if (locale == null || !id.getName().startsWith("translation.") || isKnown(locale)) {
+                    return id;
+                }
+                return id.withTag(Tag.of(LOCALE_TAG, OTHER_LOCALES));
+            }
+
+            private boolean isKnown(String locale) {
+                if (locales.contains(locale) || ALL_LOCALES.equals(locale) || NO_LOCALE.equals(locale)
+                        || OTHER_LOCALES.equals(locale)) {
+                    return true;
+                }
+                synchronized (locales) {
+                    if (locales.size() < maxLocaleTags) {
+                        locales.add(locale);
+                    }
+                    return locales.contains(locale);
+                }
+            }
+        };
+    }
+
+    /**
+     * The {@code locale} tag value for {@code locale}, where a blank locale means all of them.
+     */
+    public static String localeTag(String locale) {
+        return locale != null && !locale.trim().isEmpty() ? locale : ALL_LOCALES;
+    }
+
+    static Tags methodTags(ProceedingJoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        return Tags.of(
+                "class", signature.getDeclaringType().getSimpleName(),
+                "method", signature.getName(),
+                LOCALE_TAG, locale(signature, joinPoint.getArgs()));
+    }
+
+    private static String locale(MethodSignature signature, Object[] args) {
+        String[] names = signature.getParameterNames();
+        for (int i = 0; i < args.length; i++) {
+            if (names != null && LOCALE_TAG.equals(names[i]) && signature.getParameterTypes()[i] == String.class) {
+                return localeTag((String) args[i]);
+            }
+            if (args[i] instanceof TranslationDto translation) {
+                return localeTag(translation.getLocale());
+            }
+            if (args[i] instanceof TranslationSearchRequest search) {
+                return localeTag(search.getLocale());
+            }
+        }
+        return NO_LOCALE;
+    }
+}
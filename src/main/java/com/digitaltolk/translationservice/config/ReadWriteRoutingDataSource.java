@@ -0,0 +1,244 @@
+package com.digitaltolk.translationservice.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Sends read-only transactions to the read replicas, round-robin over the replicas that passed their last
+ * health check, and everything else to the primary.
+ * <p>
+ * The route is decided when a connection is first needed, so this data source must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: by the time the first statement
+ * runs, the transaction's read-only flag is known. Work outside a transaction, reads by a client that wrote
+ * within the {@link ReadYourWritesTracker} window, and reads that asked for it with {@link #usePrimary()}
+ * always use the primary. A replica that fails to hand
+ * out a connection, or whose replay lag exceeds the configured maximum, is out of rotation until the next
+ * successful health check.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    static final String PRIMARY = "primary";
+
+    private static final String WRITE_TRACKED = ReadWriteRoutingDataSource.class.getName() + ".WRITE_TRACKED";
+    private static final String PRIMARY_REQUESTED = ReadWriteRoutingDataSource.class.getName() + ".PRIMARY_REQUESTED";
+
+    /**
+     * Replay lag in milliseconds; zero on a primary or when everything received has been replayed.
+     */
+    private static final String REPLICATION_LAG_QUERY = """
+    SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END
+    """;
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final ReadYourWritesTracker writesTracker;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    // A lock rather than synchronized: request threads log while holding it, which would pin a virtual thread
+    private final Lock rotationLock = new ReentrantLock();
+    private final ScheduledExecutorService healthChecker;
+    private final int validationTimeoutSeconds;
+    private final long maxLagMillis;
+
+    private volatile List<String> healthyReplicas;
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, ReadYourWritesTracker writesTracker,
+                                      long healthCheckIntervalMillis, int validationTimeoutSeconds, long maxLagMillis) {
+        this.primary = primary;
+        this.writesTracker = writesTracker;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.maxLagMillis = maxLagMillis;
+
+        Map<String, DataSource> replicaKeys = new HashMap<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            replicaKeys.put("replica-" + i, replicas.get(i));
+        }
+        this.replicas = Map.copyOf(replicaKeys);
+
+        Map<Object, Object> targets = new HashMap<>(this.replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+
+        this.healthyReplicas = List.of();
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checkReplicas();
+        this.healthChecker.scheduleWithFixedDelay(this::checkReplicas,
+                healthCheckIntervalMillis, healthCheckIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+
+        String client = writesTracker.currentClient();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite(client);
+            return PRIMARY;
+        }
+        if (TransactionSynchronizationManager.hasResource(PRIMARY_REQUESTED) || writesTracker.isPinnedToPrimary(client)) {
+            return PRIMARY;
+        }
+
+        List<String> healthy = healthyReplicas;
+        if (healthy.isEmpty()) {
+            return PRIMARY;
+        }
+        return healthy.get(Math.floorMod(nextReplica.getAndIncrement(), healthy.size()));
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String key = (String) determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+        try {
+            return replicas.get(key).getConnection();
+        } catch (SQLException e) {
+            markUnhealthy(key, e);
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * Keeps the current read-only transaction on the primary, for reads that fill the shared caches: a lagging
+     * replica would put rows a write has just replaced back into the cache after the write evicted them, for
+     * the whole TTL. Must be called before the transaction's first statement; does nothing outside one.
+     */
+    public static void usePrimary() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(PRIMARY_REQUESTED)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(PRIMARY_REQUESTED, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PRIMARY_REQUESTED);
+            }
+        });
+    }
+
+    /**
+     * Keys of the replicas currently in rotation.
+     */
+    public List<String> getHealthyReplicas() {
+        return healthyReplicas;
+    }
+
+    private void trackWrite(String client) {
+        if (client == null || !writesTracker.isEnabled()
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_TRACKED)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WRITE_TRACKED, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                writesTracker.recordWrite(client);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_TRACKED);
+            }
+        });
+    }
+
+    private void markUnhealthy(String key, SQLException e) {
+        rotationLock.lock();
+        try {
+            if (healthyReplicas.contains(key)) {
+                List<String> healthy = new ArrayList<>(healthyReplicas);
+                healthy.remove(key);
+                healthyReplicas = List.copyOf(healthy);
+                logger.warn("Read replica {} taken out of rotation: {}", key, e.getMessage());
+            }
+        } finally {
+            rotationLock.unlock();
+        }
+    }
+
+    private void checkReplicas() {
+        List<String> healthy = new ArrayList<>();
+        for (Map.Entry<String, DataSource> replica : replicas.entrySet()) {
+            try (Connection connection = replica.getValue().getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(validationTimeoutSeconds);
+                try (ResultSet lag = statement.executeQuery(REPLICATION_LAG_QUERY)) {
+                    long lagMillis = lag.next() ? lag.getLong(1) : 0;
+                    if (lagMillis <= maxLagMillis) {
+                        healthy.add(replica.getKey());
+                    } else {
+                        logger.debug("Read replica {} is {} ms behind the primary", replica.getKey(), lagMillis);
+                    }
+                }
+            } catch (SQLException e) {
+                logger.debug("Read replica {} failed its health check: {}", replica.getKey(), e.getMessage());
+            }
+        }
+        healthy.sort(null);
+
+        rotationLock.lock();
+        try {
+            if (!healthy.equals(healthyReplicas)) {
+                logger.info("Read replicas in rotation: {} of {} {}", healthy.size(), replicas.size(), healthy);
+            }
+            healthyReplicas = List.copyOf(healthy);
+        } finally {
+            rotationLock.unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        healthChecker.shutdownNow();
+        for (DataSource dataSource : replicas.values()) {
+            closeQuietly(dataSource);
+        }
+        closeQuietly(primary);
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close data source", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.digitaltolk.translationservice.config;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers which clients committed a write recently, so their reads can stay on the primary until the
+ * replicas have had time to catch up.
+ * <p>
+ * Clients are identified by the authenticated user name; anonymous requests are never pinned. Tracking is per
+ * node, which is enough when the load balancer keeps a client on the same node for the length of the window.
+ */
+public class ReadYourWritesTracker {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(long windowMillis) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+    }
+
+    public boolean isEnabled() {
+        return windowNanos > 0;
+    }
+
+    /**
+     * The client of the current request, or {@code null} when it is anonymous or there is no request.
+     */
+    public String currentClient() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    public void recordWrite(String client) {
+        if (client == null || !isEnabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        lastWrites.put(client, now);
+        if (lastWrites.size() > PURGE_THRESHOLD) {
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+        }
+    }
+
+    /**
+     * Whether the client wrote within the window and should therefore read from the primary.
+     */
+    public boolean isPinnedToPrimary(String client) {
+        if (client == null || !isEnabled()) {
+            return false;
+        }
+        Long writtenAt = lastWrites.get(client);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt < windowNanos) {
+            return true;
+        }
+        lastWrites.remove(client, writtenAt);
+        return false;
+    }
+}
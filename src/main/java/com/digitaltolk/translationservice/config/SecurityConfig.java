@@ -1,6 +1,8 @@
 package com.digitaltolk.translationservice.config;
 
+import com.digitaltolk.translationservice.security.ExportRateLimitFilter;
 import com.digitaltolk.translationservice.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,12 +27,15 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final ExportRateLimitFilter exportRateLimitFilter;
 
     @Value("${app.cors.allowed-origins}")
     private String allowedOrigins;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
+                          ExportRateLimitFilter exportRateLimitFilter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.exportRateLimitFilter = exportRateLimitFilter;
     }
 
     @Bean
@@ -43,13 +48,18 @@ public class SecurityConfig {
                 .requestMatchers("/auth/**").permitAll()
                 .requestMatchers("/swagger-ui/**", "/api-docs/**", "/swagger-ui.html").permitAll()
                 .requestMatchers("/actuator/health", "/actuator/info").permitAll()
+                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                 .requestMatchers(HttpMethod.GET, "/translations/export").permitAll()
+                .requestMatchers(HttpMethod.GET, "/translations/stream").permitAll()
+                .requestMatchers(HttpMethod.GET, "/translations/changes/wait").permitAll()
+                .requestMatchers(HttpMethod.GET, "/translations/releases/*/export").permitAll()
                 
                 .requestMatchers(HttpMethod.DELETE, "/translations/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.DELETE, "/tags/**").hasRole("ADMIN")
                 
                 .requestMatchers(HttpMethod.POST, "/translations/**").hasAnyRole("ADMIN", "EDITOR")
                 .requestMatchers(HttpMethod.PUT, "/translations/**").hasAnyRole("ADMIN", "EDITOR")
+                .requestMatchers(HttpMethod.PATCH, "/translations/**").hasAnyRole("ADMIN", "EDITOR")
                 .requestMatchers(HttpMethod.POST, "/tags/**").hasAnyRole("ADMIN", "EDITOR")
                 .requestMatchers(HttpMethod.PUT, "/tags/**").hasAnyRole("ADMIN", "EDITOR")
                 
@@ -58,6 +68,7 @@ public class SecurityConfig {
                 
                 .anyRequest().authenticated()
             )
+            .addFilterBefore(exportRateLimitFilter, UsernamePasswordAuthenticationFilter.class)
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
@@ -70,7 +81,7 @@ public class SecurityConfig {
         List<String> origins = Arrays.asList(allowedOrigins.split(","));
         configuration.setAllowedOrigins(origins);
         
-        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
@@ -0,0 +1,47 @@
+package com.digitaltolk.translationservice.domain.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Per-locale statistics, maintained by the database from the change log (see the V7 migration). A locale
+ * whose translations were all deleted keeps its row with a count of zero.
+ */
+@Entity
+@Immutable
+@Table(name = "locale_stats")
+public class LocaleStats {
+
+    @Id
+    @Column(name = "locale", length = 10)
+    private String locale;
+
+    @Column(name = "translation_count", nullable = false)
+    private long translationCount;
+
+    @Column(name = "last_revision", nullable = false)
+    private long lastRevision;
+
+    @Column(name = "last_updated", nullable = false)
+    private LocalDateTime lastUpdated;
+
+    public LocaleStats() {}
+
+    public String getLocale() {
+        return locale;
+    }
+
+    public long getTranslationCount() {
+        return translationCount;
+    }
+
+    public long getLastRevision() {
+        return lastRevision;
+    }
+
+    public LocalDateTime getLastUpdated() {
+        return lastUpdated;
+    }
+}
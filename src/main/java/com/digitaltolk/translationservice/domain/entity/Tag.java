@@ -3,6 +3,8 @@ package com.digitaltolk.translationservice.domain.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -17,6 +19,8 @@ import java.util.Set;
     @Index(name = "idx_tag_name", columnList = "name", unique = true)
 })
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tags")
 public class Tag {
 
     @Id
@@ -32,6 +36,11 @@ public class Tag {
     @Column(name = "description", length = 500)
     private String description;
 
+    /**
+     * Inverse side of {@link Translation#getTags()}. A popular tag has a very large number of translations, so
+     * this is never initialized to count them: see {@link
+     * com.digitaltolk.translationservice.domain.repository.TagRepository#countTranslationsByTagIds}.
+     */
     @ManyToMany(mappedBy = "tags", fetch = FetchType.LAZY)
     private Set<Translation> translations = new HashSet<>();
 
@@ -3,6 +3,8 @@ package com.digitaltolk.translationservice.domain.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -14,9 +16,8 @@ import java.util.Set;
 
 @Entity
 @Table(name = "translations", indexes = {
-    @Index(name = "idx_translation_key", columnList = "translation_key"),
     @Index(name = "idx_locale", columnList = "locale"),
-    @Index(name = "idx_key_locale", columnList = "translation_key, locale", unique = true),
+    @Index(name = "idx_key_locale", columnList = "key_id, locale", unique = true),
     @Index(name = "idx_content_fulltext", columnList = "content"),
     @Index(name = "idx_updated_at", columnList = "updated_at")
 })
@@ -27,10 +28,9 @@ public class Translation {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @NotBlank
-    @Size(max = 500)
-    @Column(name = "translation_key", nullable = false, length = 500)
-    private String key;
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "key_id", nullable = false)
+    private TranslationKey translationKey;
 
     @NotBlank
     @Size(max = 10)
@@ -42,6 +42,7 @@ public class Translation {
     @Column(name = "content", nullable = false, length = 5000)
     private String content;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "translation-tags")
     @ManyToMany(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinTable(
         name = "translation_tags",
@@ -67,8 +68,8 @@ public class Translation {
 
     public Translation() {}
 
-    public Translation(String key, String locale, String content) {
-        this.key = key;
+    public Translation(TranslationKey translationKey, String locale, String content) {
+        this.translationKey = translationKey;
         this.locale = locale;
         this.content = content;
     }
@@ -81,12 +82,16 @@ public class Translation {
         this.id = id;
     }
 
-    public String getKey() {
-        return key;
+    public TranslationKey getTranslationKey() {
+        return translationKey;
     }
 
-    public void setKey(String key) {
-        this.key = key;
+    public void setTranslationKey(TranslationKey translationKey) {
+        this.translationKey = translationKey;
+    }
+
+    public String getKey() {
+        return translationKey != null ? translationKey.getKey() : null;
     }
 
     public String getLocale() {
@@ -113,14 +118,16 @@ public class Translation {
         this.tags = tags;
     }
 
+    /**
+     * Adds the tag on the owning side only; updating {@link Tag#getTranslations()} would load every
+     * translation of the tag.
+     */
     public void addTag(Tag tag) {
         this.tags.add(tag);
-        tag.getTranslations().add(this);
     }
 
     public void removeTag(Tag tag) {
         this.tags.remove(tag);
-        tag.getTranslations().remove(this);
     }
 
     public LocalDateTime getCreatedAt() {
@@ -152,19 +159,19 @@ public class Translation {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Translation that = (Translation) o;
-        return Objects.equals(key, that.key) && Objects.equals(locale, that.locale);
+        return Objects.equals(getKey(), that.getKey()) && Objects.equals(locale, that.locale);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(key, locale);
+        return Objects.hash(getKey(), locale);
     }
 
     @Override
     public String toString() {
         return "Translation{" +
                 "id=" + id +
-                ", key='" + key + '\'' +
+                ", key='" + getKey() + '\'' +
                 ", locale='" + locale + '\'' +
                 ", content='" + content + '\'' +
                 ", createdAt=" + createdAt +
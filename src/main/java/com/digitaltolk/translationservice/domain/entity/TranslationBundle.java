@@ -0,0 +1,94 @@
+package com.digitaltolk.translationservice.domain.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable, content-addressed export of one locale. Rows are only ever inserted (see
+ * {@link com.digitaltolk.translationservice.domain.repository.TranslationBundleRepository#insertIfAbsent}).
+ */
+@Entity
+@Table(name = "translation_bundles")
+public class TranslationBundle {
+
+    @Id
+    @Column(name = "hash", length = 64)
+    private String hash;
+
+    @Column(name = "locale", nullable = false, length = 10)
+    private String locale;
+
+    @Column(name = "translation_count", nullable = false)
+    private int translationCount;
+
+    @Column(name = "size_bytes", nullable = false)
+    private int sizeBytes;
+
+    @Column(name = "compressed_size_bytes", nullable = false)
+    private int compressedSizeBytes;
+
+    @Column(name = "content", nullable = false)
+    private byte[] content;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public TranslationBundle() {}
+
+    public String getHash() {
+        return hash;
+    }
+
+    public void setHash(String hash) {
+        this.hash = hash;
+    }
+
+    public String getLocale() {
+        return locale;
+    }
+
+    public void setLocale(String locale) {
+        this.locale = locale;
+    }
+
+    public int getTranslationCount() {
+        return translationCount;
+    }
+
+    public void setTranslationCount(int translationCount) {
+        this.translationCount = translationCount;
+    }
+
+    public int getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public void setSizeBytes(int sizeBytes) {
+        this.sizeBytes = sizeBytes;
+    }
+
+    public int getCompressedSizeBytes() {
+        return compressedSizeBytes;
+    }
+
+    public void setCompressedSizeBytes(int compressedSizeBytes) {
+        this.compressedSizeBytes = compressedSizeBytes;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+
+    public void setContent(byte[] content) {
+        this.content = content;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,115 @@
+package com.digitaltolk.translationservice.domain.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the translation change log. Rows are append-only and written with native inserts by
+ * {@link com.digitaltolk.translationservice.service.TranslationChangeLog}; the entity is only used for reads.
+ */
+@Entity
+@Table(name = "translation_changes", indexes = {
+    @Index(name = "idx_translation_changes_locale_revision", columnList = "locale, revision"),
+    @Index(name = "idx_translation_changes_changed_at", columnList = "changed_at")
+})
+public class TranslationChange {
+
+    public enum Operation {
+        CREATE,
+        UPDATE,
+        DELETE
+    }
+
+    @Id
+    @Column(name = "revision")
+    private Long revision;
+
+    @Column(name = "translation_id", nullable = false)
+    private Long translationId;
+
+    @Column(name = "translation_key", nullable = false, length = 500)
+    private String key;
+
+    @Column(name = "locale", nullable = false, length = 10)
+    private String locale;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, length = 10)
+    private Operation operation;
+
+    @Column(name = "content", length = 5000)
+    private String content;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    public TranslationChange() {}
+
+    public Long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(Long revision) {
+        this.revision = revision;
+    }
+
+    public Long getTranslationId() {
+        return translationId;
+    }
+
+    public void setTranslationId(Long translationId) {
+        this.translationId = translationId;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public String getLocale() {
+        return locale;
+    }
+
+    public void setLocale(String locale) {
+        this.locale = locale;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public void setOperation(Operation operation) {
+        this.operation = operation;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "TranslationChange{" +
+                "revision=" + revision +
+                ", translationId=" + translationId +
+                ", key='" + key + '\'' +
+                ", locale='" + locale + '\'' +
+                ", operation=" + operation +
+                '}';
+    }
+}
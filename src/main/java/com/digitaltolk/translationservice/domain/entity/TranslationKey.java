@@ -0,0 +1,80 @@
+package com.digitaltolk.translationservice.domain.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * A translation key, stored once and shared by the translations of every locale. Keys are immutable: renaming
+ * a translation points it at another key (see
+ * {@link com.digitaltolk.translationservice.domain.repository.TranslationKeyRepository#insertIfAbsent}).
+ */
+@Entity
+@Immutable
+@Table(name = "translation_keys")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "translation-keys")
+public class TranslationKey {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "translation_key", nullable = false, unique = true, length = 500)
+    private String key;
+
+    /**
+     * First dot-separated segment of the key, computed by the database.
+     */
+    @Column(name = "namespace", length = 100, insertable = false, updatable = false)
+    private String namespace;
+
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public TranslationKey() {}
+
+    public TranslationKey(String key) {
+        this.key = key;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TranslationKey that)) return false;
+        return Objects.equals(getKey(), that.getKey());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getKey());
+    }
+
+    @Override
+    public String toString() {
+        return "TranslationKey{" +
+                "id=" + id +
+                ", key='" + key + '\'' +
+                '}';
+    }
+}
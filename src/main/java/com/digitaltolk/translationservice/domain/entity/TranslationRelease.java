@@ -0,0 +1,79 @@
+package com.digitaltolk.translationservice.domain.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A published, immutable set of locale bundles. The id is derived from the bundle hashes, so it identifies the
+ * content rather than the publish event.
+ */
+@Entity
+@Table(name = "translation_releases", indexes = {
+    @Index(name = "idx_translation_releases_created_at", columnList = "created_at")
+})
+public class TranslationRelease {
+
+    @Id
+    @Column(name = "id", length = 64)
+    private String id;
+
+    @Column(name = "name", length = 200)
+    private String name;
+
+    @Column(name = "revision", nullable = false)
+    private Long revision;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "translation_release_bundles", joinColumns = @JoinColumn(name = "release_id"))
+    @MapKeyColumn(name = "locale", length = 10)
+    @Column(name = "bundle_hash", nullable = false, length = 64)
+    private Map<String, String> bundleHashes = new TreeMap<>();
+
+    public TranslationRelease() {}
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(Long revision) {
+        this.revision = revision;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Map<String, String> getBundleHashes() {
+        return bundleHashes;
+    }
+
+    public void setBundleHashes(Map<String, String> bundleHashes) {
+        this.bundleHashes = bundleHashes;
+    }
+}
@@ -0,0 +1,7 @@
+package com.digitaltolk.translationservice.domain.projection;
+
+/**
+ * Bundle metadata, read without loading the compressed content.
+ */
+public record BundleInfo(String hash, String locale, int translationCount, int sizeBytes, int compressedSizeBytes) {
+}
@@ -0,0 +1,7 @@
+package com.digitaltolk.translationservice.domain.projection;
+
+/**
+ * Locale, key and content of a translation, for exports across locales and minimal listings.
+ */
+public record LocalizedContent(String locale, String key, String content) {
+}
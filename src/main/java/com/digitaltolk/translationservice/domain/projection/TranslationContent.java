@@ -0,0 +1,7 @@
+package com.digitaltolk.translationservice.domain.projection;
+
+/**
+ * Key and content of a translation, for exports that need nothing else from the row.
+ */
+public record TranslationContent(String key, String content) {
+}
@@ -0,0 +1,7 @@
+package com.digitaltolk.translationservice.domain.projection;
+
+/**
+ * Identity and current version of a translation row, read without hydrating the entity.
+ */
+public record TranslationRef(Long id, Long version) {
+}
@@ -0,0 +1,10 @@
+package com.digitaltolk.translationservice.domain.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * A tag of a translation, fetched for a whole page of {@link TranslationView}s at once.
+ */
+public record TranslationTag(Long translationId, Long tagId, String name, String description,
+                             LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,10 @@
+package com.digitaltolk.translationservice.domain.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns of a translation returned by listing and search, read without hydrating the entity.
+ */
+public record TranslationView(Long id, String key, String locale, String content,
+                              LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+}
@@ -0,0 +1,29 @@
+package com.digitaltolk.translationservice.domain.repository;
+
+import com.digitaltolk.translationservice.domain.entity.LocaleStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LocaleStatsRepository extends JpaRepository<LocaleStats, String> {
+
+    @Query("SELECT s FROM LocaleStats s WHERE s.translationCount > 0 ORDER BY s.locale")
+    List<LocaleStats> findActive();
+
+    @Query("SELECT s.locale FROM LocaleStats s WHERE s.translationCount > 0 ORDER BY s.locale")
+    List<String> findActiveLocales();
+
+    @Query("SELECT s.translationCount FROM LocaleStats s WHERE s.locale = :locale")
+    Optional<Long> findTranslationCount(@Param("locale") String locale);
+
+    /**
+     * Recomputes all statistics from the tables, for writes that bypassed the change log.
+     */
+    @Query(value = "SELECT 1 FROM rebuild_locale_stats()", nativeQuery = true)
+    Integer rebuild();
+}
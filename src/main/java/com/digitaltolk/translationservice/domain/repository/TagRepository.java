@@ -1,13 +1,17 @@
 package com.digitaltolk.translationservice.domain.repository;
 
 import com.digitaltolk.translationservice.domain.entity.Tag;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -15,13 +19,25 @@ import java.util.Set;
 @Repository
 public interface TagRepository extends JpaRepository<Tag, Long> {
 
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "tag-lookups")
+    })
     Optional<Tag> findByName(String name);
 
 
     @Query("SELECT t FROM Tag t WHERE LOWER(t.name) LIKE LOWER(CONCAT('%', :namePattern, '%')) ORDER BY t.name")
     Page<Tag> findByNameContainingIgnoreCase(@Param("namePattern") String namePattern, Pageable pageable);
 
-    @Query("SELECT DISTINCT t FROM Tag t JOIN t.translations tr WHERE tr.key = :translationKey")
+    @Query("SELECT DISTINCT t FROM Tag t JOIN t.translations tr WHERE tr.translationKey.key = :translationKey")
     List<Tag> findByTranslationKey(@Param("translationKey") String translationKey);
 
+    /**
+     * Number of translations of each given tag as {@code [tagId, count]} rows, counted on
+     * {@code translation_tags} alone. Tags without translations have no row.
+     */
+    @Query(value = "SELECT tag_id, COUNT(*) FROM translation_tags WHERE tag_id IN (:tagIds) GROUP BY tag_id",
+            nativeQuery = true)
+    List<Object[]> countTranslationsByTagIds(@Param("tagIds") Collection<Long> tagIds);
+
 }
@@ -0,0 +1,44 @@
+package com.digitaltolk.translationservice.domain.repository;
+
+import com.digitaltolk.translationservice.domain.entity.TranslationBundle;
+import com.digitaltolk.translationservice.domain.projection.BundleInfo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TranslationBundleRepository extends JpaRepository<TranslationBundle, String> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "translation_bundles"))
+    @Query(value = """
+    INSERT INTO translation_bundles (hash, locale, translation_count, size_bytes, compressed_size_bytes, content, created_at)
+    VALUES (:hash, :locale, :translationCount, :sizeBytes, :compressedSizeBytes, :content, CURRENT_TIMESTAMP)
+    ON CONFLICT (hash) DO NOTHING
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("hash") String hash,
+                       @Param("locale") String locale,
+                       @Param("translationCount") int translationCount,
+                       @Param("sizeBytes") int sizeBytes,
+                       @Param("compressedSizeBytes") int compressedSizeBytes,
+                       @Param("content") byte[] content);
+
+    @Query("""
+    SELECT new com.digitaltolk.translationservice.domain.projection.BundleInfo(
+        b.hash, b.locale, b.translationCount, b.sizeBytes, b.compressedSizeBytes)
+    FROM TranslationBundle b WHERE b.hash IN :hashes
+    """)
+    List<BundleInfo> findInfoByHashIn(@Param("hashes") Collection<String> hashes);
+
+    @Query("SELECT b.content FROM TranslationBundle b WHERE b.hash = :hash")
+    Optional<byte[]> findContentByHash(@Param("hash") String hash);
+}
@@ -0,0 +1,160 @@
+package com.digitaltolk.translationservice.domain.repository;
+
+import com.digitaltolk.translationservice.domain.entity.TranslationChange;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TranslationChangeRepository extends JpaRepository<TranslationChange, Long> {
+
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:lockKey)", nativeQuery = true)
+    Integer acquireAppendLock(@Param("lockKey") long lockKey);
+
+    /**
+     * Queues a notification on {@code channel}; Postgres delivers it to listeners only if the transaction commits.
+     * Returns the latest revision handed out, which under the append lock is the caller's last append.
+     */
+    @Query(value = "SELECT s.last_value FROM translation_changes_revision_seq s, pg_notify(:channel, '')",
+           nativeQuery = true)
+    Long notifyCommit(@Param("channel") String channel);
+
+    /**
+     * Appends one change per array position, in array order. The arrays must all have the same length.
+     * <p>
+     * {@code changed_at} is the time of the append, not the transaction's start: appends run under the append
+     * lock, so their times follow revision order, which {@link #findRevisionAt} relies on. The same goes for
+     * {@link #appendDeletedTranslations}.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "translation_changes"))
+    @Query(value = """
+    INSERT INTO translation_changes (translation_id, translation_key, locale, operation, content, changed_at)
+    SELECT c.translation_id, c.translation_key, c.locale, c.operation, c.content, clock_timestamp()
+    FROM unnest(CAST(:translationIds AS BIGINT[]), CAST(:keys AS VARCHAR[]), CAST(:locales AS VARCHAR[]),
+                CAST(:operations AS VARCHAR[]), CAST(:contents AS VARCHAR[]))
+         WITH ORDINALITY AS c(translation_id, translation_key, locale, operation, content, position)
+    ORDER BY c.position
+    """, nativeQuery = true)
+    int appendAll(@Param("translationIds") Long[] translationIds,
+                  @Param("keys") String[] keys,
+                  @Param("locales") String[] locales,
+                  @Param("operations") String[] operations,
+                  @Param("contents") String[] contents);
+
+    /**
+     * Id, key, locale and content of each existing translation in {@code ids}, in id order.
+     */
+    @Query(value = """
+    SELECT t.id, k.translation_key, t.locale, t.content
+    FROM translations t JOIN translation_keys k ON k.id = t.key_id WHERE t.id IN (:ids)
+    ORDER BY t.id
+    """, nativeQuery = true)
+    List<Object[]> findLoggedFields(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Copies id and key of every translation of {@code locale} into the transaction's
+     * {@code deleted_translations} table, so their deletions can be appended once the rows are gone.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "deleted_translations"))
+    @Query(value = """
+    CREATE TEMPORARY TABLE deleted_translations (translation_id BIGINT, translation_key VARCHAR(500), locale VARCHAR(10))
+    ON COMMIT DROP
+    """, nativeQuery = true)
+    int createDeletedTranslations();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "deleted_translations"))
+    @Query(value = """
+    INSERT INTO deleted_translations (translation_id, translation_key, locale)
+    SELECT t.id, k.translation_key, t.locale
+    FROM translations t JOIN translation_keys k ON k.id = t.key_id WHERE t.locale = :locale
+    """, nativeQuery = true)
+    int copyToDeletedTranslations(@Param("locale") String locale);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "translation_changes"))
+    @Query(value = """
+    INSERT INTO translation_changes (translation_id, translation_key, locale, operation, content, changed_at)
+    SELECT d.translation_id, d.translation_key, d.locale, 'DELETE', NULL, clock_timestamp()
+    FROM deleted_translations d
+    ORDER BY d.translation_id
+    """, nativeQuery = true)
+    int appendDeletedTranslations();
+
+    @Query("""
+    SELECT c FROM TranslationChange c
+    WHERE c.revision > :since
+    AND (:locale IS NULL OR c.locale = :locale)
+    ORDER BY c.revision
+    """)
+    List<TranslationChange> findSince(@Param("since") long since, @Param("locale") String locale, Pageable pageable);
+
+    @Query("""
+    SELECT c FROM TranslationChange c
+    WHERE c.revision > :since
+    AND c.locale IN :locales
+    ORDER BY c.revision
+    """)
+    List<TranslationChange> findSinceInLocales(@Param("since") long since,
+                                               @Param("locales") Collection<String> locales,
+                                               Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(c.revision), 0) FROM TranslationChange c")
+    long findLatestRevision();
+
+    /**
+     * Latest revision recorded at or before {@code at}, or 0 if there is none.
+     */
+    @Query("SELECT COALESCE(MAX(c.revision), 0) FROM TranslationChange c WHERE c.changedAt <= :at")
+    long findRevisionAt(@Param("at") LocalDateTime at);
+
+    /**
+     * Content of every translation of {@code locale} as of {@code revision}, as {@code [locale, key, content]}
+     * rows. Reads {@code translation_history} in one backward pass over its primary key, keeping the newest
+     * entry per key at or below the revision and dropping keys whose newest entry is a delete.
+     */
+    @Query(value = """
+    SELECT h.locale, k.translation_key, h.content
+    FROM (
+        SELECT DISTINCT ON (locale, key_id) locale, key_id, content
+        FROM translation_history
+        WHERE locale = :locale AND revision <= :revision
+        ORDER BY locale DESC, key_id DESC, revision DESC
+    ) h JOIN translation_keys k ON k.id = h.key_id
+    WHERE h.content IS NOT NULL
+    """, nativeQuery = true)
+    List<Object[]> findContentAsOf(@Param("locale") String locale, @Param("revision") long revision);
+
+    /**
+     * Like {@link #findContentAsOf}, for all locales.
+     */
+    @Query(value = """
+    SELECT h.locale, k.translation_key, h.content
+    FROM (
+        SELECT DISTINCT ON (locale, key_id) locale, key_id, content
+        FROM translation_history
+        WHERE revision <= :revision
+        ORDER BY locale DESC, key_id DESC, revision DESC
+    ) h JOIN translation_keys k ON k.id = h.key_id
+    WHERE h.content IS NOT NULL
+    """, nativeQuery = true)
+    List<Object[]> findAllContentAsOf(@Param("revision") long revision);
+
+    /**
+     * Records history for translations written outside the change log (see the V8 migration).
+     */
+    @Query(value = "SELECT 1 FROM record_translation_history_baseline()", nativeQuery = true)
+    Integer recordHistoryBaseline();
+}
@@ -0,0 +1,52 @@
+package com.digitaltolk.translationservice.domain.repository;
+
+import com.digitaltolk.translationservice.domain.entity.TranslationKey;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface TranslationKeyRepository extends JpaRepository<TranslationKey, Long> {
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "key-lookups")
+    })
+    @Query("SELECT k FROM TranslationKey k WHERE k.key = :key")
+    Optional<TranslationKey> findByKey(@Param("key") String key);
+
+    /**
+     * Inserts the key unless it exists. A concurrent insert of the same key waits for the other transaction
+     * and then does nothing, so a following {@link #findByKey} always finds the row.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "translation_keys"))
+    @Query(value = "INSERT INTO translation_keys (translation_key) VALUES (:key) ON CONFLICT (translation_key) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("key") String key);
+
+    /**
+     * Inserts the keys the given translations would have after replacing the first {@code suffixStart - 1}
+     * characters of their key with {@code newPrefix}.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "translation_keys"))
+    @Query(value = """
+    INSERT INTO translation_keys (translation_key)
+    SELECT DISTINCT :newPrefix || substr(k.translation_key, :suffixStart)
+    FROM translations t JOIN translation_keys k ON k.id = t.key_id
+    WHERE t.id IN (:ids)
+    ON CONFLICT (translation_key) DO NOTHING
+    """, nativeQuery = true)
+    int insertPrefixReplacements(@Param("ids") Collection<Long> ids,
+                                 @Param("newPrefix") String newPrefix,
+                                 @Param("suffixStart") int suffixStart);
+}
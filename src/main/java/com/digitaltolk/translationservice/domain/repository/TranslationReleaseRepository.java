@@ -0,0 +1,41 @@
+package com.digitaltolk.translationservice.domain.repository;
+
+import com.digitaltolk.translationservice.domain.entity.TranslationRelease;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TranslationReleaseRepository extends JpaRepository<TranslationRelease, String> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "translation_releases"))
+    @Query(value = """
+    INSERT INTO translation_releases (id, name, revision, created_at)
+    VALUES (:id, :name, :revision, CURRENT_TIMESTAMP)
+    ON CONFLICT (id) DO NOTHING
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") String id, @Param("name") String name, @Param("revision") long revision);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "translation_release_bundles"))
+    @Query(value = """
+    INSERT INTO translation_release_bundles (release_id, locale, bundle_hash)
+    VALUES (:releaseId, :locale, :bundleHash)
+    ON CONFLICT DO NOTHING
+    """, nativeQuery = true)
+    int insertBundleLink(@Param("releaseId") String releaseId,
+                         @Param("locale") String locale,
+                         @Param("bundleHash") String bundleHash);
+
+    @Query(value = "SELECT r FROM TranslationRelease r ORDER BY r.createdAt DESC",
+           countQuery = "SELECT COUNT(r) FROM TranslationRelease r")
+    Page<TranslationRelease> findLatest(Pageable pageable);
+}
@@ -1,49 +1,117 @@
 package com.digitaltolk.translationservice.domain.repository;
 
 import com.digitaltolk.translationservice.domain.entity.Translation;
+import com.digitaltolk.translationservice.domain.projection.LocalizedContent;
+import com.digitaltolk.translationservice.domain.projection.TranslationContent;
+import com.digitaltolk.translationservice.domain.projection.TranslationRef;
+import com.digitaltolk.translationservice.domain.projection.TranslationTag;
+import com.digitaltolk.translationservice.domain.projection.TranslationView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TranslationRepository extends JpaRepository<Translation, Long> {
 
-    @Query("SELECT t FROM Translation t WHERE t.key = :key AND t.locale = :locale")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "translation-lookups")
+    })
+    @Query("SELECT t FROM Translation t JOIN FETCH t.translationKey k WHERE k.key = :key AND t.locale = :locale")
     Optional<Translation> findByKeyAndLocale(@Param("key") String key, @Param("locale") String locale);
 
-    @Query("SELECT t FROM Translation t WHERE t.locale = :locale ORDER BY t.key")
-    Page<Translation> findByLocale(@Param("locale") String locale, Pageable pageable);
+    @Query(value = """
+    SELECT new com.digitaltolk.translationservice.domain.projection.TranslationView(t.id, k.key, t.locale, t.content, t.createdAt, t.updatedAt, t.version)
+    FROM Translation t JOIN t.translationKey k WHERE t.locale = :locale ORDER BY k.key
+    """, countQuery = "SELECT COUNT(t) FROM Translation t WHERE t.locale = :locale")
+    Page<TranslationView> findByLocale(@Param("locale") String locale, Pageable pageable);
 
-    @Query("SELECT t FROM Translation t WHERE t.key LIKE :keyPattern ORDER BY t.key, t.locale")
+    @Query(value = """
+    SELECT new com.digitaltolk.translationservice.domain.projection.LocalizedContent(t.locale, k.key, t.content)
+    FROM Translation t JOIN t.translationKey k WHERE t.locale = :locale ORDER BY k.key
+    """, countQuery = "SELECT COUNT(t) FROM Translation t WHERE t.locale = :locale")
+    Page<LocalizedContent> findContentPageByLocale(@Param("locale") String locale, Pageable pageable);
+
+    @Query(value = "SELECT t FROM Translation t JOIN FETCH t.translationKey k WHERE k.key LIKE :keyPattern ORDER BY k.key, t.locale",
+            countQuery = "SELECT COUNT(t) FROM Translation t JOIN t.translationKey k WHERE k.key LIKE :keyPattern")
     Page<Translation> findByKeyContaining(@Param("keyPattern") String keyPattern, Pageable pageable);
 
-    @Query("SELECT t FROM Translation t WHERE LOWER(t.content) LIKE LOWER(CONCAT('%', :searchTerm, '%')) ORDER BY t.updatedAt DESC")
+    @Query(value = "SELECT t FROM Translation t JOIN FETCH t.translationKey WHERE LOWER(t.content) LIKE LOWER(CONCAT('%', :searchTerm, '%')) ORDER BY t.updatedAt DESC",
+            countQuery = "SELECT COUNT(t) FROM Translation t WHERE LOWER(t.content) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     Page<Translation> findByContentContainingIgnoreCase(@Param("searchTerm") String searchTerm, Pageable pageable);
 
-    @Query("SELECT DISTINCT t FROM Translation t JOIN t.tags tag WHERE tag.name = :tagName ORDER BY t.key, t.locale")
+    @Query(value = """
+    SELECT t FROM Translation t JOIN FETCH t.translationKey k
+    WHERE EXISTS (SELECT 1 FROM t.tags tag WHERE tag.name = :tagName)
+    ORDER BY k.key, t.locale
+    """, countQuery = "SELECT COUNT(t) FROM Translation t WHERE EXISTS (SELECT 1 FROM t.tags tag WHERE tag.name = :tagName)")
     Page<Translation> findByTagName(@Param("tagName") String tagName, Pageable pageable);
 
-    @Query("SELECT DISTINCT t FROM Translation t JOIN t.tags tag WHERE tag.name IN :tagNames ORDER BY t.key, t.locale")
+    @Query(value = """
+    SELECT t FROM Translation t JOIN FETCH t.translationKey k
+    WHERE EXISTS (SELECT 1 FROM t.tags tag WHERE tag.name IN :tagNames)
+    ORDER BY k.key, t.locale
+    """, countQuery = "SELECT COUNT(t) FROM Translation t WHERE EXISTS (SELECT 1 FROM t.tags tag WHERE tag.name IN :tagNames)")
     Page<Translation> findByTagNames(@Param("tagNames") List<String> tagNames, Pageable pageable);
 
-    @Query("""
-    SELECT DISTINCT t FROM Translation t 
-    LEFT JOIN t.tags tag 
-    WHERE (:keyPattern IS NULL OR t.key LIKE :keyPattern)
+    @Query(value = """
+    SELECT new com.digitaltolk.translationservice.domain.projection.TranslationView(t.id, k.key, t.locale, t.content, t.createdAt, t.updatedAt, t.version)
+    FROM Translation t
+    JOIN t.translationKey k
+    WHERE (:keyPattern IS NULL OR k.key LIKE :keyPattern)
+    AND (:locale IS NULL OR t.locale = :locale)
+    AND (:contentPattern IS NULL OR LOWER(t.content) LIKE :contentPattern)
+    AND (:tagName IS NULL OR EXISTS (SELECT 1 FROM t.tags tag WHERE tag.name = :tagName))
+    ORDER BY t.updatedAt DESC
+    """, countQuery = """
+    SELECT COUNT(t) FROM Translation t
+    JOIN t.translationKey k
+    WHERE (:keyPattern IS NULL OR k.key LIKE :keyPattern)
+    AND (:locale IS NULL OR t.locale = :locale)
+    AND (:contentPattern IS NULL OR LOWER(t.content) LIKE :contentPattern)
+    AND (:tagName IS NULL OR EXISTS (SELECT 1 FROM t.tags tag WHERE tag.name = :tagName))
+    """)
+    Page<TranslationView> searchTranslations(
+            @Param("keyPattern") String keyPattern,
+            @Param("locale") String locale,
+            @Param("contentPattern") String contentPattern,
+            @Param("tagName") String tagName,
+            Pageable pageable
+    );
+
+    /**
+     * {@link #searchTranslations} reading only locale, key and content, for minimal views.
+     */
+    @Query(value = """
+    SELECT new com.digitaltolk.translationservice.domain.projection.LocalizedContent(t.locale, k.key, t.content)
+    FROM Translation t
+    JOIN t.translationKey k
+    WHERE (:keyPattern IS NULL OR k.key LIKE :keyPattern)
     AND (:locale IS NULL OR t.locale = :locale)
     AND (:contentPattern IS NULL OR LOWER(t.content) LIKE :contentPattern)
-    AND (:tagName IS NULL OR tag.name = :tagName)
+    AND (:tagName IS NULL OR EXISTS (SELECT 1 FROM t.tags tag WHERE tag.name = :tagName))
     ORDER BY t.updatedAt DESC
+    """, countQuery = """
+    SELECT COUNT(t) FROM Translation t
+    JOIN t.translationKey k
+    WHERE (:keyPattern IS NULL OR k.key LIKE :keyPattern)
+    AND (:locale IS NULL OR t.locale = :locale)
+    AND (:contentPattern IS NULL OR LOWER(t.content) LIKE :contentPattern)
+    AND (:tagName IS NULL OR EXISTS (SELECT 1 FROM t.tags tag WHERE tag.name = :tagName))
     """)
-    Page<Translation> searchTranslations(
+    Page<LocalizedContent> searchTranslationContent(
             @Param("keyPattern") String keyPattern,
             @Param("locale") String locale,
             @Param("contentPattern") String contentPattern,
@@ -52,13 +120,27 @@ public interface TranslationRepository extends JpaRepository<Translation, Long>
     );
 
 
-    @Query("SELECT t FROM Translation t ORDER BY t.locale, t.key")
-    List<Translation> findAllForExport();
+    /**
+     * Tags of the given translations, for attaching to a page of {@link TranslationView}s in one query.
+     */
+    @Query("""
+    SELECT new com.digitaltolk.translationservice.domain.projection.TranslationTag(
+        t.id, tag.id, tag.name, tag.description, tag.createdAt, tag.updatedAt)
+    FROM Tag tag JOIN tag.translations t
+    WHERE t.id IN :translationIds
+    """)
+    List<TranslationTag> findTagsByTranslationIds(@Param("translationIds") Collection<Long> translationIds);
+
+    @Query("SELECT new com.digitaltolk.translationservice.domain.projection.LocalizedContent(t.locale, k.key, t.content) FROM Translation t JOIN t.translationKey k ORDER BY t.locale, k.key")
+    List<LocalizedContent> findAllForExport();
+
+    @Query("SELECT new com.digitaltolk.translationservice.domain.projection.LocalizedContent(t.locale, k.key, t.content) FROM Translation t JOIN t.translationKey k WHERE t.locale = :locale ORDER BY k.key")
+    List<LocalizedContent> findByLocaleForExport(@Param("locale") String locale);
 
-    @Query("SELECT t FROM Translation t WHERE t.locale = :locale ORDER BY t.key")
-    List<Translation> findByLocaleForExport(@Param("locale") String locale);
+    @Query("SELECT new com.digitaltolk.translationservice.domain.projection.TranslationContent(k.key, t.content) FROM Translation t JOIN t.translationKey k WHERE t.locale = :locale ORDER BY k.key")
+    List<TranslationContent> findContentByLocale(@Param("locale") String locale);
 
-    @Query("SELECT t FROM Translation t WHERE t.updatedAt > :timestamp ORDER BY t.locale, t.key")
+    @Query("SELECT t FROM Translation t JOIN FETCH t.translationKey k WHERE t.updatedAt > :timestamp ORDER BY t.locale, k.key")
     List<Translation> findUpdatedAfter(@Param("timestamp") LocalDateTime timestamp);
 
     @Query("SELECT COUNT(t) FROM Translation t WHERE t.locale = :locale")
@@ -67,20 +149,170 @@ public interface TranslationRepository extends JpaRepository<Translation, Long>
     @Query("SELECT DISTINCT t.locale FROM Translation t ORDER BY t.locale")
     List<String> findDistinctLocales();
 
+    @Query("SELECT new com.digitaltolk.translationservice.domain.projection.TranslationRef(t.id, t.version) FROM Translation t JOIN t.translationKey k WHERE k.key = :key AND t.locale = :locale")
+    Optional<TranslationRef> findRefByKeyAndLocale(@Param("key") String key, @Param("locale") String locale);
+
+    @Modifying
+    @Query("""
+    UPDATE Translation t SET t.content = :content, t.version = t.version + 1, t.updatedAt = CURRENT_TIMESTAMP
+    WHERE t.translationKey.id = (SELECT k.id FROM TranslationKey k WHERE k.key = :key) AND t.locale = :locale
+    AND (:version IS NULL OR t.version = :version)
+    """)
+    int updateContentByKeyAndLocale(@Param("key") String key, @Param("locale") String locale,
+                                    @Param("content") String content, @Param("version") Long version);
+
+    @Modifying
+    @Query("""
+    UPDATE Translation t SET t.version = t.version + 1, t.updatedAt = CURRENT_TIMESTAMP
+    WHERE t.translationKey.id = (SELECT k.id FROM TranslationKey k WHERE k.key = :key) AND t.locale = :locale
+    AND (:version IS NULL OR t.version = :version)
+    """)
+    int incrementVersionByKeyAndLocale(@Param("key") String key, @Param("locale") String locale, @Param("version") Long version);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "translations"))
+    @Query(value = """
+    INSERT INTO translations (key_id, locale, content, created_at, updated_at, version)
+    VALUES (:keyId, :locale, :content, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0)
+    ON CONFLICT (key_id, locale) DO UPDATE
+    SET content = EXCLUDED.content, version = translations.version + 1, updated_at = CURRENT_TIMESTAMP
+    WHERE translations.content IS DISTINCT FROM EXCLUDED.content
+    """, nativeQuery = true)
+    int upsertContent(@Param("keyId") Long keyId, @Param("locale") String locale, @Param("content") String content);
+
     @Modifying
-    @Query("UPDATE Translation t SET t.content = :content, t.updatedAt = CURRENT_TIMESTAMP WHERE t.key = :key AND t.locale = :locale")
-    int updateContentByKeyAndLocale(@Param("key") String key, @Param("locale") String locale, @Param("content") String content);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "translation_tags"))
+    @Query(value = "DELETE FROM translation_tags WHERE translation_id = :translationId AND tag_id NOT IN (:tagIds)", nativeQuery = true)
+    int deleteTagLinksExcept(@Param("translationId") Long translationId, @Param("tagIds") Collection<Long> tagIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "translation_tags"))
+    @Query(value = "DELETE FROM translation_tags WHERE translation_id = :translationId", nativeQuery = true)
+    int deleteAllTagLinks(@Param("translationId") Long translationId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "translation_tags"))
+    @Query(value = """
+    INSERT INTO translation_tags (translation_id, tag_id)
+    SELECT :translationId, tg.id FROM tags tg WHERE tg.id IN (:tagIds)
+    AND EXISTS (SELECT 1 FROM translations t WHERE t.id = :translationId)
+    ON CONFLICT DO NOTHING
+    """, nativeQuery = true)
+    int insertTagLinks(@Param("translationId") Long translationId, @Param("tagIds") Collection<Long> tagIds);
 
     @Modifying
     @Query("DELETE FROM Translation t WHERE t.locale = :locale")
     int deleteByLocale(@Param("locale") String locale);
 
-    @Query("SELECT t FROM Translation t WHERE t.key IN :keys AND t.locale = :locale")
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "translation_tags"))
+    @Query(value = "DELETE FROM translation_tags WHERE translation_id IN (SELECT t.id FROM translations t WHERE t.locale = :locale)", nativeQuery = true)
+    int deleteTagLinksForLocale(@Param("locale") String locale);
+
+    @Query(value = "SELECT ensure_translation_partition(:locale)", nativeQuery = true)
+    boolean ensureLocalePartition(@Param("locale") String locale);
+
+    @Query(value = "SELECT drop_translation_partition(:locale)", nativeQuery = true)
+    boolean dropLocalePartition(@Param("locale") String locale);
+
+    @Query("""
+    SELECT t.id FROM Translation t
+    WHERE t.id > :afterId
+    AND (:locale IS NULL OR t.locale = :locale)
+    AND (:keyPattern IS NULL OR t.translationKey.key LIKE :keyPattern ESCAPE '\\')
+    AND (:tagName IS NULL OR EXISTS (SELECT 1 FROM t.tags tag WHERE tag.name = :tagName))
+    ORDER BY t.id
+    """)
+    List<Long> findIdsForBulk(@Param("locale") String locale,
+                              @Param("keyPattern") String keyPattern,
+                              @Param("tagName") String tagName,
+                              @Param("afterId") Long afterId,
+                              Pageable pageable);
+
+    @Query("""
+    SELECT COUNT(t) FROM Translation t
+    WHERE (:locale IS NULL OR t.locale = :locale)
+    AND (:keyPattern IS NULL OR t.translationKey.key LIKE :keyPattern ESCAPE '\\')
+    AND (:tagName IS NULL OR EXISTS (SELECT 1 FROM t.tags tag WHERE tag.name = :tagName))
+    """)
+    long countForBulk(@Param("locale") String locale,
+                      @Param("keyPattern") String keyPattern,
+                      @Param("tagName") String tagName);
+
+    @Query("""
+    SELECT COUNT(t) FROM Translation t
+    WHERE t.translationKey.key LIKE :keyPattern ESCAPE '\\'
+    AND (:locale IS NULL OR t.locale = :locale)
+    AND EXISTS (SELECT 1 FROM Translation other
+                WHERE other.locale = t.locale
+                AND other.translationKey.key = CONCAT(:newPrefix, SUBSTRING(t.translationKey.key, :suffixStart)))
+    """)
+    long countKeyPrefixConflicts(@Param("keyPattern") String keyPattern,
+                                 @Param("locale") String locale,
+                                 @Param("newPrefix") String newPrefix,
+                                 @Param("suffixStart") int suffixStart);
+
+    @Modifying
+    @Query("DELETE FROM Translation t WHERE t.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "translation_tags"))
+    @Query(value = "DELETE FROM translation_tags WHERE translation_id IN (:ids)", nativeQuery = true)
+    int deleteTagLinksForIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Points the translations at the key with the first {@code suffixStart - 1} characters replaced by
+     * {@code newPrefix}; the keys must exist (see {@link TranslationKeyRepository#insertPrefixReplacements}).
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "translations"))
+    @Query(value = """
+    UPDATE translations t SET key_id = nk.id, version = t.version + 1, updated_at = CURRENT_TIMESTAMP
+    FROM translation_keys k, translation_keys nk
+    WHERE t.id IN (:ids) AND k.id = t.key_id
+    AND nk.translation_key = :newPrefix || substr(k.translation_key, :suffixStart)
+    """, nativeQuery = true)
+    int replaceKeyPrefixByIds(@Param("ids") Collection<Long> ids,
+                              @Param("newPrefix") String newPrefix,
+                              @Param("suffixStart") int suffixStart);
+
+    @Modifying
+    @Query("UPDATE Translation t SET t.version = t.version + 1, t.updatedAt = CURRENT_TIMESTAMP WHERE t.id IN :ids")
+    int incrementVersionByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Those of {@code ids} whose translation is linked to the tag, or is not when {@code linked} is false.
+     */
+    @Query(value = """
+    SELECT t.id FROM translations t WHERE t.id IN (:ids)
+    AND EXISTS (SELECT 1 FROM translation_tags tt WHERE tt.translation_id = t.id AND tt.tag_id = :tagId) = :linked
+    ORDER BY t.id
+    """, nativeQuery = true)
+    List<Long> findIdsByTagLink(@Param("ids") Collection<Long> ids, @Param("tagId") Long tagId,
+                                @Param("linked") boolean linked);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "translation_tags"))
+    @Query(value = """
+    INSERT INTO translation_tags (translation_id, tag_id)
+    SELECT t.id, :tagId FROM translations t WHERE t.id IN (:ids)
+    ON CONFLICT DO NOTHING
+    """, nativeQuery = true)
+    int insertTagLinkForIds(@Param("ids") Collection<Long> ids, @Param("tagId") Long tagId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "translation_tags"))
+    @Query(value = "DELETE FROM translation_tags WHERE tag_id = :tagId AND translation_id IN (:ids)", nativeQuery = true)
+    int deleteTagLinkForIds(@Param("ids") Collection<Long> ids, @Param("tagId") Long tagId);
+
+    @Query("SELECT t FROM Translation t JOIN FETCH t.translationKey k WHERE k.key IN :keys AND t.locale = :locale")
     List<Translation> findByKeysAndLocale(@Param("keys") List<String> keys, @Param("locale") String locale);
 
-    @Query("SELECT COUNT(t) > 0 FROM Translation t WHERE t.key = :key AND t.locale = :locale")
+    @Query("SELECT COUNT(t) > 0 FROM Translation t JOIN t.translationKey k WHERE k.key = :key AND t.locale = :locale")
     boolean existsByKeyAndLocale(@Param("key") String key, @Param("locale") String locale);
 
-    @Query("SELECT t FROM Translation t ORDER BY t.updatedAt DESC")
+    @Query(value = "SELECT t FROM Translation t JOIN FETCH t.translationKey ORDER BY t.updatedAt DESC",
+            countQuery = "SELECT COUNT(t) FROM Translation t")
     Page<Translation> findLatestUpdated(Pageable pageable);
 }
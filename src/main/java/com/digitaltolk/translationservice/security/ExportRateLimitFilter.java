@@ -0,0 +1,63 @@
+package com.digitaltolk.translationservice.security;
+
+import com.digitaltolk.translationservice.exception.GlobalExceptionHandler.ErrorResponse;
+import com.digitaltolk.translationservice.service.ExportAdmissionControl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Rate limits the public export endpoint per client, before the request reaches the cache or the database.
+ * Clients are told when to retry with a 429 and {@code Retry-After}.
+ * <p>
+ * Clients are identified by their address. Behind a proxy this is the forwarded address, as resolved by the
+ * server's {@code forward-headers-strategy}.
+ */
+@Component
+public class ExportRateLimitFilter extends OncePerRequestFilter {
+
+    private final ExportAdmissionControl exportAdmission;
+    private final ObjectMapper objectMapper;
+
+    public ExportRateLimitFilter(ExportAdmissionControl exportAdmission, ObjectMapper objectMapper) {
+        this.exportAdmission = exportAdmission;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long retryAfterSeconds = exportAdmission.admitClient(request.getRemoteAddr());
+        if (retryAfterSeconds > 0) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests",
+                "Export rate limit exceeded, try again later",
+                "uri=" + request.getRequestURI(),
+                LocalDateTime.now()
+            );
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), errorResponse);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
+        return !"GET".equals(request.getMethod()) || !request.getRequestURI().equals("/api/v1/translations/export");
+    }
+}
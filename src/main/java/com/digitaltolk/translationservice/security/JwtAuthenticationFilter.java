@@ -1,5 +1,6 @@
 package com.digitaltolk.translationservice.security;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -32,41 +33,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                   FilterChain filterChain) throws ServletException, IOException {
         
         final String requestTokenHeader = request.getHeader("Authorization");
-        logger.debug("Authorization header: {}", requestTokenHeader);
         logger.debug("Request URI: {}", request.getRequestURI());
 
-        String username = null;
-        String jwtToken = null;
-
-        if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
-            jwtToken = requestTokenHeader.substring(7);
-            try {
-                username = jwtUtil.extractUsername(jwtToken);
-            } catch (Exception e) {
-                logger.warn("Unable to get JWT Token or JWT Token has expired: {}", e.getMessage());
-            }
-        } else {
+        if (requestTokenHeader == null || !requestTokenHeader.startsWith("Bearer ")) {
             logger.debug("JWT Token does not begin with Bearer String");
-        }
+        } else if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            try {
+                // Verified once per request; repeated tokens are answered from JwtUtil's cache
+                VerifiedToken token = jwtUtil.verify(requestTokenHeader.substring(7));
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            
-            if (jwtUtil.validateToken(jwtToken)) {
-                String role = jwtUtil.extractRole(jwtToken);
-                
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                    username, 
-                    null, 
-                    Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role))
+                    token.username(),
+                    null,
+                    Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + token.role()))
                 );
-                
+
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                
+
                 SecurityContextHolder.getContext().setAuthentication(authToken);
-                
-                logger.debug("User '{}' authenticated with role '{}'", username, role);
-            } else {
-                logger.warn("JWT Token validation failed for user: {}", username);
+
+                logger.debug("User '{}' authenticated with role '{}'", token.username(), token.role());
+            } catch (JwtException | IllegalArgumentException e) {
+                logger.warn("JWT Token validation failed: {}", e.getMessage());
             }
         }
 
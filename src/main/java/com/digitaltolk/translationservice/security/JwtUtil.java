@@ -1,79 +1,93 @@
 package com.digitaltolk.translationservice.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
-import java.util.function.Function;
-
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Issues and verifies JWTs.
+ * <p>
+ * The signing key and parser are built once. Verified tokens are cached by their SHA-256 digest until they
+ * expire, so a client repeating its token skips parsing and the HS512 check; the cache never holds the
+ * tokens themselves. Verifications are timed in {@code jwt.verification} by result: {@code cached},
+ * {@code verified} or {@code rejected}.
+ */
 @Component
 public class JwtUtil {
 
-    private static final Logger logger = LoggerFactory.getLogger(JwtUtil.class);
-
-    @Value("${spring.security.jwt.secret}")
-    private String secret;
-
-    @Value("${spring.security.jwt.expiration}")
-    private Long expiration;
-
-    private SecretKey getSigningKey() {
-
-        logger.debug("Using secret key for JWT signing: {}", secret);
-
-        return Keys.hmacShaKeyFor(secret.getBytes());
-    }
-
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
-    }
-
-    public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long expiration;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final Timer cachedVerifications;
+    private final Timer fullVerifications;
+    private final Timer rejectedVerifications;
+
+    public JwtUtil(@Value("${spring.security.jwt.secret}") String secret,
+                   @Value("${spring.security.jwt.expiration}") long expiration,
+                   @Value("${app.jwt.verified-token-cache-size:10000}") long verifiedTokenCacheSize,
+                   MeterRegistry meterRegistry) {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.expiration = expiration;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheSize)
+                .expireAfter(new UntilTokenExpires())
+                .build();
+        this.cachedVerifications = verificationTimer("cached", meterRegistry);
+        this.fullVerifications = verificationTimer("verified", meterRegistry);
+        this.rejectedVerifications = verificationTimer("rejected", meterRegistry);
     }
 
-    private Claims extractAllClaims(String token) {
+    /**
+     * Returns the claims of {@code token} if its signature is valid and it has not expired.
+     *
+     * @throws JwtException if the token is invalid or expired
+     */
+    public VerifiedToken verify(String token) {
+        long started = System.nanoTime();
+        Timer outcome = rejectedVerifications;
         try {
-            return Jwts.parser()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-        } catch (ExpiredJwtException e) {
-            logger.warn("JWT token is expired: {}", e.getMessage());
-            throw e;
-        } catch (UnsupportedJwtException e) {
-            logger.warn("JWT token is unsupported: {}", e.getMessage());
-            throw e;
-        } catch (MalformedJwtException e) {
-            logger.warn("JWT token is malformed: {}", e.getMessage());
-            throw e;
-        } catch (SecurityException e) {
-            logger.warn("JWT signature validation failed: {}", e.getMessage());
-            throw e;
-        } catch (IllegalArgumentException e) {
-            logger.warn("JWT token compact of handler are invalid: {}", e.getMessage());
-            throw e;
+            String digest = digest(token);
+            VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+            if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+                outcome = cachedVerifications;
+                return cached;
+            }
+
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (claims.getExpiration() == null) {
+                throw new UnsupportedJwtException("JWT has no expiration");
+            }
+            VerifiedToken verified = new VerifiedToken(
+                    claims.getSubject(), claims.get("role", String.class), claims.getExpiration().toInstant());
+            verifiedTokens.put(digest, verified);
+            outcome = fullVerifications;
+            return verified;
+        } finally {
+            outcome.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
         }
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
         return createToken(claims, userDetails.getUsername());
@@ -94,31 +108,45 @@ public class JwtUtil {
                 .setSubject(subject)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
-    public Boolean validateToken(String token, UserDetails userDetails) {
-        try {
-            final String username = extractUsername(token);
-            return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
-        } catch (JwtException e) {
-            logger.warn("JWT validation failed: {}", e.getMessage());
-            return false;
-        }
+    private static Timer verificationTimer(String result, MeterRegistry meterRegistry) {
+        return Timer.builder("jwt.verification")
+                .description("Time to verify a bearer token")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
-    public Boolean validateToken(String token) {
-        try {
-            extractAllClaims(token);
-            return !isTokenExpired(token);
-        } catch (JwtException e) {
-            logger.warn("JWT validation failed: {}", e.getMessage());
-            return false;
+    /**
+     * Keeps each verified token until its {@code exp}, however often it is read.
+     */
+    private static final class UntilTokenExpires implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+            return Duration.between(Instant.now(), token.expiresAt()).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(digest, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 
-    public String extractRole(String token) {
-        return extractClaim(token, claims -> claims.get("role", String.class));
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 }
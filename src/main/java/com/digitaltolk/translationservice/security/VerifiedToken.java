@@ -0,0 +1,9 @@
+package com.digitaltolk.translationservice.security;
+
+import java.time.Instant;
+
+/**
+ * The claims of a JWT whose signature and expiry have been checked.
+ */
+public record VerifiedToken(String username, String role, Instant expiresAt) {
+}
@@ -0,0 +1,88 @@
+package com.digitaltolk.translationservice.service;
+
+import com.digitaltolk.translationservice.exception.CapacityExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * A bounded worker pool for heavy reads (exports and searches), kept apart from interactive requests.
+ * <p>
+ * Controllers hand heavy work to this lane and return a future, so it never holds a Tomcat worker thread.
+ * Exports already in the cache are served without it, as they never touch the database.
+ * Each task runs in at most one transaction, so the pool size is also the most connections heavy reads can
+ * hold; the rest of the Hikari pool stays free for interactive lookups and writes. It equally bounds the cores
+ * heavy reads can keep busy, which is what protects lookup latency on small nodes, so by default it gets half
+ * the cores (at least one) and a queue of twice that. Bulk jobs have their own pool in {@link BulkJobService}.
+ * When the pool and its queue are full, further work is rejected with a 503 instead of waiting.
+ * <p>
+ * With {@code spring.threads.virtual.enabled} on Java 21+, the workers are virtual threads. The pool still
+ * bounds how many run at once, so the connection quota is unchanged.
+ */
+@Component
+public class BackgroundLane implements DisposableBean {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final Counter rejected;
+
+    public BackgroundLane(MeterRegistry meterRegistry,
+                          Environment environment,
+                          @Value("${app.background-lane.pool-size:0}") int poolSize,
+                          @Value("${app.background-lane.queue-capacity:-1}") int queueCapacity) {
+        if (poolSize <= 0) {
+            poolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        }
+        if (queueCapacity < 0) {
+            queueCapacity = 2 * poolSize;
+        }
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(poolSize);
+        this.executor.setMaxPoolSize(poolSize);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("background-");
+        if (Threading.VIRTUAL.isActive(environment)) {
+            this.executor.setThreadFactory(new VirtualThreadTaskExecutor("background-").getVirtualThreadFactory());
+        }
+        // Read-your-writes routing looks at the caller's authentication
+        this.executor.setTaskDecorator(task -> DelegatingSecurityContextRunnable.create(task, null));
+        this.executor.initialize();
+
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "background-lane", Collections.emptyList())
+                .bindTo(meterRegistry);
+        this.rejected = Counter.builder("background.lane.rejected")
+                .description("Heavy reads rejected because the background lane was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code task} on the lane.
+     *
+     * @throws CapacityExceededException if the lane's workers and queue are all taken
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new CapacityExceededException("Too much background work queued on this node, try again later", 5);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,297 @@
+package com.digitaltolk.translationservice.service;
+
+import com.digitaltolk.translationservice.api.dto.BulkJobDto;
+import com.digitaltolk.translationservice.api.dto.BulkJobRequest;
+import com.digitaltolk.translationservice.domain.entity.Tag;
+import com.digitaltolk.translationservice.domain.entity.TranslationChange;
+import com.digitaltolk.translationservice.domain.repository.TagRepository;
+import com.digitaltolk.translationservice.domain.repository.TranslationKeyRepository;
+import com.digitaltolk.translationservice.domain.repository.TranslationRepository;
+import com.digitaltolk.translationservice.exception.CapacityExceededException;
+import com.digitaltolk.translationservice.exception.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Runs set-based bulk operations over translations on a small dedicated worker pool.
+ * <p>
+ * Matching rows are walked in id order, one chunk per transaction, so a job never holds locks on more than
+ * a chunk at a time and can report progress as it goes. Caches are invalidated once when the job ends.
+ * Job state is kept in memory on the node that accepted the job. The workers are virtual threads when
+ * {@code spring.threads.virtual.enabled} is set on Java 21+.
+ */
+@Service
+public class BulkJobService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkJobService.class);
+
+    private final TranslationRepository translationRepository;
+    private final TranslationKeyRepository translationKeyRepository;
+    private final TagRepository tagRepository;
+    private final TranslationCacheEvictor cacheEvictor;
+    private final TranslationChangeLog changeLog;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final Map<String, BulkJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${app.bulk-jobs.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.bulk-jobs.retained-jobs:100}")
+    private int retainedJobs;
+
+    public BulkJobService(TranslationRepository translationRepository,
+                          TranslationKeyRepository translationKeyRepository,
+                          TagRepository tagRepository,
+                          TranslationCacheEvictor cacheEvictor,
+                          TranslationChangeLog changeLog,
+                          PlatformTransactionManager transactionManager,
+                          Environment environment,
+                          @Value("${app.bulk-jobs.pool-size:2}") int poolSize,
+                          @Value("${app.bulk-jobs.queue-capacity:10}") int queueCapacity) {
+        this.translationRepository = translationRepository;
+        this.translationKeyRepository = translationKeyRepository;
+        this.tagRepository = tagRepository;
+        this.cacheEvictor = cacheEvictor;
+        this.changeLog = changeLog;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(poolSize);
+        this.executor.setMaxPoolSize(poolSize);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("bulk-job-");
+        if (Threading.VIRTUAL.isActive(environment)) {
+            this.executor.setThreadFactory(new VirtualThreadTaskExecutor("bulk-job-").getVirtualThreadFactory());
+        }
+        this.executor.initialize();
+    }
+
+    public BulkJobDto submit(BulkJobRequest request) {
+        validate(request);
+
+        BulkJob job = new BulkJob(UUID.randomUUID().toString(), request);
+
+        pruneFinishedJobs();
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.id);
+            throw new CapacityExceededException("Too many bulk jobs queued, try again later", 30);
+        }
+
+        logger.info("Submitted bulk job {}: {}", job.id, request);
+        return job.toDto();
+    }
+
+    public BulkJobDto getJob(String jobId) {
+        BulkJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Bulk job not found with ID: " + jobId);
+        }
+        return job.toDto();
+    }
+
+    public List<BulkJobDto> getJobs() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing((BulkJob job) -> job.submittedAt).reversed())
+                .map(BulkJob::toDto)
+                .collect(Collectors.toList());
+    }
+
+    private void run(BulkJob job) {
+        BulkJobRequest request = job.request;
+        String keyPattern = isPresent(request.getKeyPrefix()) ? escapeLike(request.getKeyPrefix()) + "%" : null;
+
+        job.status = BulkJobDto.Status.RUNNING;
+        job.startedAt = LocalDateTime.now();
+        try {
+            job.totalCount = translationRepository.countForBulk(request.getLocale(), keyPattern, request.getTagName());
+            Long targetTagId = resolveTargetTagId(request);
+
+            if (request.getType() == BulkJobRequest.Type.MOVE_KEY_PREFIX) {
+                long conflicts = translationRepository.countKeyPrefixConflicts(keyPattern, request.getLocale(),
+                        request.getNewKeyPrefix(), request.getKeyPrefix().length() + 1);
+                if (conflicts > 0) {
+                    throw new IllegalStateException(conflicts + " translation(s) would collide with existing keys under '"
+                            + request.getNewKeyPrefix() + "'");
+                }
+            }
+
+            long afterId = 0;
+            while (true) {
+                long cursor = afterId;
+                List<Long> ids = transactionTemplate.execute(status -> {
+                    List<Long> chunk = translationRepository.findIdsForBulk(request.getLocale(), keyPattern,
+                            request.getTagName(), cursor, PageRequest.of(0, chunkSize));
+                    if (!chunk.isEmpty()) {
+                        applyChunk(request, chunk, targetTagId);
+                    }
+                    return chunk;
+                });
+                if (ids == null || ids.isEmpty()) {
+                    break;
+                }
+                afterId = ids.get(ids.size() - 1);
+                job.processedCount += ids.size();
+            }
+
+            job.status = BulkJobDto.Status.COMPLETED;
+            logger.info("Bulk job {} completed, {} translation(s) processed", job.id, job.processedCount);
+        } catch (RuntimeException e) {
+            job.error = e.getMessage();
+            job.status = BulkJobDto.Status.FAILED;
+            logger.error("Bulk job {} failed after {} translation(s)", job.id, job.processedCount, e);
+        } finally {
+            if (job.processedCount > 0) {
+                cacheEvictor.evictAll();
+            }
+            job.finishedAt = LocalDateTime.now();
+        }
+    }
+
+    private void applyChunk(BulkJobRequest request, List<Long> ids, Long targetTagId) {
+        switch (request.getType()) {
+            case DELETE -> {
+                changeLog.recordForIds(ids, TranslationChange.Operation.DELETE);
+                translationRepository.deleteTagLinksForIds(ids);
+                translationRepository.deleteByIds(ids);
+            }
+            // Only translations whose tags actually change get a new version and a change
+            case ADD_TAG -> {
+                List<Long> untagged = translationRepository.findIdsByTagLink(ids, targetTagId, false);
+                if (!untagged.isEmpty()) {
+                    translationRepository.insertTagLinkForIds(untagged, targetTagId);
+                    translationRepository.incrementVersionByIds(untagged);
+                    changeLog.recordForIds(untagged, TranslationChange.Operation.UPDATE);
+                }
+            }
+            case REMOVE_TAG -> {
+                List<Long> tagged = translationRepository.findIdsByTagLink(ids, targetTagId, true);
+                if (!tagged.isEmpty()) {
+                    translationRepository.deleteTagLinkForIds(tagged, targetTagId);
+                    translationRepository.incrementVersionByIds(tagged);
+                    changeLog.recordForIds(tagged, TranslationChange.Operation.UPDATE);
+                }
+            }
+            case MOVE_KEY_PREFIX -> {
+                // A rename is published as a delete of the old key followed by a create of the new one
+                changeLog.recordForIds(ids, TranslationChange.Operation.DELETE);
+                translationKeyRepository.insertPrefixReplacements(ids,
+                        request.getNewKeyPrefix(), request.getKeyPrefix().length() + 1);
+                translationRepository.replaceKeyPrefixByIds(ids,
+                        request.getNewKeyPrefix(), request.getKeyPrefix().length() + 1);
+                changeLog.recordForIds(ids, TranslationChange.Operation.CREATE);
+            }
+        }
+    }
+
+    private Long resolveTargetTagId(BulkJobRequest request) {
+        return switch (request.getType()) {
+            case ADD_TAG -> transactionTemplate.execute(status -> tagRepository.findByName(request.getTargetTag())
+                    .orElseGet(() -> tagRepository.save(new Tag(request.getTargetTag())))
+                    .getId());
+            case REMOVE_TAG -> tagRepository.findByName(request.getTargetTag())
+                    .map(Tag::getId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Tag not found: " + request.getTargetTag()));
+            default -> null;
+        };
+    }
+
+    private void validate(BulkJobRequest request) {
+        boolean hasFilter = isPresent(request.getLocale()) || isPresent(request.getKeyPrefix()) || isPresent(request.getTagName());
+        if (!hasFilter) {
+            throw new IllegalArgumentException("At least one of locale, keyPrefix or tagName is required");
+        }
+        switch (request.getType()) {
+            case ADD_TAG, REMOVE_TAG -> {
+                if (!isPresent(request.getTargetTag())) {
+                    throw new IllegalArgumentException("targetTag is required for " + request.getType());
+                }
+            }
+            case MOVE_KEY_PREFIX -> {
+                if (!isPresent(request.getKeyPrefix()) || !isPresent(request.getNewKeyPrefix())) {
+                    throw new IllegalArgumentException("keyPrefix and newKeyPrefix are required for MOVE_KEY_PREFIX");
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void pruneFinishedJobs() {
+        List<BulkJob> finished = jobs.values().stream()
+                .filter(job -> job.finishedAt != null)
+                .sorted(Comparator.comparing((BulkJob job) -> job.finishedAt))
+                .collect(Collectors.toList());
+        for (int i = 0; i < finished.size() - retainedJobs + 1; i++) {
+            jobs.remove(finished.get(i).id);
+        }
+    }
+
+    private static boolean isPresent(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * Live job state. Written only by the worker running the job, read by status requests.
+     */
+    private static final class BulkJob {
+        private final String id;
+        private final BulkJobRequest request;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private volatile BulkJobDto.Status status = BulkJobDto.Status.QUEUED;
+        private volatile long totalCount;
+        private volatile long processedCount;
+        private volatile String error;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+
+        private BulkJob(String id, BulkJobRequest request) {
+            this.id = id;
+            this.request = request;
+        }
+
+        private BulkJobDto toDto() {
+            BulkJobDto dto = new BulkJobDto();
+            dto.setId(id);
+            dto.setRequest(request);
+            dto.setStatus(status);
+            dto.setTotalCount(totalCount);
+            dto.setProcessedCount(processedCount);
+            dto.setError(error);
+            dto.setSubmittedAt(submittedAt);
+            dto.setStartedAt(startedAt);
+            dto.setFinishedAt(finishedAt);
+            return dto;
+        }
+    }
+}
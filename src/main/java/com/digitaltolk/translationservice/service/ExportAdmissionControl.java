@@ -0,0 +1,126 @@
+package com.digitaltolk.translationservice.service;
+
+import com.digitaltolk.translationservice.config.MetricsConfig;
+import com.digitaltolk.translationservice.exception.CapacityExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Admission control for exports, which are public and expensive to build when not cached.
+ * <p>
+ * Each client gets a token bucket on the public export endpoint (see {@code ExportRateLimitFilter}), and the
+ * node builds at most a fixed number of exports from the database at once, so exports cannot take over the
+ * connection pool. Both limits reject immediately instead of queueing; rejected requests are counted in the
+ * {@code translation.export.shed} metric by reason. Builds are timed in {@code translation.export.build} and
+ * their translations counted in {@code translation.export.size}, both by locale.
+ */
+@Component
+public class ExportAdmissionControl {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportAdmissionControl.class);
+
+    private static final long BUILD_RETRY_AFTER_SECONDS = 2;
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final Semaphore buildSlots;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final Counter rateLimited;
+    private final Counter buildLimited;
+
+    public ExportAdmissionControl(PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.export-admission.requests-per-minute:60}") int requestsPerMinute,
+                                  @Value("${app.export-admission.burst:20}") int burst,
+                                  @Value("${app.export-admission.max-clients:100000}") long maxClients,
+                                  @Value("${app.export-admission.max-concurrent-builds:4}") int maxConcurrentBuilds) {
+        this.rateLimiter = new TokenBucketRateLimiter(requestsPerMinute, burst, maxClients, System::nanoTime);
+        this.buildSlots = new Semaphore(maxConcurrentBuilds);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.rateLimited = Counter.builder("translation.export.shed")
+                .description("Export requests rejected by admission control")
+                .tag("reason", "rate-limited")
+                .register(meterRegistry);
+        this.buildLimited = Counter.builder("translation.export.shed")
+                .description("Export requests rejected by admission control")
+                .tag("reason", "build-limit")
+                .register(meterRegistry);
+        Gauge.builder("translation.export.builds.active", buildSlots,
+                        slots -> maxConcurrentBuilds - slots.availablePermits())
+                .description("Exports currently being built from the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes a token from the client's bucket.
+     *
+     * @return 0 if the request is admitted, otherwise the seconds until the client may retry
+     */
+    public long admitClient(String client) {
+        long waitNanos = rateLimiter.tryAcquire(client);
+        if (waitNanos == 0) {
+            return 0;
+        }
+        rateLimited.increment();
+        logger.debug("Export request from {} rate limited", client);
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    /**
+     * Builds an export in a read-only transaction if a build slot is free. The slot is taken before the
+     * transaction, so a rejected build never waits for a connection.
+     *
+     * @throws CapacityExceededException if the node is already building the maximum number of exports
+     */
+    public <T> T build(Supplier<T> export) {
+        if (!buildSlots.tryAcquire()) {
+            buildLimited.increment();
+            throw new CapacityExceededException("Too many exports being built on this node, try again later",
+                    BUILD_RETRY_AFTER_SECONDS);
+        }
+        try {
+            return readOnlyTransaction.execute(status -> export.get());
+        } finally {
+            buildSlots.release();
+        }
+    }
+
+    /**
+     * Records an export of {@code translations} translations in {@code locale} (blank for all) that took
+     * {@code durationNanos} to build. {@code asOf} tells exports of a past revision from current ones.
+     */
+    public void recordBuild(String locale, boolean asOf, long durationNanos, long translations) {
+        String localeTag = MetricsConfig.localeTag(locale);
+        String kind = asOf ? "as-of" : "latest";
+        Timer.builder("translation.export.build")
+                .description("Time to build an export from the database")
+                .tag(MetricsConfig.LOCALE_TAG, localeTag)
+                .tag("kind", kind)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("translation.export.size")
+                .description("Translations in an export built from the database")
+                .baseUnit("translations")
+                .tag(MetricsConfig.LOCALE_TAG, localeTag)
+                .tag("kind", kind)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(translations);
+    }
+}
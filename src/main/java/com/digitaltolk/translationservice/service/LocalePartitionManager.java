@@ -0,0 +1,153 @@
+package com.digitaltolk.translationservice.service;
+
+import com.digitaltolk.translationservice.domain.entity.TranslationChange;
+import com.digitaltolk.translationservice.domain.repository.TranslationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps one {@code translations} partition per locale (see the V5 migration).
+ * <p>
+ * A locale's partition is created after the first transaction that writes to it on this node has completed,
+ * on a thread of its own, so the DDL never waits on locks held by the writer and never holds up its commit.
+ * Until then the rows go to the default partition, from which creating the partition moves them. Creation is
+ * best effort: if it fails, for example because the lock could not be taken in time, the locale is left in
+ * the default partition for {@code app.locale-partitions.retry-delay} before it is tried again, as a waiting
+ * ATTACH blocks every reader of the default partition.
+ * <p>
+ * Locales known to have a partition are remembered, so the common case costs nothing. Any node may drop a
+ * locale's partition, which it records as deletes, so a delete in a locale seen on the
+ * {@link TranslationChangeHub} makes the next write check the catalog again.
+ */
+@Component
+public class LocalePartitionManager implements TranslationChangeHub.Listener, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalePartitionManager.class);
+
+    private final TranslationRepository translationRepository;
+    private final TransactionTemplate partitionTransaction;
+    private final boolean enabled;
+    private final long retryDelayNanos;
+    private final Set<String> partitionedLocales = ConcurrentHashMap.newKeySet();
+    private final Set<String> scheduledLocales = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> retryAfter = new ConcurrentHashMap<>();
+    private final ExecutorService partitionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "locale-partitions");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public LocalePartitionManager(TranslationRepository translationRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  TranslationChangeHub changeHub,
+                                  @Value("${app.locale-partitions.enabled:true}") boolean enabled,
+                                  @Value("${app.locale-partitions.retry-delay:300000}") long retryDelayMillis) {
+        this.translationRepository = translationRepository;
+        this.partitionTransaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.retryDelayNanos = TimeUnit.MILLISECONDS.toNanos(retryDelayMillis);
+        if (enabled) {
+            changeHub.addListener(this);
+        }
+    }
+
+    /**
+     * Makes sure {@code locale} gets its own partition once the current transaction, if any, has completed.
+     */
+    public void ensurePartition(String locale) {
+        if (!enabled || locale == null || partitionedLocales.contains(locale)) {
+            return;
+        }
+        Long retryAt = retryAfter.get(locale);
+        if (retryAt != null && System.nanoTime() - retryAt < 0) {
+            return;
+        }
+        if (!scheduledLocales.add(locale)) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    schedule(locale);
+                }
+            });
+        } else {
+            schedule(locale);
+        }
+    }
+
+    /**
+     * Removes every translation of {@code locale} and its tag links in the caller's transaction, dropping the
+     * locale's partition when it has one. Returns whether a partition was dropped.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean dropPartition(String locale) {
+        partitionedLocales.remove(locale);
+        if (!enabled) {
+            translationRepository.deleteTagLinksForLocale(locale);
+            translationRepository.deleteByLocale(locale);
+            return false;
+        }
+        return translationRepository.dropLocalePartition(locale);
+    }
+
+    @Override
+    public void onChanges(List<TranslationChange> changes) {
+        for (TranslationChange change : changes) {
+            if (change.getOperation() == TranslationChange.Operation.DELETE) {
+                partitionedLocales.remove(change.getLocale());
+            }
+        }
+    }
+
+    private void schedule(String locale) {
+        try {
+            partitionExecutor.execute(() -> createPartition(locale));
+        } catch (RuntimeException e) {
+            scheduledLocales.remove(locale);
+            logger.debug("Could not schedule translations partition for locale {}: {}", locale, e.getMessage());
+        }
+    }
+
+    private void createPartition(String locale) {
+        try {
+            Boolean created = partitionTransaction.execute(status -> translationRepository.ensureLocalePartition(locale));
+            partitionedLocales.add(locale);
+            retryAfter.remove(locale);
+            if (Boolean.TRUE.equals(created)) {
+                logger.info("Created translations partition for locale {}", locale);
+            }
+        } catch (DataAccessException | TransactionException e) {
+            retryAfter.put(locale, System.nanoTime() + retryDelayNanos);
+            logger.warn("Could not create translations partition for locale {}, using the default partition for {} s: {}",
+                    locale, TimeUnit.NANOSECONDS.toSeconds(retryDelayNanos), e.getMessage());
+        } finally {
+            scheduledLocales.remove(locale);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        partitionExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,262 @@
+package com.digitaltolk.translationservice.service;
+
+import com.digitaltolk.translationservice.api.dto.PagedResponse;
+import com.digitaltolk.translationservice.api.dto.ReleaseBundleDto;
+import com.digitaltolk.translationservice.api.dto.ReleaseDto;
+import com.digitaltolk.translationservice.api.dto.ReleaseRequest;
+import com.digitaltolk.translationservice.domain.entity.TranslationRelease;
+import com.digitaltolk.translationservice.domain.projection.BundleInfo;
+import com.digitaltolk.translationservice.domain.projection.TranslationContent;
+import com.digitaltolk.translationservice.domain.repository.LocaleStatsRepository;
+import com.digitaltolk.translationservice.domain.repository.TranslationBundleRepository;
+import com.digitaltolk.translationservice.domain.repository.TranslationReleaseRepository;
+import com.digitaltolk.translationservice.domain.repository.TranslationRepository;
+import com.digitaltolk.translationservice.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Publishes immutable, content-addressed snapshots of the live translations.
+ * <p>
+ * Each locale is serialized to a canonical JSON object (keys sorted), hashed with SHA-256 and stored gzip
+ * compressed under that hash, so an unchanged locale is stored once no matter how many releases include it.
+ * The release id is the hash over its (locale, bundle hash) pairs, which makes publishing idempotent and lets
+ * the bundles be served with immutable cache headers.
+ */
+@Service
+@Transactional
+public class ReleaseService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReleaseService.class);
+
+    private final TranslationRepository translationRepository;
+    private final TranslationBundleRepository bundleRepository;
+    private final TranslationReleaseRepository releaseRepository;
+    private final LocaleStatsRepository localeStatsRepository;
+    private final TranslationChangeLog changeLog;
+    private final ObjectMapper objectMapper;
+
+    public ReleaseService(TranslationRepository translationRepository,
+                          TranslationBundleRepository bundleRepository,
+                          TranslationReleaseRepository releaseRepository,
+                          LocaleStatsRepository localeStatsRepository,
+                          TranslationChangeLog changeLog,
+                          ObjectMapper objectMapper) {
+        this.translationRepository = translationRepository;
+        this.bundleRepository = bundleRepository;
+        this.releaseRepository = releaseRepository;
+        this.localeStatsRepository = localeStatsRepository;
+        this.changeLog = changeLog;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Freezes the requested locales (all locales by default) into a release. Runs in a repeatable-read
+     * transaction so every bundle and the recorded revision come from the same snapshot.
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public ReleaseDto publish(ReleaseRequest request) {
+        List<String> locales = request.getLocales() != null && !request.getLocales().isEmpty()
+                ? request.getLocales().stream().distinct().sorted().collect(Collectors.toList())
+                : localeStatsRepository.findActiveLocales();
+        if (locales.isEmpty()) {
+            throw new IllegalArgumentException("There are no translations to publish");
+        }
+        logger.debug("Publishing release for locales: {}", locales);
+
+        long revision = changeLog.getLatestRevision();
+        Map<String, String> bundleHashes = new TreeMap<>();
+        for (String locale : locales) {
+            bundleHashes.put(locale, storeBundle(locale));
+        }
+
+        String releaseId = sha256Hex(bundleHashes.entrySet().stream()
+                .map(entry -> entry.getKey() + ":" + entry.getValue() + "\n")
+                .collect(Collectors.joining())
+                .getBytes(StandardCharsets.UTF_8));
+
+        if (releaseRepository.insertIfAbsent(releaseId, request.getName(), revision) > 0) {
+            bundleHashes.forEach((locale, hash) -> releaseRepository.insertBundleLink(releaseId, locale, hash));
+            logger.info("Published release {} with {} locale(s) at revision {}", releaseId, locales.size(), revision);
+        } else {
+            logger.info("Release {} already published, content unchanged", releaseId);
+        }
+
+        return getRelease(releaseId);
+    }
+
+    @Transactional(readOnly = true)
+    public ReleaseDto getRelease(String releaseId) {
+        return toDto(findRelease(releaseId));
+    }
+
+    @Transactional(readOnly = true)
+    public PagedResponse<ReleaseDto> getReleases(int page, int size) {
+        Page<TranslationRelease> releases = releaseRepository.findLatest(PageRequest.of(page, size));
+        return new PagedResponse<>(
+            releases.getContent().stream().map(this::toDto).collect(Collectors.toList()),
+            releases.getNumber(),
+            releases.getSize(),
+            releases.getTotalElements(),
+            releases.getTotalPages()
+        );
+    }
+
+    /**
+     * Entity tag of a release export: the bundle hash for a single locale, the release id for all locales.
+     */
+    @Transactional(readOnly = true)
+    public String getExportETag(String releaseId, String locale) {
+        TranslationRelease release = findRelease(releaseId);
+        return locale != null ? bundleHash(release, locale) : release.getId();
+    }
+
+    /**
+     * Gzip-compressed export of a release. A single locale is returned exactly as stored; all locales are
+     * assembled into one {@code {"locale": {...}}} object.
+     */
+    @Transactional(readOnly = true)
+    public byte[] getExportGzipped(String releaseId, String locale) {
+        TranslationRelease release = findRelease(releaseId);
+        if (locale != null) {
+            return loadBundle(bundleHash(release, locale));
+        }
+
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        json.writeBytes("{".getBytes(StandardCharsets.UTF_8));
+        boolean first = true;
+        for (Map.Entry<String, String> entry : new TreeMap<>(release.getBundleHashes()).entrySet()) {
+            if (!first) {
+                json.write(',');
+            }
+            first = false;
+            json.writeBytes(toJson(entry.getKey()));
+            json.write(':');
+            json.writeBytes(gunzip(loadBundle(entry.getValue())));
+        }
+        json.write('}');
+        return gzip(json.toByteArray());
+    }
+
+    public static byte[] gunzip(byte[] compressed) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decompress release bundle", e);
+        }
+    }
+
+    private String storeBundle(String locale) {
+        List<TranslationContent> translations = translationRepository.findContentByLocale(locale);
+        if (translations.isEmpty()) {
+            throw new IllegalArgumentException("No translations found for locale: " + locale);
+        }
+
+        Map<String, String> content = new TreeMap<>();
+        for (TranslationContent translation : translations) {
+            content.put(translation.key(), translation.content());
+        }
+        byte[] json = toJson(content);
+        String hash = sha256Hex(json);
+        byte[] compressed = gzip(json);
+
+        int inserted = bundleRepository.insertIfAbsent(hash, locale, content.size(), json.length, compressed.length, compressed);
+        logger.debug("Bundle {} for locale {}: {} translations, {} -> {} bytes{}", hash, locale, content.size(),
+                json.length, compressed.length, inserted == 0 ? " (already stored)" : "");
+        return hash;
+    }
+
+    private TranslationRelease findRelease(String releaseId) {
+        return releaseRepository.findById(releaseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Release not found with ID: " + releaseId));
+    }
+
+    private String bundleHash(TranslationRelease release, String locale) {
+        String hash = release.getBundleHashes().get(locale);
+        if (hash == null) {
+            throw new ResourceNotFoundException(
+                String.format("Release '%s' does not contain locale '%s'", release.getId(), locale));
+        }
+        return hash;
+    }
+
+    private byte[] loadBundle(String hash) {
+        return bundleRepository.findContentByHash(hash)
+                .orElseThrow(() -> new IllegalStateException("Bundle " + hash + " is missing"));
+    }
+
+    private ReleaseDto toDto(TranslationRelease release) {
+        Map<String, BundleInfo> bundles = bundleRepository.findInfoByHashIn(release.getBundleHashes().values()).stream()
+                .collect(Collectors.toMap(BundleInfo::hash, Function.identity()));
+
+        ReleaseDto dto = new ReleaseDto();
+        dto.setId(release.getId());
+        dto.setName(release.getName());
+        dto.setRevision(release.getRevision());
+        dto.setCreatedAt(release.getCreatedAt());
+        dto.setBundles(new TreeMap<>(release.getBundleHashes()).entrySet().stream()
+                .map(entry -> {
+                    BundleInfo info = bundles.get(entry.getValue());
+                    ReleaseBundleDto bundle = new ReleaseBundleDto();
+                    bundle.setLocale(entry.getKey());
+                    bundle.setHash(entry.getValue());
+                    if (info != null) {
+                        bundle.setTranslationCount(info.translationCount());
+                        bundle.setSizeBytes(info.sizeBytes());
+                        bundle.setCompressedSizeBytes(info.compressedSizeBytes());
+                    }
+                    return bundle;
+                })
+                .collect(Collectors.toList()));
+        return dto;
+    }
+
+    private byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize release bundle", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress release bundle", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256Hex(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.digitaltolk.translationservice.service;
+
+import com.digitaltolk.translationservice.domain.entity.Translation;
+import com.digitaltolk.translationservice.domain.entity.TranslationChange;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Keeps the Hibernate second-level cache (regions configured in {@code application.conf}) in step with changes
+ * committed on other nodes.
+ * <p>
+ * The cache is local to each node and Hibernate only invalidates it for writes made through this node. With
+ * the invalidation bus enabled, every change seen on the {@link TranslationChangeHub} evicts the tag collection
+ * of the changed translation and the cached lookup results, including lookups that found nothing and would
+ * otherwise hide a key or tag created elsewhere. Tags and keys themselves need no eviction: keys are immutable
+ * and tags are only created next to a translation write.
+ * <p>
+ * Hibernate cannot tell which translations a bulk native statement such as a locale's partition drop removed,
+ * so {@link TranslationCacheEvictor} also calls {@link #evictTranslations()} on this node when it clears the
+ * Redis caches after such a commit, without waiting for the hub.
+ */
+@Component
+public class SecondLevelCacheEvictor implements TranslationChangeHub.Listener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SecondLevelCacheEvictor.class);
+
+    static final String TRANSLATION_TAGS_ROLE = Translation.class.getName() + ".tags";
+    static final String TRANSLATION_LOOKUPS_REGION = "translation-lookups";
+    static final String KEY_LOOKUPS_REGION = "key-lookups";
+    static final String TAG_LOOKUPS_REGION = "tag-lookups";
+
+    private final Cache cache;
+
+    @Value("${app.invalidation-bus.evict-all-threshold:500}")
+    private int evictAllThreshold;
+
+    public SecondLevelCacheEvictor(EntityManagerFactory entityManagerFactory,
+                                   TranslationChangeHub changeHub,
+                                   @Value("${app.invalidation-bus.enabled:true}") boolean invalidationBusEnabled) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        if (invalidationBusEnabled) {
+            changeHub.addListener(this);
+        }
+    }
+
+    @Override
+    public void onChanges(List<TranslationChange> changes) {
+        if (changes.size() > evictAllThreshold) {
+            cache.evictCollectionData(TRANSLATION_TAGS_ROLE);
+        } else {
+            for (TranslationChange change : changes) {
+                cache.evictCollectionData(TRANSLATION_TAGS_ROLE, change.getTranslationId());
+            }
+        }
+        cache.evictQueryRegion(TRANSLATION_LOOKUPS_REGION);
+        cache.evictQueryRegion(KEY_LOOKUPS_REGION);
+        cache.evictQueryRegion(TAG_LOOKUPS_REGION);
+        logger.debug("Evicted second-level cache entries for {} changes", changes.size());
+    }
+
+    /**
+     * Evicts every cached tag collection and translation lookup.
+     */
+    public void evictTranslations() {
+        cache.evictCollectionData(TRANSLATION_TAGS_ROLE);
+        cache.evictQueryRegion(TRANSLATION_LOOKUPS_REGION);
+        logger.debug("Evicted all translation entries from the second-level cache");
+    }
+}
@@ -5,6 +5,7 @@ import com.digitaltolk.translationservice.api.dto.TagDto;
 import com.digitaltolk.translationservice.api.mapper.TagMapper;
 import com.digitaltolk.translationservice.domain.entity.Tag;
 import com.digitaltolk.translationservice.domain.repository.TagRepository;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -14,10 +15,13 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Transactional
+@Timed(value = "translation.service", description = "Translation service calls", histogram = true)
 public class TagService {
 
     private static final Logger logger = LoggerFactory.getLogger(TagService.class);
@@ -43,7 +47,7 @@ public class TagService {
         Pageable pageable = PageRequest.of(page, size, sort);
         Page<Tag> tagsPage = tagRepository.findAll(pageable);
 
-        List<TagDto> tagDtos = tagMapper.toDtoList(tagsPage.getContent());
+        List<TagDto> tagDtos = toDtosWithCounts(tagsPage.getContent());
 
         return new PagedResponse<>(
             tagDtos,
@@ -62,7 +66,7 @@ public class TagService {
         Pageable pageable = PageRequest.of(page, size, Sort.by("name"));
         Page<Tag> tagsPage = tagRepository.findByNameContainingIgnoreCase(namePattern, pageable);
 
-        List<TagDto> tagDtos = tagMapper.toDtoList(tagsPage.getContent());
+        List<TagDto> tagDtos = toDtosWithCounts(tagsPage.getContent());
 
         return new PagedResponse<>(
             tagDtos,
@@ -79,7 +83,21 @@ public class TagService {
         logger.debug("Fetching tags for translation key: {}", translationKey);
 
         List<Tag> tags = tagRepository.findByTranslationKey(translationKey);
-        return tagMapper.toDtoList(tags);
+        return toDtosWithCounts(tags);
+    }
+
+    /**
+     * Maps the tags with their translation counts, fetched in one grouped query for all of them.
+     */
+    private List<TagDto> toDtosWithCounts(List<Tag> tags) {
+        Map<Long, Long> translationCounts = new HashMap<>();
+        if (!tags.isEmpty()) {
+            List<Long> tagIds = tags.stream().map(Tag::getId).toList();
+            for (Object[] row : tagRepository.countTranslationsByTagIds(tagIds)) {
+                translationCounts.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+            }
+        }
+        return tagMapper.toDtoList(tags, translationCounts);
     }
 
 }
@@ -0,0 +1,60 @@
+package com.digitaltolk.translationservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * One token bucket per client, refilled continuously at a fixed rate.
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding the time at which it will be full again (the generic cell
+ * rate algorithm), so taking a token is one compare-and-set and never blocks. Buckets live in a bounded Caffeine
+ * cache, whose concurrent map locks only per bin and only while a client is first added. A bucket idle for longer
+ * than a full refill is dropped; it would be full anyway.
+ * <p>
+ * Shared with the reactive read API, which limits its export endpoint the same way.
+ */
+public final class TokenBucketRateLimiter {
+
+    private final long nanosPerToken;
+    private final long capacityNanos;
+    private final LongSupplier nanoClock;
+    private final Cache<String, AtomicLong> buckets;
+
+    public TokenBucketRateLimiter(int tokensPerMinute, int capacity, long maxClients, LongSupplier nanoClock) {
+        if (tokensPerMinute < 1 || capacity < 1) {
+            throw new IllegalArgumentException("Rate and capacity must be at least 1");
+        }
+        this.nanosPerToken = Duration.ofMinutes(1).toNanos() / tokensPerMinute;
+        this.capacityNanos = nanosPerToken * capacity;
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(Duration.ofNanos(capacityNanos))
+                .build();
+    }
+
+    /**
+     * Takes a token from the client's bucket.
+     *
+     * @return 0 if a token was taken, otherwise the nanoseconds until the next token is available
+     */
+    public long tryAcquire(String client) {
+        AtomicLong fullAt = buckets.get(client, key -> new AtomicLong(nanoClock.getAsLong()));
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = fullAt.get();
+            long next = (current - now > 0 ? current : now) + nanosPerToken;
+            long wait = next - now - capacityNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
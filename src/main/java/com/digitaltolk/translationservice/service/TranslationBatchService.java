@@ -0,0 +1,230 @@
+package com.digitaltolk.translationservice.service;
+
+import com.digitaltolk.translationservice.api.dto.BatchOperation;
+import com.digitaltolk.translationservice.api.dto.BatchOperationResult;
+import com.digitaltolk.translationservice.api.dto.BatchRequest;
+import com.digitaltolk.translationservice.api.dto.BatchResponse;
+import com.digitaltolk.translationservice.api.dto.TranslationDto;
+import com.digitaltolk.translationservice.api.dto.TranslationPatchRequest;
+import com.digitaltolk.translationservice.api.mapper.TranslationMapper;
+import com.digitaltolk.translationservice.domain.entity.Translation;
+import com.digitaltolk.translationservice.domain.repository.TranslationRepository;
+import com.digitaltolk.translationservice.exception.DuplicateResourceException;
+import com.digitaltolk.translationservice.exception.ResourceNotFoundException;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs an ordered list of translation reads and writes in one request.
+ * <p>
+ * In {@link BatchRequest.Mode#ATOMIC} mode all operations share one transaction, so the cache evictions and the
+ * change log signal that {@link TranslationCacheEvictor} and {@link TranslationChangeLog} hold until commit are
+ * applied once for the whole batch, and nothing is applied if any operation fails. The change log buffers the
+ * batch's changes and appends them in one statement at commit, so its append lock, which every writer needs,
+ * is only held for that. In {@link BatchRequest.Mode#PER_OPERATION} mode each operation commits on its own and
+ * failures do not stop the batch; the change hub still collapses the resulting signals into as few reads as it
+ * can.
+ * <p>
+ * Reads see the writes before them in the batch: they go to the database rather than the cache, whose entries
+ * are only evicted after commit, and in ATOMIC mode the persistence context is flushed and cleared between
+ * operations so that no operation sees entities left stale by another's bulk update.
+ */
+@Service
+public class TranslationBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslationBatchService.class);
+
+    private final TranslationService translationService;
+    private final TranslationRepository translationRepository;
+    private final TranslationMapper translationMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxOperations;
+    private final BatchRequest.Mode defaultMode;
+
+    public TranslationBatchService(TranslationService translationService,
+                                   TranslationRepository translationRepository,
+                                   TranslationMapper translationMapper,
+                                   EntityManager entityManager,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.batch.max-operations:500}") int maxOperations,
+                                   @Value("${app.batch.default-mode:ATOMIC}") BatchRequest.Mode defaultMode) {
+        this.translationService = translationService;
+        this.translationRepository = translationRepository;
+        this.translationMapper = translationMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxOperations = maxOperations;
+        this.defaultMode = defaultMode;
+    }
+
+    /**
+     * @param mayDelete whether the caller may run DELETE operations; those of other callers fail with 403
+     * @throws IllegalArgumentException if the batch has more than {@code app.batch.max-operations} operations
+     */
+    public BatchResponse execute(BatchRequest request, boolean mayDelete) {
+        List<BatchOperation> operations = request.getOperations();
+        if (operations.size() > maxOperations) {
+            throw new IllegalArgumentException(
+                String.format("A batch may contain at most %d operations, got %d", maxOperations, operations.size()));
+        }
+        BatchRequest.Mode mode = request.getMode() != null ? request.getMode() : defaultMode;
+        logger.debug("Running batch of {} operation(s) in {} mode", operations.size(), mode);
+
+        BatchResponse response = mode == BatchRequest.Mode.ATOMIC
+                ? executeAtomically(operations, mayDelete)
+                : executeEach(operations, mayDelete);
+        logger.info("Ran batch of {} operation(s) in {} mode, {} failed",
+                   operations.size(), mode, response.getFailedCount());
+        return response;
+    }
+
+    private BatchResponse executeAtomically(List<BatchOperation> operations, boolean mayDelete) {
+        List<BatchOperationResult> results = new ArrayList<>(operations.size());
+        BatchOperationResult failure = transactionTemplate.execute(status -> {
+            for (int i = 0; i < operations.size(); i++) {
+                try {
+                    results.add(apply(i, operations.get(i), mayDelete));
+                    entityManager.flush();
+                    entityManager.clear();
+                } catch (RuntimeException e) {
+                    status.setRollbackOnly();
+                    return failed(i, operations.get(i), e);
+                }
+            }
+            return null;
+        });
+        if (failure == null) {
+            return new BatchResponse(BatchRequest.Mode.ATOMIC, results);
+        }
+
+        List<BatchOperationResult> rolledBack = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            if (i == failure.getIndex()) {
+                rolledBack.add(failure);
+            } else {
+                rolledBack.add(new BatchOperationResult(i, operations.get(i).getType(),
+                        HttpStatus.FAILED_DEPENDENCY.value(), null,
+                        String.format("%s because operation %d failed",
+                                i < failure.getIndex() ? "Rolled back" : "Not run", failure.getIndex())));
+            }
+        }
+        return new BatchResponse(BatchRequest.Mode.ATOMIC, rolledBack);
+    }
+
+    private BatchResponse executeEach(List<BatchOperation> operations, boolean mayDelete) {
+        List<BatchOperationResult> results = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            int index = i;
+            BatchOperation operation = operations.get(i);
+            try {
+                results.add(transactionTemplate.execute(status -> apply(index, operation, mayDelete)));
+            } catch (RuntimeException e) {
+                results.add(failed(index, operation, e));
+            }
+        }
+        return new BatchResponse(BatchRequest.Mode.PER_OPERATION, results);
+    }
+
+    private BatchOperationResult apply(int index, BatchOperation operation, boolean mayDelete) {
+        BatchOperation.Type type = operation.getType();
+        return switch (type) {
+            case GET -> new BatchOperationResult(index, type, HttpStatus.OK.value(), read(operation), null);
+            case CREATE -> new BatchOperationResult(index, type, HttpStatus.CREATED.value(),
+                    translationService.createTranslation(toDto(operation)), null);
+            case UPSERT -> new BatchOperationResult(index, type, HttpStatus.OK.value(),
+                    translationService.upsertTranslation(toDto(operation)), null);
+            case UPDATE -> new BatchOperationResult(index, type, HttpStatus.OK.value(),
+                    translationService.updateTranslation(require(operation.getId(), "id", type), toDto(operation)), null);
+            case PATCH -> new BatchOperationResult(index, type, HttpStatus.OK.value(),
+                    translationService.patchTranslation(require(operation.getKey(), "key", type),
+                            require(operation.getLocale(), "locale", type), toPatch(operation)), null);
+            case DELETE -> {
+                if (!mayDelete) {
+                    throw new AccessDeniedException("Deleting translations requires the ADMIN role");
+                }
+                translationService.deleteTranslation(require(operation.getId(), "id", type));
+                yield new BatchOperationResult(index, type, HttpStatus.NO_CONTENT.value(), null, null);
+            }
+        };
+    }
+
+    private TranslationDto read(BatchOperation operation) {
+        Translation translation;
+        if (operation.getId() != null) {
+            translation = translationRepository.findById(operation.getId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Translation not found with ID: " + operation.getId()));
+        } else {
+            String key = require(operation.getKey(), "key", operation.getType());
+            String locale = require(operation.getLocale(), "locale", operation.getType());
+            translation = translationRepository.findByKeyAndLocale(key, locale)
+                    .orElseThrow(() -> new ResourceNotFoundException(
+                        String.format("Translation not found with key '%s' and locale '%s'", key, locale)));
+        }
+        return translationMapper.toDto(translation);
+    }
+
+    private static TranslationDto toDto(BatchOperation operation) {
+        TranslationDto dto = new TranslationDto(
+                require(operation.getKey(), "key", operation.getType()),
+                require(operation.getLocale(), "locale", operation.getType()),
+                require(operation.getContent(), "content", operation.getType()));
+        dto.setTags(operation.getTags());
+        return dto;
+    }
+
+    private static TranslationPatchRequest toPatch(BatchOperation operation) {
+        TranslationPatchRequest patch = new TranslationPatchRequest();
+        patch.setContent(operation.getContent());
+        patch.setTags(operation.getTags());
+        patch.setVersion(operation.getVersion());
+        return patch;
+    }
+
+    private static <T> T require(T value, String field, BatchOperation.Type type) {
+        if (value == null || value instanceof String text && text.isBlank()) {
+            throw new IllegalArgumentException(String.format("%s operations require %s", type, field));
+        }
+        return value;
+    }
+
+    private static BatchOperationResult failed(int index, BatchOperation operation, RuntimeException e) {
+        HttpStatus status = statusOf(e);
+        if (status == HttpStatus.INTERNAL_SERVER_ERROR) {
+            logger.error("Batch operation {} ({}) failed", index, operation.getType(), e);
+        } else {
+            logger.debug("Batch operation {} ({}) failed: {}", index, operation.getType(), e.getMessage());
+        }
+        String error = status == HttpStatus.INTERNAL_SERVER_ERROR ? "An unexpected error occurred" : e.getMessage();
+        return new BatchOperationResult(index, operation.getType(), status.value(), null, error);
+    }
+
+    private static HttpStatus statusOf(RuntimeException e) {
+        if (e instanceof ResourceNotFoundException) {
+            return HttpStatus.NOT_FOUND;
+        }
+        if (e instanceof DuplicateResourceException || e instanceof OptimisticLockingFailureException
+                || e instanceof DataIntegrityViolationException) {
+            return HttpStatus.CONFLICT;
+        }
+        if (e instanceof IllegalArgumentException) {
+            return HttpStatus.BAD_REQUEST;
+        }
+        if (e instanceof AccessDeniedException) {
+            return HttpStatus.FORBIDDEN;
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+}
@@ -0,0 +1,324 @@
+package com.digitaltolk.translationservice.service;
+
+import com.digitaltolk.translationservice.domain.entity.TranslationChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Targeted eviction of translation cache entries.
+ * <p>
+ * Inside a transaction the evictions are collected and applied once after commit, so a rolled back
+ * write never evicts and several writes in one transaction share a single eviction pass.
+ * <p>
+ * With the invalidation bus enabled the evictor also listens to the {@link TranslationChangeHub}, so changes
+ * committed on other nodes evict their entries here too, in case their writer died before evicting. The hub
+ * must not block, so these evictions run on a thread of their own, batches arriving meanwhile merging into
+ * one pass. Entries this node evicts after its own commits are skipped: the change log's
+ * {@linkplain TranslationChangeLog#getAppendedRevision() appended revision} tells which changes had
+ * committed by then.
+ */
+@Component
+public class TranslationCacheEvictor implements TranslationChangeHub.Listener, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslationCacheEvictor.class);
+
+    static final String TRANSLATIONS_CACHE = "translations";
+    static final String EXPORT_CACHE = "export";
+    static final String LOCALES_CACHE = "locales";
+    static final String ALL_LOCALES_EXPORT_KEY = "all";
+
+    private static final Object ALL_LOCALES_KEY = "*";
+
+    private final CacheManager cacheManager;
+    private final TranslationChangeLog changeLog;
+    private final SecondLevelCacheEvictor secondLevelCacheEvictor;
+    private final ExecutorService evictionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cache-evictor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Latest revision whose changes had committed when this node evicted the entry, by cache and key.
+     */
+    private final Map<CachedEntry, Long> evictedLocally = new ConcurrentHashMap<>();
+    private final AtomicLong clearedLocallyAt = new AtomicLong(-1);
+
+    private final Object backlogLock = new Object();
+    private List<TranslationChange> backlog = new ArrayList<>();
+    private boolean backlogOverflowed;
+    private long backlogRevision = -1;
+    private boolean backlogScheduled;
+
+    @Value("${app.invalidation-bus.evict-all-threshold:500}")
+    private int evictAllThreshold;
+
+    public TranslationCacheEvictor(CacheManager cacheManager,
+                                   TranslationChangeHub changeHub,
+                                   TranslationChangeLog changeLog,
+                                   SecondLevelCacheEvictor secondLevelCacheEvictor,
+                                   @Value("${app.invalidation-bus.enabled:true}") boolean invalidationBusEnabled) {
+        this.cacheManager = cacheManager;
+        this.changeLog = changeLog;
+        this.secondLevelCacheEvictor = secondLevelCacheEvictor;
+        if (invalidationBusEnabled) {
+            changeHub.addListener(this);
+        }
+    }
+
+    public void evictTranslation(Long id, String key, String locale) {
+        PendingEvictions pending = pendingEvictions();
+        if (id != null) {
+            pending.translationKeys.add(id);
+        }
+        pending.translationKeys.add(key + "_" + locale);
+        pending.exportKeys.add(locale);
+        pending.exportKeys.add(ALL_LOCALES_EXPORT_KEY);
+        applyIfNoTransaction(pending);
+    }
+
+    /**
+     * Drops the cached locale list, for writes that may add or remove a locale.
+     */
+    public void evictLocales() {
+        PendingEvictions pending = pendingEvictions();
+        pending.evictLocales = true;
+        applyIfNoTransaction(pending);
+    }
+
+    /**
+     * Clears every translation-derived cache. Meant for bulk changes where per-entry eviction would cost
+     * more than rebuilding the caches, and for bulk native statements Hibernate cannot track: the
+     * translations in the second-level cache are evicted in the same step, just before the Redis caches are
+     * cleared, so a lookup cannot put a removed translation it found there back into Redis.
+     */
+    public void evictAll() {
+        PendingEvictions pending = pendingEvictions();
+        pending.clearAll = true;
+        applyIfNoTransaction(pending);
+    }
+
+    /**
+     * Queues the changes for eviction on the evictor's thread and returns at once.
+     */
+    @Override
+    public void onChanges(List<TranslationChange> changes) {
+        synchronized (backlogLock) {
+            if (!backlogOverflowed) {
+                backlog.addAll(changes);
+                if (backlog.size() > evictAllThreshold) {
+                    backlogOverflowed = true;
+                    backlog = new ArrayList<>();
+                }
+            }
+            backlogRevision = changes.get(changes.size() - 1).getRevision();
+            if (backlogScheduled) {
+                return;
+            }
+            backlogScheduled = true;
+        }
+        evictionExecutor.execute(this::evictBacklog);
+    }
+
+    private void evictBacklog() {
+        List<TranslationChange> changes;
+        boolean overflowed;
+        long revision;
+        synchronized (backlogLock) {
+            changes = backlog;
+            overflowed = backlogOverflowed;
+            revision = backlogRevision;
+            backlog = new ArrayList<>();
+            backlogOverflowed = false;
+            backlogScheduled = false;
+        }
+
+        try {
+            PendingEvictions pending = new PendingEvictions();
+            if (overflowed) {
+                pending.clearAll = true;
+            } else {
+                int evicting = 0;
+                for (TranslationChange change : changes) {
+                    if (addUnlessEvictedLocally(pending, change)) {
+                        evicting++;
+                    }
+                }
+                pending.clearAll = evicting > evictAllThreshold;
+            }
+            apply(pending);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to evict cache entries for changes up to revision {}", revision, e);
+        } finally {
+            // Later changes have higher revisions, so these local evictions cannot cover any of them
+            evictedLocally.values().removeIf(evictedAt -> evictedAt <= revision);
+        }
+    }
+
+    /**
+     * Adds the entries {@code change} affects, except those evicted here after it had committed. Returns
+     * whether any were added.
+     */
+    private boolean addUnlessEvictedLocally(PendingEvictions pending, TranslationChange change) {
+        long revision = change.getRevision();
+        if (clearedLocallyAt.get() >= revision) {
+            return false;
+        }
+        boolean added = addUnlessEvictedLocally(pending.translationKeys, TRANSLATIONS_CACHE, change.getTranslationId(), revision);
+        added |= addUnlessEvictedLocally(pending.translationKeys, TRANSLATIONS_CACHE,
+                change.getKey() + "_" + change.getLocale(), revision);
+        added |= addUnlessEvictedLocally(pending.exportKeys, EXPORT_CACHE, change.getLocale(), revision);
+        added |= addUnlessEvictedLocally(pending.exportKeys, EXPORT_CACHE, ALL_LOCALES_EXPORT_KEY, revision);
+        if (change.getOperation() != TranslationChange.Operation.UPDATE
+                && !evictedLocally(LOCALES_CACHE, ALL_LOCALES_KEY, revision)) {
+            pending.evictLocales = true;
+            added = true;
+        }
+        return added;
+    }
+
+    private boolean addUnlessEvictedLocally(Set<Object> keys, String cacheName, Object key, long revision) {
+        if (evictedLocally(cacheName, key, revision)) {
+            return false;
+        }
+        keys.add(key);
+        return true;
+    }
+
+    private boolean evictedLocally(String cacheName, Object key, long revision) {
+        Long evictedAt = evictedLocally.get(new CachedEntry(cacheName, key));
+        return evictedAt != null && evictedAt >= revision;
+    }
+
+    /**
+     * Notes the entries a committing transaction is about to evict, so that the bus does not evict them again
+     * for changes committed up to {@code revision}. Returns false if the transaction appended no changes.
+     */
+    private boolean rememberEvictedLocally(PendingEvictions pending, long revision) {
+        if (revision < 0) {
+            return false;
+        }
+        if (pending.clearAll) {
+            clearedLocallyAt.accumulateAndGet(revision, Math::max);
+            return true;
+        }
+        for (Object key : pending.translationKeys) {
+            evictedLocally.merge(new CachedEntry(TRANSLATIONS_CACHE, key), revision, Math::max);
+        }
+        for (Object key : pending.exportKeys) {
+            evictedLocally.merge(new CachedEntry(EXPORT_CACHE, key), revision, Math::max);
+        }
+        if (pending.evictLocales) {
+            evictedLocally.merge(new CachedEntry(LOCALES_CACHE, ALL_LOCALES_KEY), revision, Math::max);
+        }
+        return true;
+    }
+
+    private PendingEvictions pendingEvictions() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new PendingEvictions();
+        }
+        PendingEvictions pending = (PendingEvictions) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            PendingEvictions created = new PendingEvictions();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private boolean remembered;
+
+                // Before commit, as this node's own NOTIFY may reach the hub before afterCommit runs
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    remembered = rememberEvictedLocally(created, changeLog.getAppendedRevision());
+                }
+
+                @Override
+                public void afterCommit() {
+                    apply(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TranslationCacheEvictor.this);
+                    // Keeps the promise made before commit, should the commit itself have failed
+                    if (remembered && status != STATUS_COMMITTED) {
+                        apply(created);
+                    }
+                }
+            });
+            pending = created;
+        }
+        return pending;
+    }
+
+    private void applyIfNoTransaction(PendingEvictions pending) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(pending);
+        }
+    }
+
+    private void apply(PendingEvictions pending) {
+        if (pending.clearAll) {
+            secondLevelCacheEvictor.evictTranslations();
+            clear(TRANSLATIONS_CACHE);
+            clear(EXPORT_CACHE);
+            clear(LOCALES_CACHE);
+            return;
+        }
+        evict(TRANSLATIONS_CACHE, pending.translationKeys);
+        evict(EXPORT_CACHE, pending.exportKeys);
+        if (pending.evictLocales) {
+            clear(LOCALES_CACHE);
+        }
+    }
+
+    private void evict(String cacheName, Set<Object> keys) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null || keys.isEmpty()) {
+            return;
+        }
+        for (Object key : keys) {
+            cache.evict(key);
+        }
+        logger.debug("Evicted {} entries from cache '{}'", keys.size(), cacheName);
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+            logger.debug("Cleared cache '{}'", cacheName);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        evictionExecutor.shutdownNow();
+    }
+
+    private record CachedEntry(String cacheName, Object key) {
+    }
+
+    private static final class PendingEvictions {
+        private boolean clearAll;
+        private boolean evictLocales;
+        private final Set<Object> translationKeys = new LinkedHashSet<>();
+        private final Set<Object> exportKeys = new LinkedHashSet<>();
+    }
+}
@@ -0,0 +1,130 @@
+package com.digitaltolk.translationservice.service;
+
+import com.digitaltolk.translationservice.domain.entity.TranslationChange;
+import com.digitaltolk.translationservice.domain.repository.TranslationChangeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Node-local distribution point for committed translation changes.
+ * <p>
+ * Writers only {@link #signal()} that something committed; the hub then reads the change log from its own
+ * watermark on a single dispatcher thread and hands each batch to the registered listeners in revision order.
+ * Because the log is append-ordered by commit (see {@link TranslationChangeLog}), reading from the watermark
+ * never skips a change, and any number of signals arriving while a read is pending collapse into that read.
+ */
+@Component
+public class TranslationChangeHub implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslationChangeHub.class);
+
+    /**
+     * Receives batches of committed changes on the dispatcher thread. Implementations must not block.
+     */
+    public interface Listener {
+        void onChanges(List<TranslationChange> changes);
+    }
+
+    private final TranslationChangeRepository changeRepository;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "change-hub");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean readPending = new AtomicBoolean();
+
+    private volatile long revision = -1;
+
+    @Value("${app.change-hub.batch-size:1000}")
+    private int batchSize;
+
+    public TranslationChangeHub(TranslationChangeRepository changeRepository) {
+        this.changeRepository = changeRepository;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Latest revision dispatched to listeners, or -1 before the hub has started.
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Notes that new changes may have been committed. Cheap and safe to call from any thread.
+     */
+    public void signal() {
+        if (readPending.compareAndSet(false, true)) {
+            dispatcher.execute(this::dispatchPending);
+        }
+    }
+
+    /**
+     * Runs a task on the dispatcher thread, ordered with change dispatch. Used to register subscribers that
+     * first replay missed changes, so that replay and live changes can neither overlap nor leave a gap.
+     */
+    public void execute(Runnable task) {
+        dispatcher.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.warn("Change hub task failed", e);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        dispatcher.execute(() -> {
+            revision = changeRepository.findLatestRevision();
+            logger.info("Change hub started at revision {}", revision);
+        });
+    }
+
+    private void dispatchPending() {
+        readPending.set(false);
+        if (revision < 0) {
+            return;
+        }
+        try {
+            List<TranslationChange> changes;
+            do {
+                changes = changeRepository.findSince(revision, null, PageRequest.of(0, batchSize));
+                if (changes.isEmpty()) {
+                    return;
+                }
+                revision = changes.get(changes.size() - 1).getRevision();
+                for (Listener listener : listeners) {
+                    try {
+                        listener.onChanges(changes);
+                    } catch (RuntimeException e) {
+                        logger.warn("Change listener {} failed", listener.getClass().getSimpleName(), e);
+                    }
+                }
+            } while (changes.size() == batchSize);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to read translation changes after revision {}", revision, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        dispatcher.shutdownNow();
+    }
+}
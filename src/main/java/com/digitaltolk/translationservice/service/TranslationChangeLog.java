@@ -0,0 +1,213 @@
+package com.digitaltolk.translationservice.service;
+
+import com.digitaltolk.translationservice.domain.entity.TranslationChange;
+import com.digitaltolk.translationservice.domain.projection.LocalizedContent;
+import com.digitaltolk.translationservice.domain.repository.TranslationChangeRepository;
+import org.springframework.core.Ordered;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Appends translation writes to the {@code translation_changes} log in the caller's transaction.
+ * <p>
+ * Revisions come from a sequence, which hands out numbers in call order rather than commit order. To keep
+ * the log gap-free for readers polling by revision, appends are serialized by a transaction-scoped advisory
+ * lock, held until commit. So that a long transaction (an ATOMIC batch, say) does not keep every other writer
+ * waiting, changes are buffered as they are recorded and only appended, in one statement under the lock, just
+ * before the transaction commits. Once it has committed, the local {@link TranslationChangeHub} is signalled
+ * to pick the new entries up, and a {@code NOTIFY} on {@value #NOTIFY_CHANNEL}, queued with the append, wakes
+ * the hubs of the other nodes.
+ * <p>
+ * A trigger copies every appended change into {@code translation_history} (see the V8 migration), which
+ * {@link #findContentAsOf} reads to reconstruct earlier revisions.
+ */
+@Component
+@Transactional(propagation = Propagation.MANDATORY)
+public class TranslationChangeLog {
+
+    static final long APPEND_LOCK_KEY = 0x7472616e736c6174L;
+    public static final String NOTIFY_CHANNEL = "translation_changes";
+    // Where the deletes noted by recordLocaleDeletion go among the pending changes
+    private static final PendingChange DELETED_TRANSLATIONS = new PendingChange(null, null, null, null, null);
+
+    private final TranslationChangeRepository changeRepository;
+    private final TranslationChangeHub changeHub;
+
+    public TranslationChangeLog(TranslationChangeRepository changeRepository, TranslationChangeHub changeHub) {
+        this.changeRepository = changeRepository;
+        this.changeHub = changeHub;
+    }
+
+    public void recordCreate(Long translationId, String key, String locale, String content) {
+        append(translationId, key, locale, TranslationChange.Operation.CREATE, content);
+    }
+
+    public void recordUpdate(Long translationId, String key, String locale, String content) {
+        append(translationId, key, locale, TranslationChange.Operation.UPDATE, content);
+    }
+
+    public void recordDelete(Long translationId, String key, String locale) {
+        append(translationId, key, locale, TranslationChange.Operation.DELETE, null);
+    }
+
+    /**
+     * Records one change per existing translation in {@code ids}, taking key, locale and content from the
+     * current rows. Deletes must therefore be recorded before the rows are removed.
+     */
+    public void recordForIds(Collection<Long> ids, TranslationChange.Operation operation) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = changeRepository.findLoggedFields(ids);
+        AppendState state = appendState();
+        for (Object[] row : rows) {
+            state.pending.add(new PendingChange(((Number) row[0]).longValue(), (String) row[1], (String) row[2],
+                    operation, operation == TranslationChange.Operation.DELETE ? null : (String) row[3]));
+        }
+    }
+
+    /**
+     * Deletes every translation of {@code locale} with {@code deletion} and records a delete for each. The
+     * translations are noted in a temporary table before the deletion, as the rows are gone afterwards.
+     */
+    public <T> T recordLocaleDeletion(String locale, Supplier<T> deletion) {
+        AppendState state = appendState();
+        if (!state.deletedTranslations) {
+            changeRepository.createDeletedTranslations();
+            state.deletedTranslations = true;
+            state.pending.add(DELETED_TRANSLATIONS);
+        }
+        changeRepository.copyToDeletedTranslations(locale);
+        return deletion.get();
+    }
+
+    /**
+     * Latest revision appended by the current transaction, once it is committing, or -1 if it recorded nothing.
+     * As appends are serialized up to commit, every change up to this revision committed no later than this
+     * transaction did.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long getAppendedRevision() {
+        AppendState state = (AppendState) TransactionSynchronizationManager.getResource(this);
+        return state != null ? state.revision : -1;
+    }
+
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<TranslationChange> findSince(long since, String locale, int limit) {
+        return changeRepository.findSince(since, locale, PageRequest.of(0, limit));
+    }
+
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public long getLatestRevision() {
+        return changeRepository.findLatestRevision();
+    }
+
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public long findRevisionAt(LocalDateTime at) {
+        return changeRepository.findRevisionAt(at);
+    }
+
+    /**
+     * Content of every translation as of {@code revision}, from the version history. A null {@code locale}
+     * reads all locales.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<LocalizedContent> findContentAsOf(String locale, long revision) {
+        List<Object[]> rows = locale != null
+                ? changeRepository.findContentAsOf(locale, revision)
+                : changeRepository.findAllContentAsOf(revision);
+        return rows.stream()
+                .map(row -> new LocalizedContent((String) row[0], (String) row[1], (String) row[2]))
+                .toList();
+    }
+
+    private void append(Long translationId, String key, String locale,
+                        TranslationChange.Operation operation, String content) {
+        appendState().pending.add(new PendingChange(translationId, key, locale, operation, content));
+    }
+
+    private AppendState appendState() {
+        AppendState existing = (AppendState) TransactionSynchronizationManager.getResource(this);
+        if (existing != null) {
+            return existing;
+        }
+        AppendState state = new AppendState();
+        TransactionSynchronizationManager.bindResource(this, state);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            // First, so that other synchronizations see the appended revision before commit
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                if (state.pending.isEmpty()) {
+                    return;
+                }
+                changeRepository.acquireAppendLock(APPEND_LOCK_KEY);
+                appendPending(state.pending);
+                Long revision = changeRepository.notifyCommit(NOTIFY_CHANNEL);
+                state.revision = revision != null ? revision : -1;
+            }
+
+            @Override
+            public void afterCommit() {
+                if (!state.pending.isEmpty()) {
+                    changeHub.signal();
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TranslationChangeLog.this);
+            }
+        });
+        return state;
+    }
+
+    /**
+     * Appends {@code pending} in order, the changes between locale deletions in one statement each.
+     */
+    private void appendPending(List<PendingChange> pending) {
+        int from = 0;
+        for (int i = 0; i <= pending.size(); i++) {
+            if (i < pending.size() && pending.get(i) != DELETED_TRANSLATIONS) {
+                continue;
+            }
+            if (i > from) {
+                List<PendingChange> changes = pending.subList(from, i);
+                changeRepository.appendAll(
+                        changes.stream().map(PendingChange::translationId).toArray(Long[]::new),
+                        changes.stream().map(PendingChange::key).toArray(String[]::new),
+                        changes.stream().map(PendingChange::locale).toArray(String[]::new),
+                        changes.stream().map(change -> change.operation().name()).toArray(String[]::new),
+                        changes.stream().map(PendingChange::content).toArray(String[]::new));
+            }
+            if (i < pending.size()) {
+                changeRepository.appendDeletedTranslations();
+            }
+            from = i + 1;
+        }
+    }
+
+    private record PendingChange(Long translationId, String key, String locale,
+                                 TranslationChange.Operation operation, String content) {
+    }
+
+    private static final class AppendState {
+        private final List<PendingChange> pending = new ArrayList<>();
+        private boolean deletedTranslations;
+        private long revision = -1;
+    }
+}
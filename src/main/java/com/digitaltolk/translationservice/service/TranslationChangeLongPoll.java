@@ -0,0 +1,163 @@
+package com.digitaltolk.translationservice.service;
+
+import com.digitaltolk.translationservice.api.dto.TranslationChangeFeedResponse;
+import com.digitaltolk.translationservice.api.mapper.TranslationMapper;
+import com.digitaltolk.translationservice.domain.entity.TranslationChange;
+import com.digitaltolk.translationservice.domain.repository.TranslationChangeRepository;
+import com.digitaltolk.translationservice.exception.CapacityExceededException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Parks "anything newer than revision N?" requests until a matching change commits or the request times out.
+ * <p>
+ * Waiting requests hold no servlet thread: each is a {@link DeferredResult} kept in a registry and completed
+ * from the {@link TranslationChangeHub} dispatcher. Registration also runs on the dispatcher, after checking the
+ * change log for anything the client has already missed, so a change can never slip in between the check and
+ * the wait.
+ */
+@Component
+public class TranslationChangeLongPoll implements TranslationChangeHub.Listener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslationChangeLongPoll.class);
+
+    private final TranslationChangeHub changeHub;
+    private final TranslationChangeRepository changeRepository;
+    private final TranslationMapper translationMapper;
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    @Value("${app.change-long-poll.max-waiters:20000}")
+    private int maxWaiters;
+
+    public TranslationChangeLongPoll(TranslationChangeHub changeHub,
+                                     TranslationChangeRepository changeRepository,
+                                     TranslationMapper translationMapper) {
+        this.changeHub = changeHub;
+        this.changeRepository = changeRepository;
+        this.translationMapper = translationMapper;
+        changeHub.addListener(this);
+    }
+
+    /**
+     * Returns a result that completes with the changes after {@code since} for the given locales (all when
+     * empty) as soon as there are any, or with an empty page once {@code timeoutMillis} elapses.
+     */
+    public DeferredResult<TranslationChangeFeedResponse> await(long since, Set<String> locales, int limit, long timeoutMillis) {
+        if (pending.incrementAndGet() > maxWaiters) {
+            pending.decrementAndGet();
+            throw new CapacityExceededException("Too many waiting change requests on this node", 5);
+        }
+
+        DeferredResult<TranslationChangeFeedResponse> result = new DeferredResult<>(timeoutMillis);
+        Waiter waiter = new Waiter(since, locales, limit, result);
+        result.onTimeout(() -> result.setResult(emptyResponse(waiter)));
+        result.onCompletion(() -> {
+            waiters.remove(waiter);
+            pending.decrementAndGet();
+        });
+
+        changeHub.execute(() -> register(waiter));
+        return result;
+    }
+
+    @Override
+    public void onChanges(List<TranslationChange> changes) {
+        if (waiters.isEmpty()) {
+            return;
+        }
+
+        long batchRevision = changes.get(changes.size() - 1).getRevision();
+        for (Waiter waiter : waiters) {
+            List<TranslationChange> matching = changes.stream()
+                    .filter(change -> change.getRevision() > waiter.since && waiter.accepts(change.getLocale()))
+                    .collect(Collectors.toList());
+            if (!matching.isEmpty()) {
+                waiters.remove(waiter);
+                waiter.result.setResult(toResponse(matching, waiter.limit, batchRevision));
+            } else {
+                waiter.since = Math.max(waiter.since, batchRevision);
+            }
+        }
+    }
+
+    private void register(Waiter waiter) {
+        if (waiter.result.isSetOrExpired()) {
+            return;
+        }
+
+        long revision = changeHub.getRevision();
+        if (revision > waiter.since) {
+            PageRequest page = PageRequest.of(0, waiter.limit + 1);
+            List<TranslationChange> missed = (waiter.locales.isEmpty()
+                    ? changeRepository.findSince(waiter.since, null, page)
+                    : changeRepository.findSinceInLocales(waiter.since, waiter.locales, page))
+                    .stream()
+                    .filter(change -> change.getRevision() <= revision)
+                    .collect(Collectors.toList());
+            if (!missed.isEmpty()) {
+                waiter.result.setResult(toResponse(missed, waiter.limit, revision));
+                return;
+            }
+            // Nothing relevant up to the hub's revision, so the client may skip ahead to it
+            waiter.since = revision;
+        }
+
+        waiters.add(waiter);
+        if (waiter.result.isSetOrExpired()) {
+            waiters.remove(waiter);
+        }
+        logger.debug("Parked change request after revision {} for locales {}", waiter.since, waiter.locales);
+    }
+
+    private TranslationChangeFeedResponse toResponse(List<TranslationChange> changes, int limit, long readUpTo) {
+        boolean hasMore = changes.size() > limit;
+        List<TranslationChange> page = hasMore ? changes.subList(0, limit) : changes;
+        long nextRevision = hasMore ? page.get(page.size() - 1).getRevision() : readUpTo;
+        return new TranslationChangeFeedResponse(
+            page.stream().map(translationMapper::toChangeDto).collect(Collectors.toList()),
+            nextRevision,
+            Math.max(readUpTo, nextRevision),
+            hasMore
+        );
+    }
+
+    /**
+     * Timeout response. {@code since} only moves forward past revisions the waiter has been shown, so it is
+     * a safe resume point even while a batch is being dispatched.
+     */
+    private TranslationChangeFeedResponse emptyResponse(Waiter waiter) {
+        long nextRevision = waiter.since;
+        return new TranslationChangeFeedResponse(new ArrayList<>(), nextRevision,
+                Math.max(nextRevision, changeHub.getRevision()), false);
+    }
+
+    private static final class Waiter {
+        private final Set<String> locales;
+        private final int limit;
+        private final DeferredResult<TranslationChangeFeedResponse> result;
+        private volatile long since;
+
+        private Waiter(long since, Set<String> locales, int limit, DeferredResult<TranslationChangeFeedResponse> result) {
+            this.since = since;
+            this.locales = locales;
+            this.limit = limit;
+            this.result = result;
+        }
+
+        private boolean accepts(String locale) {
+            return locales.isEmpty() || locales.contains(locale);
+        }
+    }
+}
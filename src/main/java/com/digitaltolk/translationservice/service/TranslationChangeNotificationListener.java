@@ -0,0 +1,144 @@
+package com.digitaltolk.translationservice.service;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+/**
+ * Cross-node half of the invalidation bus: keeps one dedicated connection (outside the pool) listening on
+ * {@link TranslationChangeLog#NOTIFY_CHANNEL} and signals the local {@link TranslationChangeHub} whenever another
+ * node commits translation changes.
+ * <p>
+ * Notifications carry no data; the hub always reads the change log from its own watermark, so a lost
+ * notification only delays delivery. After every (re)connect, and whenever the connection has been quiet for
+ * the resync interval, the hub is signalled anyway to close any gap left by a network blip.
+ */
+@Component
+@ConditionalOnProperty(name = "app.invalidation-bus.enabled", havingValue = "true", matchIfMissing = true)
+public class TranslationChangeNotificationListener implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslationChangeNotificationListener.class);
+
+    static final String APPLICATION_NAME = "translation-service-change-listener";
+
+    private final TranslationChangeHub changeHub;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int resyncIntervalMillis;
+    private final long maxReconnectDelayMillis;
+
+    private volatile boolean running;
+    private volatile Thread thread;
+    private volatile Connection connection;
+
+    public TranslationChangeNotificationListener(TranslationChangeHub changeHub,
+                                                 @Value("${spring.datasource.url}") String url,
+                                                 @Value("${spring.datasource.username}") String username,
+                                                 @Value("${spring.datasource.password}") String password,
+                                                 @Value("${app.invalidation-bus.resync-interval:30000}") int resyncIntervalMillis,
+                                                 @Value("${app.invalidation-bus.max-reconnect-delay:30000}") long maxReconnectDelayMillis) {
+        this.changeHub = changeHub;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.resyncIntervalMillis = resyncIntervalMillis;
+        this.maxReconnectDelayMillis = maxReconnectDelayMillis;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::listen, "change-notification-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = thread;
+        if (current != null) {
+            current.interrupt();
+        }
+        closeQuietly(connection);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        long reconnectDelay = 1000;
+        while (running) {
+            try (Connection conn = DriverManager.getConnection(url, connectionProperties())) {
+                connection = conn;
+                try (Statement statement = conn.createStatement()) {
+                    statement.execute("LISTEN " + TranslationChangeLog.NOTIFY_CHANNEL);
+                }
+                logger.info("Listening for translation change notifications");
+                reconnectDelay = 1000;
+
+                // Anything committed while we were not listening is picked up from the change log
+                changeHub.signal();
+
+                PGConnection pgConnection = conn.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(resyncIntervalMillis);
+                    boolean quiet = notifications == null || notifications.length == 0;
+                    if (quiet && !conn.isValid(5)) {
+                        throw new SQLException("Notification connection is no longer valid");
+                    }
+                    changeHub.signal();
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                logger.warn("Change notification connection lost, reconnecting in {} ms: {}", reconnectDelay, e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                reconnectDelay = Math.min(reconnectDelay * 2, maxReconnectDelayMillis);
+            } finally {
+                connection = null;
+            }
+        }
+    }
+
+    private Properties connectionProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("user", username);
+        if (password != null) {
+            properties.setProperty("password", password);
+        }
+        properties.setProperty("ApplicationName", APPLICATION_NAME);
+        return properties;
+    }
+
+    private static void closeQuietly(Connection conn) {
+        if (conn == null) {
+            return;
+        }
+        try {
+            conn.close();
+        } catch (SQLException e) {
+            logger.debug("Failed to close change notification connection", e);
+        }
+    }
+}
@@ -0,0 +1,380 @@
+package com.digitaltolk.translationservice.service;
+
+import com.digitaltolk.translationservice.api.mapper.TranslationMapper;
+import com.digitaltolk.translationservice.domain.entity.TranslationChange;
+import com.digitaltolk.translationservice.domain.repository.TranslationChangeRepository;
+import com.digitaltolk.translationservice.exception.CapacityExceededException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed translation changes to Server-Sent Events subscribers.
+ * <p>
+ * Each change is serialized once per batch and the same frame is queued to every interested subscriber. The
+ * hub thread only enqueues; a small writer pool drains each subscriber's queue, one writer per subscriber at a
+ * time. A subscriber whose bounded queue overflows has its backlog dropped and receives a single
+ * {@code resync} event instead, telling it to reload the export. Heartbeats come from one timer and are only
+ * sent to connections that have been idle for a full interval.
+ * <p>
+ * Servlet writes block while the client's socket buffer is full, so the same timer drops any subscriber whose
+ * send has not returned within {@code app.change-stream.send-timeout}; it reconnects and resumes from its
+ * Last-Event-ID. The stuck writer is left to the container's write timeout, and the pool gets a thread in
+ * its place until it returns, so one slow client cannot hold up the others.
+ */
+@Component
+public class TranslationChangeStream implements TranslationChangeHub.Listener, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslationChangeStream.class);
+
+    static final String READY_EVENT = "ready";
+    static final String CHANGE_EVENT = "change";
+    static final String RESYNC_EVENT = "resync";
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final TranslationChangeHub changeHub;
+    private final TranslationChangeRepository changeRepository;
+    private final TranslationMapper translationMapper;
+    private final ObjectMapper objectMapper;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ThreadPoolExecutor writers;
+    private final ScheduledExecutorService timer;
+    private final int writerThreads;
+    private final int maxSubscribers;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long heartbeatIntervalNanos;
+    private final long sendTimeoutNanos;
+    private int stalledWriters;
+
+    public TranslationChangeStream(TranslationChangeHub changeHub,
+                                   TranslationChangeRepository changeRepository,
+                                   TranslationMapper translationMapper,
+                                   ObjectMapper objectMapper,
+                                   @Value("${app.change-stream.max-subscribers:20000}") int maxSubscribers,
+                                   @Value("${app.change-stream.buffer-size:256}") int bufferSize,
+                                   @Value("${app.change-stream.timeout:1800000}") long timeoutMillis,
+                                   @Value("${app.change-stream.heartbeat-interval:15000}") long heartbeatIntervalMillis,
+                                   @Value("${app.change-stream.send-timeout:5000}") long sendTimeoutMillis,
+                                   @Value("${app.change-stream.writer-threads:4}") int writerThreads) {
+        this.changeHub = changeHub;
+        this.changeRepository = changeRepository;
+        this.translationMapper = translationMapper;
+        this.objectMapper = objectMapper;
+        this.maxSubscribers = maxSubscribers;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        this.heartbeatIntervalNanos = TimeUnit.MILLISECONDS.toNanos(heartbeatIntervalMillis);
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        this.writerThreads = writerThreads;
+
+        AtomicInteger writerCount = new AtomicInteger();
+        this.writers = new ThreadPoolExecutor(writerThreads, writerThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "change-stream-" + writerCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "change-stream-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timer.scheduleWithFixedDelay(this::sendHeartbeats,
+                heartbeatIntervalMillis, heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+        long stallCheckMillis = Math.max(sendTimeoutMillis / 4, 1);
+        this.timer.scheduleWithFixedDelay(this::dropStalledSubscribers,
+                stallCheckMillis, stallCheckMillis, TimeUnit.MILLISECONDS);
+
+        changeHub.addListener(this);
+    }
+
+    /**
+     * Opens a stream of changes for the given locales (all locales when empty). When {@code lastEventId} is
+     * given, changes committed after it are replayed first, or a resync is requested if too many were missed.
+     */
+    public SseEmitter subscribe(Set<String> locales, Long lastEventId) {
+        if (connections.incrementAndGet() > maxSubscribers) {
+            connections.decrementAndGet();
+            throw new CapacityExceededException("Too many change stream subscribers on this node", 5);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, locales, bufferSize);
+        emitter.onCompletion(() -> close(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(e -> close(subscriber));
+
+        changeHub.execute(() -> register(subscriber, lastEventId));
+        logger.debug("Change stream subscriber connected for locales {}", locales.isEmpty() ? "all" : locales);
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void onChanges(List<TranslationChange> changes) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        List<Frame> frames = new ArrayList<>(changes.size());
+        for (TranslationChange change : changes) {
+            frames.add(new Frame(change.getLocale(), changeEvent(change)));
+        }
+
+        for (Subscriber subscriber : subscribers) {
+            boolean queued = false;
+            for (Frame frame : frames) {
+                if (subscriber.accepts(frame.locale)) {
+                    subscriber.offer(frame.event);
+                    queued = true;
+                }
+            }
+            if (queued) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    private void register(Subscriber subscriber, Long lastEventId) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+
+        long revision = changeHub.getRevision();
+        if (lastEventId != null && revision >= 0 && lastEventId < revision) {
+            PageRequest page = PageRequest.of(0, bufferSize);
+            List<TranslationChange> missed = subscriber.locales.isEmpty()
+                    ? changeRepository.findSince(lastEventId, null, page)
+                    : changeRepository.findSinceInLocales(lastEventId, subscriber.locales, page);
+            boolean complete = missed.size() < bufferSize || missed.get(missed.size() - 1).getRevision() >= revision;
+            if (complete) {
+                for (TranslationChange change : missed) {
+                    if (change.getRevision() <= revision) {
+                        subscriber.offer(changeEvent(change));
+                    }
+                }
+            } else {
+                subscriber.resync = true;
+            }
+        } else if (lastEventId == null) {
+            subscriber.offer(SseEmitter.event()
+                    .name(READY_EVENT)
+                    .id(String.valueOf(revision))
+                    .data(Map.of("revision", revision), MediaType.APPLICATION_JSON)
+                    .build());
+        }
+
+        subscribers.add(subscriber);
+        if (subscriber.closed.get()) {
+            subscribers.remove(subscriber);
+            return;
+        }
+        schedule(subscriber);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            writers.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            while (!subscriber.closed.get()) {
+                if (subscriber.resync) {
+                    subscriber.queue.clear();
+                    subscriber.resync = false;
+                    subscriber.send(resyncEvent());
+                    continue;
+                }
+                Set<DataWithMediaType> event = subscriber.queue.poll();
+                if (event == null) {
+                    break;
+                }
+                subscriber.send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Change stream subscriber disconnected: {}", e.getMessage());
+            close(subscriber);
+        } finally {
+            subscriber.scheduled.set(false);
+            if (releaseStalled(subscriber)) {
+                completeQuietly(subscriber);
+            }
+        }
+
+        if (!subscriber.closed.get() && (subscriber.resync || !subscriber.queue.isEmpty())) {
+            schedule(subscriber);
+        }
+    }
+
+    private void sendHeartbeats() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            if (now - subscriber.lastWriteNanos >= heartbeatIntervalNanos && subscriber.queue.isEmpty()) {
+                subscriber.offer(HEARTBEAT);
+                schedule(subscriber);
+            }
+        }
+    }
+
+    private void dropStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.sending && now - subscriber.sendStartedNanos >= sendTimeoutNanos && markStalled(subscriber)) {
+                logger.info("Dropping change stream subscriber whose send has been blocked for over {} ms",
+                        TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos));
+                close(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Adds a writer thread in place of the one stuck in {@code subscriber}'s send. The emitter stays locked
+     * while the send blocks, so the stuck writer can only be replaced, not interrupted or reused.
+     */
+    private synchronized boolean markStalled(Subscriber subscriber) {
+        if (!subscriber.stalled.compareAndSet(false, true)) {
+            return false;
+        }
+        stalledWriters++;
+        writers.setMaximumPoolSize(writerThreads + stalledWriters);
+        writers.setCorePoolSize(writerThreads + stalledWriters);
+        return true;
+    }
+
+    /**
+     * Removes the extra writer again once the stalled send has returned.
+     */
+    private synchronized boolean releaseStalled(Subscriber subscriber) {
+        if (!subscriber.stalled.compareAndSet(true, false)) {
+            return false;
+        }
+        stalledWriters--;
+        writers.setCorePoolSize(writerThreads + stalledWriters);
+        writers.setMaximumPoolSize(writerThreads + stalledWriters);
+        return true;
+    }
+
+    private void completeQuietly(Subscriber subscriber) {
+        try {
+            subscriber.emitter.complete();
+        } catch (RuntimeException e) {
+            logger.debug("Failed to complete dropped change stream subscriber: {}", e.getMessage());
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        if (subscriber.closed.compareAndSet(false, true)) {
+            subscribers.remove(subscriber);
+            connections.decrementAndGet();
+        }
+    }
+
+    private Set<DataWithMediaType> changeEvent(TranslationChange change) {
+        return SseEmitter.event()
+                .name(CHANGE_EVENT)
+                .id(String.valueOf(change.getRevision()))
+                .data(toJson(change), MediaType.APPLICATION_JSON)
+                .build();
+    }
+
+    private Set<DataWithMediaType> resyncEvent() {
+        long revision = changeHub.getRevision();
+        return SseEmitter.event()
+                .name(RESYNC_EVENT)
+                .id(String.valueOf(revision))
+                .data(Map.of("revision", revision), MediaType.APPLICATION_JSON)
+                .build();
+    }
+
+    private String toJson(TranslationChange change) {
+        try {
+            return objectMapper.writeValueAsString(translationMapper.toChangeDto(change));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize translation change " + change.getRevision(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        timer.shutdownNow();
+        writers.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private record Frame(String locale, Set<DataWithMediaType> event) {
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<String> locales;
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean stalled = new AtomicBoolean();
+        private volatile boolean resync;
+        private volatile boolean sending;
+        private volatile long sendStartedNanos;
+        private volatile long lastWriteNanos = System.nanoTime();
+
+        private Subscriber(SseEmitter emitter, Set<String> locales, int bufferSize) {
+            this.emitter = emitter;
+            this.locales = locales;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private boolean accepts(String locale) {
+            return locales.isEmpty() || locales.contains(locale);
+        }
+
+        private void offer(Set<DataWithMediaType> event) {
+            if (!resync && !queue.offer(event)) {
+                resync = true;
+            }
+        }
+
+        private void send(Set<DataWithMediaType> event) throws IOException {
+            sendStartedNanos = System.nanoTime();
+            sending = true;
+            try {
+                emitter.send(event);
+            } finally {
+                sending = false;
+            }
+            lastWriteNanos = System.nanoTime();
+        }
+    }
+}
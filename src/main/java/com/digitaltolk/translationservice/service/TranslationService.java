@@ -1,41 +1,69 @@
 package com.digitaltolk.translationservice.service;
 
+import com.digitaltolk.translationservice.api.dto.LocaleStatsDto;
 import com.digitaltolk.translationservice.api.dto.PagedResponse;
+import com.digitaltolk.translationservice.api.dto.ResponseView;
+import com.digitaltolk.translationservice.api.dto.TranslationChangeFeedResponse;
 import com.digitaltolk.translationservice.api.dto.TranslationDto;
 import com.digitaltolk.translationservice.api.dto.TranslationExportResponse;
+import com.digitaltolk.translationservice.api.dto.TranslationPatchRequest;
 import com.digitaltolk.translationservice.api.dto.TranslationSearchRequest;
 import com.digitaltolk.translationservice.api.mapper.TranslationMapper;
+import com.digitaltolk.translationservice.config.ReadWriteRoutingDataSource;
 import com.digitaltolk.translationservice.domain.entity.Tag;
 import com.digitaltolk.translationservice.domain.entity.Translation;
+import com.digitaltolk.translationservice.domain.entity.TranslationChange;
+import com.digitaltolk.translationservice.domain.entity.TranslationKey;
+import com.digitaltolk.translationservice.domain.projection.LocalizedContent;
+import com.digitaltolk.translationservice.domain.projection.TranslationRef;
+import com.digitaltolk.translationservice.domain.projection.TranslationView;
+import com.digitaltolk.translationservice.domain.repository.LocaleStatsRepository;
 import com.digitaltolk.translationservice.domain.repository.TagRepository;
+import com.digitaltolk.translationservice.domain.repository.TranslationKeyRepository;
 import com.digitaltolk.translationservice.domain.repository.TranslationRepository;
 import com.digitaltolk.translationservice.exception.ResourceNotFoundException;
 import com.digitaltolk.translationservice.exception.DuplicateResourceException;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
+@Timed(value = "translation.service", description = "Translation service calls", histogram = true)
 public class TranslationService {
 
     private static final Logger logger = LoggerFactory.getLogger(TranslationService.class);
 
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
     private final TranslationRepository translationRepository;
+    private final TranslationKeyRepository translationKeyRepository;
     private final TagRepository tagRepository;
+    private final LocaleStatsRepository localeStatsRepository;
     private final TranslationMapper translationMapper;
+    private final TranslationCacheEvictor cacheEvictor;
+    private final TranslationChangeLog changeLog;
+    private final LocalePartitionManager partitionManager;
+    private final ExportAdmissionControl exportAdmission;
+    private final CacheManager cacheManager;
 
     @Value("${app.performance.max-export-size:100000}")
     private int maxExportSize;
@@ -50,26 +78,35 @@ public class TranslationService {
     private String cdnBaseUrl;
 
     public TranslationService(TranslationRepository translationRepository,
+                            TranslationKeyRepository translationKeyRepository,
                             TagRepository tagRepository,
-                            TranslationMapper translationMapper) {
+                            LocaleStatsRepository localeStatsRepository,
+                            TranslationMapper translationMapper,
+                            TranslationCacheEvictor cacheEvictor,
+                            TranslationChangeLog changeLog,
+                            LocalePartitionManager partitionManager,
+                            ExportAdmissionControl exportAdmission,
+                            CacheManager cacheManager) {
         this.translationRepository = translationRepository;
+        this.translationKeyRepository = translationKeyRepository;
         this.tagRepository = tagRepository;
+        this.localeStatsRepository = localeStatsRepository;
         this.translationMapper = translationMapper;
+        this.cacheEvictor = cacheEvictor;
+        this.changeLog = changeLog;
+        this.partitionManager = partitionManager;
+        this.exportAdmission = exportAdmission;
+        this.cacheManager = cacheManager;
     }
 
-    @CacheEvict(value = {"translations", "export"}, allEntries = true)
     public TranslationDto createTranslation(TranslationDto translationDto) {
         logger.debug("Creating translation with key: {} and locale: {}", 
                     translationDto.getKey(), translationDto.getLocale());
 
-        if (translationRepository.existsByKeyAndLocale(translationDto.getKey(), translationDto.getLocale())) {
-            throw new DuplicateResourceException(
-                String.format("Translation with key '%s' and locale '%s' already exists", 
-                            translationDto.getKey(), translationDto.getLocale()));
-        }
-
+        partitionManager.ensurePartition(translationDto.getLocale());
         Translation translation = translationMapper.toEntity(translationDto);
-        
+        translation.setTranslationKey(resolveKey(translationDto.getKey()));
+
         if (translationDto.getTags() != null && !translationDto.getTags().isEmpty()) {
             Set<Tag> tags = resolveOrCreateTags(translationDto.getTags().stream()
                     .map(tagDto -> tagDto.getName())
@@ -77,16 +114,67 @@ public class TranslationService {
             translation.setTags(tags);
         }
 
-        Translation savedTranslation = translationRepository.save(translation);
+        Translation savedTranslation;
+        try {
+            savedTranslation = translationRepository.save(translation);
+        } catch (DataIntegrityViolationException e) {
+            if (!isUniqueViolation(e)) {
+                throw e;
+            }
+            throw new DuplicateResourceException(
+                String.format("Translation with key '%s' and locale '%s' already exists", 
+                            translationDto.getKey(), translationDto.getLocale()));
+        }
+        changeLog.recordCreate(savedTranslation.getId(), savedTranslation.getKey(),
+                savedTranslation.getLocale(), savedTranslation.getContent());
+        cacheEvictor.evictTranslation(savedTranslation.getId(), savedTranslation.getKey(), savedTranslation.getLocale());
+        cacheEvictor.evictLocales();
         logger.info("Created translation with ID: {}", savedTranslation.getId());
 
         return translationMapper.toDto(savedTranslation);
     }
 
-    @CacheEvict(value = {"translations", "export"}, allEntries = true)
+    /**
+     * Idempotent create: inserts the translation or, if the key and locale already exist, overwrites its
+     * content in the same statement. Re-sending identical content leaves the row and its version untouched.
+     * Tags are replaced only when the request carries them.
+     */
+    public TranslationDto upsertTranslation(TranslationDto translationDto) {
+        String key = translationDto.getKey();
+        String locale = translationDto.getLocale();
+        logger.debug("Upserting translation with key: {} and locale: {}", key, locale);
+
+        partitionManager.ensurePartition(locale);
+        int affected = translationRepository.upsertContent(resolveKey(key).getId(), locale, translationDto.getContent());
+        TranslationRef ref = translationRepository.findRefByKeyAndLocale(key, locale)
+                .orElseThrow(() -> new IllegalStateException(
+                    String.format("Upserted translation with key '%s' and locale '%s' is not visible", key, locale)));
+
+        if (translationDto.getTags() != null) {
+            replaceTagLinks(ref.id(), translationDto.getTags().stream()
+                    .map(tagDto -> tagDto.getName())
+                    .collect(Collectors.toSet()));
+        }
+
+        if (affected > 0 && ref.version() == 0) {
+            changeLog.recordCreate(ref.id(), key, locale, translationDto.getContent());
+            cacheEvictor.evictLocales();
+        } else if (affected > 0 || translationDto.getTags() != null) {
+            changeLog.recordUpdate(ref.id(), key, locale, translationDto.getContent());
+        }
+
+        cacheEvictor.evictTranslation(ref.id(), key, locale);
+        logger.info("Upserted translation with ID: {} ({} row(s) changed)", ref.id(), affected);
+
+        Translation translation = translationRepository.findById(ref.id())
+                .orElseThrow(() -> new ResourceNotFoundException("Translation not found with ID: " + ref.id()));
+        return translationMapper.toDto(translation);
+    }
+
     public TranslationDto updateTranslation(Long id, TranslationDto translationDto) {
         logger.debug("Updating translation with ID: {}", id);
 
+        partitionManager.ensurePartition(translationDto.getLocale());
         Translation existingTranslation = translationRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Translation not found with ID: " + id));
 
@@ -99,7 +187,12 @@ public class TranslationService {
             }
         }
 
-        existingTranslation.setKey(translationDto.getKey());
+        String previousKey = existingTranslation.getKey();
+        String previousLocale = existingTranslation.getLocale();
+
+        if (!previousKey.equals(translationDto.getKey())) {
+            existingTranslation.setTranslationKey(resolveKey(translationDto.getKey()));
+        }
         existingTranslation.setLocale(translationDto.getLocale());
         existingTranslation.setContent(translationDto.getContent());
 
@@ -112,15 +205,69 @@ public class TranslationService {
         }
 
         Translation savedTranslation = translationRepository.save(existingTranslation);
+        if (previousKey.equals(savedTranslation.getKey()) && previousLocale.equals(savedTranslation.getLocale())) {
+            changeLog.recordUpdate(savedTranslation.getId(), savedTranslation.getKey(),
+                    savedTranslation.getLocale(), savedTranslation.getContent());
+        } else {
+            changeLog.recordDelete(savedTranslation.getId(), previousKey, previousLocale);
+            changeLog.recordCreate(savedTranslation.getId(), savedTranslation.getKey(),
+                    savedTranslation.getLocale(), savedTranslation.getContent());
+            cacheEvictor.evictTranslation(savedTranslation.getId(), savedTranslation.getKey(), savedTranslation.getLocale());
+            cacheEvictor.evictLocales();
+        }
+        cacheEvictor.evictTranslation(savedTranslation.getId(), previousKey, previousLocale);
         logger.info("Updated translation with ID: {}", savedTranslation.getId());
 
         return translationMapper.toDto(savedTranslation);
     }
 
+    /**
+     * Applies a content and/or tag change without loading the translation entity for the write. The content
+     * is written with a single versioned UPDATE; tags are reconciled against the join table directly. The
+     * patched translation is read back once all statements ran, as the response.
+     */
+    public TranslationDto patchTranslation(String key, String locale, TranslationPatchRequest patch) {
+        logger.debug("Patching translation with key: {} and locale: {}", key, locale);
+
+        if (patch.getContent() == null && patch.getTags() == null) {
+            throw new IllegalArgumentException("Patch must contain content or tags");
+        }
+
+        int updated = patch.getContent() != null
+                ? translationRepository.updateContentByKeyAndLocale(key, locale, patch.getContent(), patch.getVersion())
+                : translationRepository.incrementVersionByKeyAndLocale(key, locale, patch.getVersion());
+
+        TranslationRef ref = translationRepository.findRefByKeyAndLocale(key, locale)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                    String.format("Translation not found with key '%s' and locale '%s'", key, locale)));
+
+        if (updated == 0) {
+            throw new OptimisticLockingFailureException(
+                String.format("Translation with key '%s' and locale '%s' is at version %d, expected %d",
+                            key, locale, ref.version(), patch.getVersion()));
+        }
+
+        if (patch.getTags() != null) {
+            replaceTagLinks(ref.id(), patch.getTags().stream()
+                    .map(tagDto -> tagDto.getName())
+                    .collect(Collectors.toSet()));
+        }
+
+        changeLog.recordForIds(List.of(ref.id()), TranslationChange.Operation.UPDATE);
+        cacheEvictor.evictTranslation(ref.id(), key, locale);
+        logger.info("Patched translation with ID: {} to version {}", ref.id(), ref.version());
+
+        // Read after the bulk statements, so content, tags and timestamps are the patched ones
+        Translation patched = translationRepository.findById(ref.id())
+                .orElseThrow(() -> new ResourceNotFoundException("Translation not found with ID: " + ref.id()));
+        return translationMapper.toDto(patched);
+    }
+
     @Cacheable(value = "translations", key = "#id")
     @Transactional(readOnly = true)
     public TranslationDto getTranslationById(Long id) {
         logger.debug("Fetching translation with ID: {}", id);
+        ReadWriteRoutingDataSource.usePrimary();
 
         Translation translation = translationRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Translation not found with ID: " + id));
@@ -132,6 +279,7 @@ public class TranslationService {
     @Transactional(readOnly = true)
     public TranslationDto getTranslationByKeyAndLocale(String key, String locale) {
         logger.debug("Fetching translation with key: {} and locale: {}", key, locale);
+        ReadWriteRoutingDataSource.usePrimary();
 
         Translation translation = translationRepository.findByKeyAndLocale(key, locale)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -144,10 +292,12 @@ public class TranslationService {
     public PagedResponse<TranslationDto> searchTranslations(TranslationSearchRequest request) {
         logger.debug("Searching translations with request: {}", request);
 
+        // Keys live in translation_keys, reached through the translationKey association
+        String sortProperty = "key".equals(request.getSortBy()) ? "translationKey.key" : request.getSortBy();
         Sort sort = Sort.by(
             "desc".equalsIgnoreCase(request.getSortDirection()) ? 
                 Sort.Direction.DESC : Sort.Direction.ASC,
-            request.getSortBy()
+            sortProperty
         );
         String keyPattern = request.getKey() != null && !request.getKey().isBlank() ? "%" + request.getKey() + "%" : null;
         String contentPattern = request.getContent() != null && !request.getContent().isBlank() ? "%" + request.getContent().toLowerCase() + "%" : null;
@@ -155,7 +305,17 @@ public class TranslationService {
 
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
 
-        Page<Translation> translationsPage = translationRepository.searchTranslations(
+        if (request.getView() == ResponseView.MINIMAL) {
+            return toMinimalPage(translationRepository.searchTranslationContent(
+                keyPattern,
+                request.getLocale(),
+                contentPattern,
+                request.getTagName(),
+                pageable
+            ));
+        }
+
+        Page<TranslationView> translationsPage = translationRepository.searchTranslations(
             keyPattern,
             request.getLocale(),
             contentPattern,
@@ -163,7 +323,7 @@ public class TranslationService {
             pageable
         );
 
-        List<TranslationDto> translationDtos = translationMapper.toDtoList(translationsPage.getContent());
+        List<TranslationDto> translationDtos = toDtosWithTags(translationsPage.getContent());
 
         return new PagedResponse<>(
             translationDtos,
@@ -177,12 +337,22 @@ public class TranslationService {
 
     @Transactional(readOnly = true)
     public PagedResponse<TranslationDto> getTranslationsByLocale(String locale, int page, int size) {
-        logger.debug("Fetching translations for locale: {}", locale);
+        return getTranslationsByLocale(locale, page, size, ResponseView.FULL);
+    }
+
+    @Transactional(readOnly = true)
+    public PagedResponse<TranslationDto> getTranslationsByLocale(String locale, int page, int size, ResponseView view) {
+        logger.debug("Fetching {} translations for locale: {}", view, locale);
+
+        // Ordered by key in the query itself
+        Pageable pageable = PageRequest.of(page, size);
+        if (view == ResponseView.MINIMAL) {
+            return toMinimalPage(translationRepository.findContentPageByLocale(locale, pageable));
+        }
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("key"));
-        Page<Translation> translationsPage = translationRepository.findByLocale(locale, pageable);
+        Page<TranslationView> translationsPage = translationRepository.findByLocale(locale, pageable);
 
-        List<TranslationDto> translationDtos = translationMapper.toDtoList(translationsPage.getContent());
+        List<TranslationDto> translationDtos = toDtosWithTags(translationsPage.getContent());
 
         return new PagedResponse<>(
             translationDtos,
@@ -193,40 +363,57 @@ public class TranslationService {
         );
     }
 
+    /**
+     * The cached export of {@code locale} (all locales when null), or null if it is not cached. Reads only the
+     * cache, so callers can serve hits on their own thread and hand just the misses to the background lane.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TranslationExportResponse getCachedExport(String locale) {
+        Cache cache = cacheManager.getCache(TranslationCacheEvictor.EXPORT_CACHE);
+        if (cache == null) {
+            return null;
+        }
+        // Same key as exportTranslations caches under
+        return cache.get(locale != null ? locale : TranslationCacheEvictor.ALL_LOCALES_EXPORT_KEY,
+                TranslationExportResponse.class);
+    }
+
     @Cacheable(value = "export", key = "#locale != null ? #locale : 'all'")
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // Opened by the build once a build slot is free
     public TranslationExportResponse exportTranslations(String locale) {
         logger.debug("Exporting translations for locale: {}", locale);
 
-        List<Translation> translations;
-        if (locale != null && !locale.trim().isEmpty()) {
-            translations = translationRepository.findByLocaleForExport(locale);
-        } else {
-            translations = translationRepository.findAllForExport();
-        }
+        TranslationExportResponse response = exportAdmission.build(() -> {
+            ReadWriteRoutingDataSource.usePrimary();
+            long started = System.nanoTime();
+            // Read before the rows, so the export contains at least every change up to this revision
+            long revision = changeLog.getLatestRevision();
 
-        if (translations.size() > maxExportSize) {
-            logger.warn("Export size ({}) exceeds maximum allowed ({})", translations.size(), maxExportSize);
-        }
-
-        Map<String, Map<String, String>> translationMap = new HashMap<>();
+            List<LocalizedContent> translations;
+            if (locale != null && !locale.trim().isEmpty()) {
+                translations = translationRepository.findByLocaleForExport(locale);
+            } else {
+                translations = translationRepository.findAllForExport();
+            }
 
-        for (Translation translation : translations) {
-            translationMap
-                .computeIfAbsent(translation.getLocale(), k -> new HashMap<>())
-                .put(translation.getKey(), translation.getContent());
-        }
+            if (translations.size() > maxExportSize) {
+                logger.warn("Export size ({}) exceeds maximum allowed ({})", translations.size(), maxExportSize);
+            }
 
-        TranslationExportResponse response = new TranslationExportResponse(translationMap);
-        response.setCacheTtl(cacheTtl);
+            TranslationExportResponse built = new TranslationExportResponse(toExportMap(translations));
+            built.setCacheTtl(cacheTtl);
+            built.setRevision(revision);
 
-        if (cdnEnabled && cdnBaseUrl != null && !cdnBaseUrl.trim().isEmpty()) {
-            String cdnUrl = cdnBaseUrl + "/translations/export.json";
-            if (locale != null && !locale.trim().isEmpty()) {
-                cdnUrl = cdnBaseUrl + "/translations/export_" + locale + ".json";
+            if (cdnEnabled && cdnBaseUrl != null && !cdnBaseUrl.trim().isEmpty()) {
+                String cdnUrl = cdnBaseUrl + "/translations/export.json";
+                if (locale != null && !locale.trim().isEmpty()) {
+                    cdnUrl = cdnBaseUrl + "/translations/export_" + locale + ".json";
+                }
+                built.setCdnUrl(cdnUrl);
             }
-            response.setCdnUrl(cdnUrl);
-        }
+            exportAdmission.recordBuild(locale, false, System.nanoTime() - started, translations.size());
+            return built;
+        });
 
         logger.info("Exported {} translations across {} locales", 
                    response.getTotalTranslations(), response.getLocales().size());
@@ -234,30 +421,190 @@ public class TranslationService {
         return response;
     }
 
-    @CacheEvict(value = {"translations", "export"}, allEntries = true)
+    /**
+     * Exports translations as they were at {@code revision}, or at the latest revision recorded at or before
+     * {@code at}; exactly one of the two must be given. Reconstructed from the version history in one query.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // Opened by the build once a build slot is free
+    public TranslationExportResponse exportTranslationsAsOf(String locale, Long revision, LocalDateTime at) {
+        logger.debug("Exporting translations for locale: {} as of revision {} / time {}", locale, revision, at);
+
+        if ((revision == null) == (at == null)) {
+            throw new IllegalArgumentException("Exactly one of revision or timestamp is required");
+        }
+
+        TranslationExportResponse response = exportAdmission.build(() -> {
+            long started = System.nanoTime();
+            long latestRevision = changeLog.getLatestRevision();
+            long asOf = revision != null ? revision : changeLog.findRevisionAt(at);
+            if (asOf > latestRevision) {
+                throw new IllegalArgumentException(
+                    String.format("Revision %d is beyond the latest revision %d", asOf, latestRevision));
+            }
+
+            String localeFilter = locale != null && !locale.trim().isEmpty() ? locale : null;
+            List<LocalizedContent> translations = changeLog.findContentAsOf(localeFilter, asOf);
+
+            TranslationExportResponse built = new TranslationExportResponse(toExportMap(translations));
+            built.setCacheTtl(cacheTtl);
+            built.setRevision(asOf);
+            exportAdmission.recordBuild(localeFilter, true, System.nanoTime() - started, translations.size());
+            return built;
+        });
+
+        logger.info("Exported {} translations across {} locales as of revision {}",
+                   response.getTotalTranslations(), response.getLocales().size(), response.getRevision());
+
+        return response;
+    }
+
     public void deleteTranslation(Long id) {
         logger.debug("Deleting translation with ID: {}", id);
 
-        if (!translationRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Translation not found with ID: " + id);
-        }
+        Translation translation = translationRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Translation not found with ID: " + id));
 
+        changeLog.recordForIds(List.of(id), TranslationChange.Operation.DELETE);
         translationRepository.deleteById(id);
+        cacheEvictor.evictTranslation(id, translation.getKey(), translation.getLocale());
+        cacheEvictor.evictLocales();
         logger.info("Deleted translation with ID: {}", id);
     }
 
+    /**
+     * Deletes every translation of a locale. With locale partitioning this drops the locale's partition
+     * instead of deleting row by row; a delete change is still recorded for each translation.
+     */
+    public long deleteLocale(String locale) {
+        logger.debug("Deleting all translations for locale: {}", locale);
+
+        long count = translationRepository.countByLocale(locale);
+        if (count == 0) {
+            throw new ResourceNotFoundException("No translations found for locale: " + locale);
+        }
+
+        boolean dropped = changeLog.recordLocaleDeletion(locale, () -> partitionManager.dropPartition(locale));
+        cacheEvictor.evictAll();
+        logger.info("Deleted {} translation(s) for locale {}{}", count, locale, dropped ? " by dropping its partition" : "");
+        return count;
+    }
+
+
+    /**
+     * Reads the change log after {@code since}. Clients start from 0 (or from a previously returned
+     * nextRevision) and keep polling with the returned nextRevision; hasMore signals that another page is
+     * available immediately.
+     */
+    @Transactional(readOnly = true)
+    public TranslationChangeFeedResponse getChanges(long since, String locale, int limit) {
+        logger.debug("Fetching translation changes since revision {} for locale: {}", since, locale);
+
+        long latestRevision = changeLog.getLatestRevision();
+        List<TranslationChange> changes = changeLog.findSince(since, locale, limit + 1);
+
+        boolean hasMore = changes.size() > limit;
+        if (hasMore) {
+            changes = changes.subList(0, limit);
+        }
+        long nextRevision = changes.isEmpty() ? since : changes.get(changes.size() - 1).getRevision();
+        if (!hasMore) {
+            // Everything up to latestRevision has been read, including revisions filtered out by locale
+            nextRevision = Math.max(nextRevision, latestRevision);
+        }
+
+        return new TranslationChangeFeedResponse(
+            changes.stream().map(translationMapper::toChangeDto).collect(Collectors.toList()),
+            nextRevision,
+            Math.max(latestRevision, nextRevision),
+            hasMore
+        );
+    }
 
     @Cacheable(value = "locales")
     @Transactional(readOnly = true)
     public List<String> getAvailableLocales() {
         logger.debug("Fetching available locales");
-        return translationRepository.findDistinctLocales();
+        ReadWriteRoutingDataSource.usePrimary();
+        return localeStatsRepository.findActiveLocales();
+    }
+
+    @Transactional(readOnly = true)
+    public List<LocaleStatsDto> getLocaleStats() {
+        return localeStatsRepository.findActive().stream()
+                .map(translationMapper::toLocaleStatsDto)
+                .collect(Collectors.toList());
     }
 
 
     @Transactional(readOnly = true)
     public long getTranslationCountByLocale(String locale) {
-        return translationRepository.countByLocale(locale);
+        return localeStatsRepository.findTranslationCount(locale).orElse(0L);
+    }
+
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void replaceTagLinks(Long translationId, Set<String> tagNames) {
+        if (tagNames.isEmpty()) {
+            translationRepository.deleteAllTagLinks(translationId);
+            return;
+        }
+
+        Set<Long> tagIds = resolveOrCreateTags(tagNames).stream()
+                .map(Tag::getId)
+                .collect(Collectors.toSet());
+        translationRepository.deleteTagLinksExcept(translationId, tagIds);
+        translationRepository.insertTagLinks(translationId, tagIds);
+    }
+
+    private Map<String, Map<String, String>> toExportMap(List<LocalizedContent> translations) {
+        Map<String, Map<String, String>> translationMap = new HashMap<>();
+        for (LocalizedContent translation : translations) {
+            translationMap
+                .computeIfAbsent(translation.locale(), k -> new HashMap<>())
+                .put(translation.key(), translation.content());
+        }
+        return translationMap;
+    }
+
+    /**
+     * Maps projected translations to DTOs, fetching the tags of the whole page in one query.
+     */
+    private List<TranslationDto> toDtosWithTags(List<TranslationView> views) {
+        if (views.isEmpty()) {
+            return translationMapper.toDtoList(views, List.of());
+        }
+        List<Long> ids = views.stream().map(TranslationView::id).toList();
+        return translationMapper.toDtoList(views, translationRepository.findTagsByTranslationIds(ids));
+    }
+
+    /**
+     * Maps a page read for a minimal view; there are no tags to fetch.
+     */
+    private PagedResponse<TranslationDto> toMinimalPage(Page<LocalizedContent> contentPage) {
+        return new PagedResponse<>(
+            contentPage.getContent().stream().map(translationMapper::toMinimalDto).toList(),
+            contentPage.getNumber(),
+            contentPage.getSize(),
+            contentPage.getTotalElements(),
+            contentPage.getTotalPages()
+        );
+    }
+
+    private TranslationKey resolveKey(String key) {
+        return translationKeyRepository.findByKey(key)
+                .orElseGet(() -> {
+                    translationKeyRepository.insertIfAbsent(key);
+                    return translationKeyRepository.findByKey(key)
+                            .orElseThrow(() -> new IllegalStateException("Translation key '" + key + "' is not visible"));
+                });
     }
 
     private Set<Tag> resolveOrCreateTags(Set<String> tagNames) {
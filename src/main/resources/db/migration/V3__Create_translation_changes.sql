@@ -0,0 +1,15 @@
+-- Change log of every translation write, appended in the same transaction as the write itself.
+-- Writers take a transaction-scoped advisory lock before appending, so revisions become visible
+-- in increasing order and a reader that has seen revision N never later finds a committed row below N.
+CREATE TABLE translation_changes (
+    revision BIGSERIAL PRIMARY KEY,
+    translation_id BIGINT NOT NULL,
+    translation_key VARCHAR(500) NOT NULL,
+    locale VARCHAR(10) NOT NULL,
+    operation VARCHAR(10) NOT NULL,
+    content VARCHAR(5000),
+    changed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_translation_changes_locale_revision ON translation_changes(locale, revision);
+CREATE INDEX idx_translation_changes_changed_at ON translation_changes(changed_at);
@@ -0,0 +1,32 @@
+-- Content-addressed export bundles: one gzip-compressed JSON object of key -> content per locale, keyed by the
+-- SHA-256 of the uncompressed JSON. Identical locale snapshots are stored once and shared between releases.
+CREATE TABLE translation_bundles (
+    hash VARCHAR(64) PRIMARY KEY,
+    locale VARCHAR(10) NOT NULL,
+    translation_count INTEGER NOT NULL,
+    size_bytes INTEGER NOT NULL,
+    compressed_size_bytes INTEGER NOT NULL,
+    content BYTEA NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- A release pins one bundle per locale. Its id is the SHA-256 over the sorted (locale, bundle hash) pairs,
+-- so publishing unchanged data yields the same release.
+CREATE TABLE translation_releases (
+    id VARCHAR(64) PRIMARY KEY,
+    name VARCHAR(200),
+    revision BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE translation_release_bundles (
+    release_id VARCHAR(64) NOT NULL,
+    locale VARCHAR(10) NOT NULL,
+    bundle_hash VARCHAR(64) NOT NULL,
+    PRIMARY KEY (release_id, locale),
+    CONSTRAINT fk_release_bundles_release FOREIGN KEY (release_id) REFERENCES translation_releases(id) ON DELETE CASCADE,
+    CONSTRAINT fk_release_bundles_bundle FOREIGN KEY (bundle_hash) REFERENCES translation_bundles(hash)
+);
+
+CREATE INDEX idx_translation_releases_created_at ON translation_releases(created_at);
+CREATE INDEX idx_release_bundles_bundle ON translation_release_bundles(bundle_hash);
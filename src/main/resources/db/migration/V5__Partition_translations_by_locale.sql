@@ -0,0 +1,108 @@
+-- Partition translations by locale (LIST). Every locale gets its own partition, created on demand by
+-- ensure_translation_partition(); rows for a locale without one land in translations_default_partition
+-- (a name no locale of at most 10 characters can produce).
+--
+-- A partitioned table can only have unique constraints that include the partition key, so the primary key
+-- becomes (id, locale). Ids still come from the same sequence and stay unique on their own. Foreign keys
+-- cannot point at (id) alone any more, so the cascade from translation_tags is replaced by explicit link
+-- cleanup in the application and in drop_translation_partition().
+--
+-- The existing rows are copied once into the new layout; on a large table run this in a maintenance window.
+
+ALTER TABLE translation_tags DROP CONSTRAINT fk_translation_tags_translation;
+
+ALTER TABLE translations RENAME TO translations_unpartitioned;
+ALTER TABLE translations_unpartitioned RENAME CONSTRAINT uk_translation_key_locale TO uk_translation_key_locale_unpartitioned;
+DROP TRIGGER update_translations_updated_at ON translations_unpartitioned;
+ALTER SEQUENCE translations_id_seq OWNED BY NONE;
+
+CREATE TABLE translations (
+    id BIGINT NOT NULL DEFAULT nextval('translations_id_seq'),
+    translation_key VARCHAR(500) NOT NULL,
+    locale VARCHAR(10) NOT NULL,
+    content VARCHAR(5000) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_translations PRIMARY KEY (id, locale),
+    CONSTRAINT uk_translation_key_locale UNIQUE (translation_key, locale)
+) PARTITION BY LIST (locale);
+
+ALTER SEQUENCE translations_id_seq OWNED BY translations.id;
+
+CREATE TABLE translations_default_partition PARTITION OF translations DEFAULT;
+
+CREATE TRIGGER update_translations_updated_at BEFORE UPDATE ON translations
+    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+-- Creates the partition for a locale if it does not exist yet, moving any of its rows out of the default
+-- partition. Returns true when a partition was created.
+CREATE OR REPLACE FUNCTION ensure_translation_partition(p_locale VARCHAR)
+RETURNS BOOLEAN AS $$
+DECLARE
+    partition_name TEXT := 'translations_' || p_locale;
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+               WHERE i.inhparent = 'translations'::regclass AND c.relname = partition_name) THEN
+        RETURN FALSE;
+    END IF;
+
+    -- Serialize partition maintenance, then check again
+    PERFORM pg_advisory_xact_lock(hashtext('translations_partition'));
+    IF EXISTS (SELECT 1 FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+               WHERE i.inhparent = 'translations'::regclass AND c.relname = partition_name) THEN
+        RETURN FALSE;
+    END IF;
+
+    -- Build the partition standalone and attach it: ATTACH only needs a SHARE UPDATE EXCLUSIVE lock on the
+    -- parent, and the CHECK constraint lets Postgres skip validating the new partition's rows. Give up
+    -- rather than queue behind long transactions; the rows then simply stay in the default partition.
+    PERFORM set_config('lock_timeout', '5s', true);
+    EXECUTE format('CREATE TABLE %I (LIKE translations INCLUDING DEFAULTS)', partition_name);
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I CHECK (locale = %L)',
+                   partition_name, partition_name || '_locale_check', p_locale);
+    EXECUTE format('WITH moved AS (DELETE FROM translations_default_partition WHERE locale = %L RETURNING *) '
+                   'INSERT INTO %I SELECT * FROM moved', p_locale, partition_name);
+    EXECUTE format('ALTER TABLE translations ATTACH PARTITION %I FOR VALUES IN (%L)', partition_name, p_locale);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Removes all translations of a locale together with their tag links. A locale with its own partition is
+-- dropped as a whole; one still in the default partition is deleted row by row. Returns true when a
+-- partition was dropped.
+CREATE OR REPLACE FUNCTION drop_translation_partition(p_locale VARCHAR)
+RETURNS BOOLEAN AS $$
+DECLARE
+    partition_name TEXT := 'translations_' || p_locale;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('translations_partition'));
+
+    IF EXISTS (SELECT 1 FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+               WHERE i.inhparent = 'translations'::regclass AND c.relname = partition_name) THEN
+        EXECUTE format('DELETE FROM translation_tags tt USING %I t WHERE tt.translation_id = t.id', partition_name);
+        EXECUTE format('ALTER TABLE translations DETACH PARTITION %I', partition_name);
+        EXECUTE format('DROP TABLE %I', partition_name);
+        RETURN TRUE;
+    END IF;
+
+    DELETE FROM translation_tags tt USING translations t WHERE tt.translation_id = t.id AND t.locale = p_locale;
+    DELETE FROM translations WHERE locale = p_locale;
+    RETURN FALSE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- One partition per existing locale, then copy the rows over
+SELECT ensure_translation_partition(locale) FROM (SELECT DISTINCT locale FROM translations_unpartitioned) locales;
+
+INSERT INTO translations (id, translation_key, locale, content, created_at, updated_at, version)
+SELECT id, translation_key, locale, content, created_at, updated_at, version FROM translations_unpartitioned;
+
+DROP TABLE translations_unpartitioned;
+
+-- Indexes on the parent are created on every partition, including ones attached later. Within a locale
+-- partition, locale is constant, so only the default partition needs an index on it.
+CREATE INDEX idx_translation_key ON translations(translation_key);
+CREATE INDEX idx_content_fulltext ON translations USING gin(to_tsvector('english', content));
+CREATE INDEX idx_updated_at ON translations(updated_at);
+CREATE INDEX idx_translations_default_locale ON translations_default_partition(locale);
@@ -0,0 +1,39 @@
+-- Store each translation key once and reference it from every locale's row by id. The key text was repeated
+-- per locale (up to 500 characters each) and dominated both the rows and the (translation_key, locale)
+-- unique index; translations now carry an 8-byte key_id instead.
+--
+-- The namespace is the first dot-separated segment of the key ("checkout" for "checkout.button.pay"), kept
+-- as a generated column so it can never disagree with the key.
+--
+-- Keys are never deleted: a key without translations is harmless and is reused if it comes back.
+-- Backfilling rewrites every translation row once; on a large table run this in a maintenance window.
+
+CREATE TABLE translation_keys (
+    id BIGSERIAL PRIMARY KEY,
+    translation_key VARCHAR(500) NOT NULL,
+    namespace VARCHAR(100) GENERATED ALWAYS AS (left(split_part(translation_key, '.', 1), 100)) STORED,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_translation_keys_key UNIQUE (translation_key)
+);
+
+CREATE INDEX idx_translation_keys_namespace ON translation_keys(namespace);
+
+INSERT INTO translation_keys (translation_key)
+SELECT DISTINCT translation_key FROM translations ORDER BY translation_key;
+
+ALTER TABLE translations ADD COLUMN key_id BIGINT;
+
+UPDATE translations t SET key_id = k.id
+FROM translation_keys k WHERE k.translation_key = t.translation_key;
+
+ALTER TABLE translations ALTER COLUMN key_id SET NOT NULL;
+ALTER TABLE translations ADD CONSTRAINT fk_translations_key
+    FOREIGN KEY (key_id) REFERENCES translation_keys(id);
+
+-- The partition key has to be part of every unique constraint, so uniqueness stays per (key, locale).
+-- Its index also serves lookups of one key across all locales.
+ALTER TABLE translations DROP CONSTRAINT uk_translation_key_locale;
+ALTER TABLE translations ADD CONSTRAINT uk_translation_key_locale UNIQUE (key_id, locale);
+
+-- Also drops idx_translation_key
+ALTER TABLE translations DROP COLUMN translation_key;
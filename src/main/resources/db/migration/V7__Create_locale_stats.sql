@@ -0,0 +1,67 @@
+-- Per-locale translation count, latest change revision and last write time, so listing locales and counting
+-- a locale's translations read a handful of rows instead of scanning translations.
+--
+-- The statistics are maintained from translation_changes rather than from translations: every write appends
+-- to the change log in its own transaction, one CREATE per inserted and one DELETE per removed translation
+-- (a rename or locale move is a DELETE plus a CREATE). Change log appends are serialized by the writers'
+-- advisory lock, so updating the hot per-locale row here adds no contention and cannot deadlock. Dropping a
+-- locale's partition records a DELETE for each of its rows first and is covered too.
+--
+-- Writes that bypass the change log (the data seeder) call rebuild_locale_stats() afterwards.
+
+CREATE TABLE locale_stats (
+    locale VARCHAR(10) PRIMARY KEY,
+    translation_count BIGINT NOT NULL DEFAULT 0,
+    last_revision BIGINT NOT NULL DEFAULT 0,
+    last_updated TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE OR REPLACE FUNCTION apply_translation_changes_to_locale_stats()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO locale_stats AS s (locale, translation_count, last_revision, last_updated)
+    SELECT locale,
+           COUNT(*) FILTER (WHERE operation = 'CREATE') - COUNT(*) FILTER (WHERE operation = 'DELETE'),
+           MAX(revision),
+           MAX(changed_at)
+    FROM new_changes
+    GROUP BY locale
+    ON CONFLICT (locale) DO UPDATE
+    SET translation_count = s.translation_count + EXCLUDED.translation_count,
+        last_revision = GREATEST(s.last_revision, EXCLUDED.last_revision),
+        last_updated = GREATEST(s.last_updated, EXCLUDED.last_updated);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Once per statement, so a bulk append updates each locale's row once
+CREATE TRIGGER update_locale_stats AFTER INSERT ON translation_changes
+    REFERENCING NEW TABLE AS new_changes
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_translation_changes_to_locale_stats();
+
+-- Recomputes the statistics from the tables. Takes the change log append lock (TranslationChangeLog's
+-- APPEND_LOCK_KEY) so no change is applied concurrently.
+CREATE OR REPLACE FUNCTION rebuild_locale_stats()
+RETURNS VOID AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock(8390876182755434868);
+
+    INSERT INTO locale_stats AS s (locale, translation_count, last_revision, last_updated)
+    SELECT t.locale,
+           COUNT(*),
+           COALESCE((SELECT MAX(c.revision) FROM translation_changes c WHERE c.locale = t.locale), 0),
+           MAX(t.updated_at)
+    FROM translations t
+    GROUP BY t.locale
+    ON CONFLICT (locale) DO UPDATE
+    SET translation_count = EXCLUDED.translation_count,
+        last_revision = GREATEST(s.last_revision, EXCLUDED.last_revision),
+        last_updated = GREATEST(s.last_updated, EXCLUDED.last_updated);
+
+    UPDATE locale_stats s SET translation_count = 0
+    WHERE s.translation_count <> 0
+    AND NOT EXISTS (SELECT 1 FROM translations t WHERE t.locale = s.locale);
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT rebuild_locale_stats();
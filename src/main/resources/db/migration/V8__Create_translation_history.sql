@@ -0,0 +1,75 @@
+-- Version history of every translation, for exporting a locale as it was at an earlier revision.
+--
+-- History rows are appended from translation_changes by a statement-level trigger, so they are written in
+-- the same transaction as the change itself and cover every write path (single writes, bulk jobs, locale
+-- drops). A row holds the content a (key, locale) had from its revision on; deletes are stored with NULL
+-- content. Keys are referenced by id rather than repeated as text.
+--
+-- The primary key orders each locale's history by key and newest revision first, so the state at revision R
+-- is one index-ordered pass that keeps the first row per key at or below R (see
+-- TranslationChangeRepository#findContentAsOf).
+--
+-- Content is compressed in place by Postgres (pglz). The lower toast_tuple_target makes every row above
+-- 128 bytes a candidate instead of only rows above ~2 kB; short strings that do not compress stay inline.
+
+CREATE TABLE translation_history (
+    locale VARCHAR(10) NOT NULL,
+    key_id BIGINT NOT NULL REFERENCES translation_keys(id),
+    revision BIGINT NOT NULL,
+    content TEXT,
+    changed_at TIMESTAMP NOT NULL,
+    CONSTRAINT pk_translation_history PRIMARY KEY (locale, key_id, revision)
+) WITH (toast_tuple_target = 128);
+
+ALTER TABLE translation_history ALTER COLUMN content SET STORAGE MAIN;
+
+CREATE OR REPLACE FUNCTION append_translation_history()
+RETURNS TRIGGER AS $$
+BEGIN
+    -- Keys are normally created before their first change; deleted keys of old changes may be missing
+    INSERT INTO translation_keys (translation_key)
+    SELECT DISTINCT c.translation_key FROM new_changes c
+    ON CONFLICT (translation_key) DO NOTHING;
+
+    INSERT INTO translation_history (locale, key_id, revision, content, changed_at)
+    SELECT c.locale, k.id, c.revision,
+           CASE WHEN c.operation = 'DELETE' THEN NULL ELSE c.content END,
+           c.changed_at
+    FROM new_changes c JOIN translation_keys k ON k.translation_key = c.translation_key;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER append_translation_history AFTER INSERT ON translation_changes
+    REFERENCING NEW TABLE AS new_changes
+    FOR EACH STATEMENT EXECUTE FUNCTION append_translation_history();
+
+-- Records the current content of translations that have no history yet, at the latest revision. Covers rows
+-- written before this migration or outside the change log (the data seeder). Takes the change log append
+-- lock (TranslationChangeLog's APPEND_LOCK_KEY) so the revision cannot be overtaken by a concurrent write.
+CREATE OR REPLACE FUNCTION record_translation_history_baseline()
+RETURNS VOID AS $$
+DECLARE
+    baseline BIGINT;
+BEGIN
+    PERFORM pg_advisory_xact_lock(8390876182755434868);
+    SELECT COALESCE(MAX(revision), 0) INTO baseline FROM translation_changes;
+
+    INSERT INTO translation_history (locale, key_id, revision, content, changed_at)
+    SELECT t.locale, t.key_id, baseline, t.content, t.updated_at
+    FROM translations t
+    WHERE NOT EXISTS (SELECT 1 FROM translation_history h WHERE h.locale = t.locale AND h.key_id = t.key_id)
+    ON CONFLICT DO NOTHING;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Existing change log entries first, then a baseline for rows the log never saw
+INSERT INTO translation_keys (translation_key)
+SELECT DISTINCT translation_key FROM translation_changes
+ON CONFLICT (translation_key) DO NOTHING;
+
+INSERT INTO translation_history (locale, key_id, revision, content, changed_at)
+SELECT c.locale, k.id, c.revision, CASE WHEN c.operation = 'DELETE' THEN NULL ELSE c.content END, c.changed_at
+FROM translation_changes c JOIN translation_keys k ON k.translation_key = c.translation_key;
+
+SELECT record_translation_history_baseline();
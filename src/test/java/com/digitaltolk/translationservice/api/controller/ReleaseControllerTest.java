@@ -0,0 +1,104 @@
+package com.digitaltolk.translationservice.api.controller;
+
+import com.digitaltolk.translationservice.service.ReleaseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ActiveProfiles("test")
+class ReleaseControllerTest {
+
+    private static final String EXPORT = "{\"en\":{\"app.title\":\"Title\"}}";
+
+    @Mock
+    private ReleaseService releaseService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        when(releaseService.getExportETag("r1", null)).thenReturn("abc123");
+        when(releaseService.getExportGzipped("r1", null)).thenReturn(gzip(EXPORT));
+        mockMvc = MockMvcBuilders.standaloneSetup(new ReleaseController(releaseService)).build();
+    }
+
+    @Test
+    void exportRelease_AcceptsGzip_SendsGzipWithOwnETag() throws Exception {
+        mockMvc.perform(get("/translations/releases/r1/export").header(HttpHeaders.ACCEPT_ENCODING, "br, gzip"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"abc123-gzip\""))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    @Test
+    void exportRelease_GzipRefused_SendsIdentityWithPlainETag() throws Exception {
+        mockMvc.perform(get("/translations/releases/r1/export").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, deflate"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""))
+            .andExpect(content().string(EXPORT));
+    }
+
+    @Test
+    void exportRelease_ETagOfOtherEncoding_SendsFullResponse() throws Exception {
+        mockMvc.perform(get("/translations/releases/r1/export")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"abc123\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+    }
+
+    @Test
+    void exportRelease_MatchingETag_NotModifiedWithVary() throws Exception {
+        mockMvc.perform(get("/translations/releases/r1/export")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"abc123-gzip\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+
+        verify(releaseService, never()).getExportGzipped(anyString(), any());
+    }
+
+    @Test
+    void acceptsGzip_QualityValues() {
+        assertTrue(ReleaseController.acceptsGzip("gzip"));
+        assertTrue(ReleaseController.acceptsGzip("deflate, GZIP;q=0.5"));
+        assertTrue(ReleaseController.acceptsGzip("*"));
+        assertTrue(ReleaseController.acceptsGzip("x-gzip; q=1.0"));
+        assertFalse(ReleaseController.acceptsGzip(null));
+        assertFalse(ReleaseController.acceptsGzip("identity"));
+        assertFalse(ReleaseController.acceptsGzip("gzip;q=0"));
+        assertFalse(ReleaseController.acceptsGzip("gzip;q=0.000, *"));
+        assertFalse(ReleaseController.acceptsGzip("*;q=0"));
+        assertFalse(ReleaseController.acceptsGzip("notgzip"));
+    }
+
+    private static byte[] gzip(String content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,93 @@
+package com.digitaltolk.translationservice.api.controller;
+
+import com.digitaltolk.translationservice.api.dto.TranslationExportResponse;
+import com.digitaltolk.translationservice.exception.GlobalExceptionHandler;
+import com.digitaltolk.translationservice.service.BackgroundLane;
+import com.digitaltolk.translationservice.service.TranslationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ActiveProfiles("test")
+class TranslationControllerTest {
+
+    @Mock
+    private TranslationService translationService;
+
+    private BackgroundLane backgroundLane;
+    private CountDownLatch releaseLane;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        // One worker and no queue, taken by a task that waits for the test to finish
+        backgroundLane = new BackgroundLane(new SimpleMeterRegistry(), new MockEnvironment(), 1, 0);
+        releaseLane = new CountDownLatch(1);
+        backgroundLane.submit(() -> {
+            try {
+                return releaseLane.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        });
+        mockMvc = MockMvcBuilders.standaloneSetup(new TranslationController(translationService, backgroundLane))
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseLane.countDown();
+        backgroundLane.destroy();
+    }
+
+    @Test
+    void exportTranslations_CachedWhileLaneSaturated_ServedFromCache() throws Exception {
+        TranslationExportResponse cached = new TranslationExportResponse(Map.of("en", Map.of("app.title", "Title")));
+        when(translationService.getCachedExport("en")).thenReturn(cached);
+
+        MvcResult result = mockMvc.perform(get("/translations/export").param("locale", "en"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.translations.en['app.title']").value("Title"));
+        verify(translationService, never()).exportTranslations(any());
+    }
+
+    @Test
+    void exportTranslations_NotCachedWhileLaneSaturated_Rejected() throws Exception {
+        when(translationService.getCachedExport(null)).thenReturn(null);
+
+        mockMvc.perform(get("/translations/export"))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"));
+        verify(translationService, never()).exportTranslations(any());
+    }
+}
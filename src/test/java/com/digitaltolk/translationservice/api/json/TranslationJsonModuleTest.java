@@ -0,0 +1,94 @@
+package com.digitaltolk.translationservice.api.json;
+
+import com.digitaltolk.translationservice.api.dto.PagedResponse;
+import com.digitaltolk.translationservice.api.dto.TagDto;
+import com.digitaltolk.translationservice.api.dto.TranslationDto;
+import com.digitaltolk.translationservice.api.dto.TranslationExportResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+class TranslationJsonModuleTest {
+
+    private final ObjectMapper jackson = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper tuned = Jackson2ObjectMapperBuilder.json().build()
+            .registerModule(new TranslationJsonModule(100));
+
+    @Test
+    void translation_WritesSameJsonAsJackson() throws Exception {
+        assertSameJson(translation(1L, 3L, "Say \"hi\" to Zoë\n\u0001 ✓ 😀"));
+        assertSameJson(new TranslationDto("app.title", "en", "Title"));
+        assertSameJson(new TranslationDto());
+    }
+
+    @Test
+    void page_WritesSameJsonAsJackson() throws Exception {
+        assertSameJson(new PagedResponse<>(List.of(translation(1L, 0L, "One"), translation(2L, 1L, "Två")), 0, 2, 5, 3));
+        assertSameJson(new PagedResponse<>(List.of(tag("web")), 2, 1, 3, 3));
+        assertSameJson(new PagedResponse<>(List.of(), 0, 20, 0, 0));
+        assertSameJson(new PagedResponse<>());
+    }
+
+    @Test
+    void export_WritesSameJsonAsJackson() throws Exception {
+        Map<String, Map<String, String>> translations = new LinkedHashMap<>();
+        translations.put("en", Map.of("app.title", "Title", "app.quote", "\"Quoted\"\t"));
+        translations.put("fr", Map.of("app.title", "Titre é"));
+        TranslationExportResponse export = new TranslationExportResponse(translations);
+        export.setCacheTtl(300L);
+        export.setRevision(42L);
+        assertSameJson(export);
+
+        TranslationExportResponse empty = new TranslationExportResponse();
+        empty.setGeneratedAt(LocalDateTime.of(12345, 1, 2, 3, 4, 5));
+        assertSameJson(empty);
+    }
+
+    @Test
+    void translation_ContentChangedWithoutVersionBump_WritesCurrentContent() throws Exception {
+        tuned.writeValueAsBytes(translation(1L, 3L, "Before"));
+
+        String json = tuned.writeValueAsString(translation(1L, 3L, "After"));
+
+        assertTrue(json.contains("\"content\":\"After\""), json);
+    }
+
+    private void assertSameJson(Object value) throws Exception {
+        assertEquals(jackson.writeValueAsString(value), tuned.writeValueAsString(value));
+        // Twice through the byte generator, the second time from the content cache
+        assertArrayEquals(jackson.writeValueAsBytes(value), tuned.writeValueAsBytes(value));
+        assertArrayEquals(jackson.writeValueAsBytes(value), tuned.writeValueAsBytes(value));
+    }
+
+    private static TranslationDto translation(long id, long version, String content) {
+        TranslationDto dto = new TranslationDto("app.key" + id, "en", content);
+        dto.setId(id);
+        dto.setVersion(version);
+        dto.setCreatedAt(LocalDateTime.of(2024, 1, 2, 3, 4, 5, 678_000_000));
+        dto.setUpdatedAt(LocalDateTime.of(2024, 12, 31, 23, 59, 9));
+        Set<TagDto> tags = new LinkedHashSet<>();
+        tags.add(tag("web"));
+        tags.add(new TagDto("mobile"));
+        dto.setTags(tags);
+        return dto;
+    }
+
+    private static TagDto tag(String name) {
+        TagDto tag = new TagDto(name, "Shown on " + name);
+        tag.setId(7L);
+        tag.setCreatedAt(LocalDateTime.of(2023, 6, 7, 8, 9, 10));
+        tag.setTranslationCount(12L);
+        return tag;
+    }
+}
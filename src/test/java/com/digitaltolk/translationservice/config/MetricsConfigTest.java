@@ -0,0 +1,93 @@
+package com.digitaltolk.translationservice.config;
+
+import com.digitaltolk.translationservice.api.dto.TranslationDto;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+class MetricsConfigTest {
+
+    private MeterRegistry meterRegistry;
+    private TimedService service;
+
+    @BeforeEach
+    void setUp() {
+        MetricsConfig metricsConfig = new MetricsConfig();
+        meterRegistry = new SimpleMeterRegistry();
+        meterRegistry.config().meterFilter(metricsConfig.localeTagLimit(2));
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new TimedService());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(metricsConfig.timedAspect(meterRegistry));
+        service = proxyFactory.getProxy();
+    }
+
+    @Test
+    void timedClass_LocaleArgument_TaggedByLocale() {
+        service.byLocale("en", 10);
+        service.byLocale(" ", 10);
+
+        assertEquals(1, timer("byLocale", "en").count());
+        assertEquals(1, timer("byLocale", "all").count());
+    }
+
+    @Test
+    void timedClass_Translation_TaggedByItsLocale() {
+        service.save(new TranslationDto("app.title", "fr", "Titre"));
+
+        assertEquals(1, timer("save", "fr").count());
+    }
+
+    @Test
+    void timedClass_NoLocale_TaggedNone() {
+        service.count(3);
+
+        assertEquals(1, timer("count", "none").count());
+    }
+
+    @Test
+    void localeTagLimit_FurtherLocales_RecordedAsOther() {
+        service.byLocale("en", 1);
+        service.byLocale("fr", 1);
+        service.byLocale("de", 1);
+        service.byLocale("xx-junk", 1);
+        service.byLocale("en", 1);
+        service.byLocale(" ", 1);
+
+        assertEquals(2, timer("byLocale", "en").count());
+        assertEquals(1, timer("byLocale", "fr").count());
+        assertEquals(2, timer("byLocale", "other").count());
+        assertEquals(1, timer("byLocale", "all").count());
+        assertNull(meterRegistry.find("translation.service").tag("locale", "de").timer());
+    }
+
+    private Timer timer(String method, String locale) {
+        return meterRegistry.get("translation.service")
+                .tags("class", "TimedService", "method", method, "locale", locale, "exception", "none")
+                .timer();
+    }
+
+    @Timed("translation.service")
+    static class TimedService {
+
+        public int byLocale(String locale, int limit) {
+            return limit;
+        }
+
+        public TranslationDto save(TranslationDto translation) {
+            return translation;
+        }
+
+        public int count(int limit) {
+            return limit;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.digitaltolk.translationservice.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+class ReadWriteRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replicaA;
+    private DataSource replicaB;
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(DataSource.class);
+        replicaA = healthyReplica();
+        replicaB = healthyReplica();
+        routingDataSource = new ReadWriteRoutingDataSource(primary, List.of(replicaA, replicaB),
+                new ReadYourWritesTracker(60_000), 60_000, 1, 10_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        routingDataSource.destroy();
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    void determineCurrentLookupKey_NoTransaction_UsesPrimary() {
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_ReadOnlyTransaction_RoundRobinsOverReplicas() {
+        beginTransaction(true);
+
+        assertEquals("replica-0", routingDataSource.determineCurrentLookupKey());
+        assertEquals("replica-1", routingDataSource.determineCurrentLookupKey());
+        assertEquals("replica-0", routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_AfterCommittedWrite_PinsClientToPrimary() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "editor", null, List.of(new SimpleGrantedAuthority("ROLE_EDITOR"))));
+
+        beginTransaction(false);
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+
+        beginTransaction(true);
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "viewer", null, List.of(new SimpleGrantedAuthority("ROLE_VIEWER"))));
+        assertNotEquals(ReadWriteRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_PrimaryRequested_UsesPrimaryForThatTransactionOnly() {
+        beginTransaction(true);
+        ReadWriteRoutingDataSource.usePrimary();
+
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+
+        beginTransaction(true);
+        assertNotEquals(ReadWriteRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void getConnection_ReplicaFails_FallsBackToPrimaryAndLeavesRotation() throws SQLException {
+        Connection primaryConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replicaA.getConnection()).thenThrow(new SQLException("connection refused"));
+        beginTransaction(true);
+
+        assertSame(primaryConnection, routingDataSource.getConnection());
+        assertEquals(List.of("replica-1"), routingDataSource.getHealthyReplicas());
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    private static DataSource healthyReplica() throws SQLException {
+        DataSource replica = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet lag = mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(lag);
+        when(lag.next()).thenReturn(true);
+        when(lag.getLong(1)).thenReturn(0L);
+        return replica;
+    }
+}
@@ -0,0 +1,38 @@
+package com.digitaltolk.translationservice.domain.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+class TranslationChangeRepositoryTest {
+
+    /**
+     * Revisions are handed out under the append lock, which CURRENT_TIMESTAMP (the transaction's start) knows
+     * nothing about: a transaction started before T and committed after it would be found at T by
+     * findRevisionAt. Only the time of the append itself follows revision order.
+     */
+    @Test
+    void appends_StampChangesWithAppendTime() {
+        for (String append : new String[] {"appendAll", "appendDeletedTranslations"}) {
+            String sql = query(append).toLowerCase();
+
+            assertTrue(sql.contains("clock_timestamp()"), append);
+            assertFalse(sql.contains("current_timestamp"), append);
+            assertFalse(sql.contains("now()"), append);
+        }
+    }
+
+    private static String query(String methodName) {
+        Method method = Arrays.stream(TranslationChangeRepository.class.getMethods())
+                .filter(candidate -> candidate.getName().equals(methodName))
+                .findFirst()
+                .orElseThrow();
+        return method.getAnnotation(Query.class).value();
+    }
+}
@@ -0,0 +1,81 @@
+package com.digitaltolk.translationservice.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+class JwtUtilTest {
+
+    private static final String SECRET =
+            "jY4k+7D/Y+7cPtyE1g6AfLk7T9NmHtXHBFzrhXfZc9R/xZK1Z4Juz7XLj+xPbJeeg5ZJfZULPIxslk7Dn4N1q6Q==";
+
+    private MeterRegistry meterRegistry;
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtUtil = new JwtUtil(SECRET, 86400000L, 100, meterRegistry);
+    }
+
+    @Test
+    void verify_ValidToken_ReturnsClaims() {
+        String token = jwtUtil.generateToken("john.admin", "ADMIN");
+
+        VerifiedToken verified = jwtUtil.verify(token);
+
+        assertEquals("john.admin", verified.username());
+        assertEquals("ADMIN", verified.role());
+        assertNotNull(verified.expiresAt());
+    }
+
+    @Test
+    void verify_RepeatedToken_ReturnsCachedClaims() {
+        String token = jwtUtil.generateToken("john.admin", "ADMIN");
+
+        assertSame(jwtUtil.verify(token), jwtUtil.verify(token));
+    }
+
+    @Test
+    void verify_TimedByResult() {
+        String token = jwtUtil.generateToken("john.admin", "ADMIN");
+        jwtUtil.verify(token);
+        jwtUtil.verify(token);
+        assertThrows(JwtException.class, () -> jwtUtil.verify(token + "x"));
+
+        assertEquals(1, meterRegistry.get("jwt.verification").tag("result", "verified").timer().count());
+        assertEquals(1, meterRegistry.get("jwt.verification").tag("result", "cached").timer().count());
+        assertEquals(1, meterRegistry.get("jwt.verification").tag("result", "rejected").timer().count());
+    }
+
+    @Test
+    void verify_TamperedToken_ThrowsException() {
+        String token = jwtUtil.generateToken("john.admin", "ADMIN");
+        jwtUtil.verify(token);
+        String[] parts = token.split("\\.");
+        String tampered = parts[0] + "." + parts[1] + "." + new StringBuilder(parts[2]).reverse();
+
+        assertThrows(JwtException.class, () -> jwtUtil.verify(tampered));
+    }
+
+    @Test
+    void verify_TokenSignedWithOtherKey_ThrowsException() {
+        String foreign = new JwtUtil(SECRET.replace('j', 'k'), 86400000L, 100, meterRegistry).generateToken("john.admin", "ADMIN");
+
+        assertThrows(JwtException.class, () -> jwtUtil.verify(foreign));
+    }
+
+    @Test
+    void verify_ExpiredToken_ThrowsException() {
+        String expired = new JwtUtil(SECRET, -1000L, 100, meterRegistry).generateToken("john.admin", "ADMIN");
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verify(expired));
+    }
+}
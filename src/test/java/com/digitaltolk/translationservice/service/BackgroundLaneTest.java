@@ -0,0 +1,90 @@
+package com.digitaltolk.translationservice.service;
+
+import com.digitaltolk.translationservice.exception.CapacityExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+class BackgroundLaneTest {
+
+    private MeterRegistry meterRegistry;
+    private BackgroundLane backgroundLane;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        backgroundLane = new BackgroundLane(meterRegistry, new MockEnvironment(), 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        backgroundLane.destroy();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void submit_RunsOnLaneWithCallersAuthentication() throws Exception {
+        Authentication authentication = new UsernamePasswordAuthenticationToken("viewer", null, List.of());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        String result = backgroundLane.submit(() ->
+                Thread.currentThread().getName() + ":" + SecurityContextHolder.getContext().getAuthentication().getName())
+                .get(5, TimeUnit.SECONDS);
+
+        assertTrue(result.startsWith("background-"));
+        assertTrue(result.endsWith(":viewer"));
+    }
+
+    @Test
+    void submit_WorkersAndQueueFull_Rejected() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = backgroundLane.submit(() -> await(release));
+        CompletableFuture<Boolean> queued = backgroundLane.submit(() -> await(release));
+
+        CapacityExceededException rejected = assertThrows(CapacityExceededException.class,
+                () -> backgroundLane.submit(() -> true));
+
+        assertEquals(5, rejected.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.counter("background.lane.rejected").count());
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void defaults_HalfTheCoresWithQueueOfTwiceThat() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        BackgroundLane defaultLane = new BackgroundLane(registry, new MockEnvironment(), 0, -1);
+        try {
+            int expectedWorkers = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+            assertEquals(expectedWorkers, registry.get("executor.pool.max").gauge().value());
+            assertEquals(2 * expectedWorkers, registry.get("executor.queue.remaining").gauge().value());
+        } finally {
+            defaultLane.destroy();
+        }
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.digitaltolk.translationservice.service;
+
+import com.digitaltolk.translationservice.api.dto.BulkJobDto;
+import com.digitaltolk.translationservice.api.dto.BulkJobRequest;
+import com.digitaltolk.translationservice.domain.entity.Tag;
+import com.digitaltolk.translationservice.domain.entity.TranslationChange;
+import com.digitaltolk.translationservice.domain.repository.TagRepository;
+import com.digitaltolk.translationservice.domain.repository.TranslationKeyRepository;
+import com.digitaltolk.translationservice.domain.repository.TranslationRepository;
+import com.digitaltolk.translationservice.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ActiveProfiles("test")
+class BulkJobServiceTest {
+
+    @Mock
+    private TranslationRepository translationRepository;
+
+    @Mock
+    private TranslationKeyRepository translationKeyRepository;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private TranslationCacheEvictor cacheEvictor;
+
+    @Mock
+    private TranslationChangeLog changeLog;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BulkJobService bulkJobService;
+
+    @BeforeEach
+    void setUp() {
+        bulkJobService = new BulkJobService(translationRepository, translationKeyRepository, tagRepository, cacheEvictor, changeLog, transactionManager, new MockEnvironment(), 1, 1);
+        ReflectionTestUtils.setField(bulkJobService, "chunkSize", 2);
+        ReflectionTestUtils.setField(bulkJobService, "retainedJobs", 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkJobService.destroy();
+    }
+
+    @Test
+    void submit_DeleteByLocale_ProcessesAllChunksAndEvictsOnce() throws Exception {
+        BulkJobRequest request = new BulkJobRequest(BulkJobRequest.Type.DELETE);
+        request.setLocale("fr");
+        when(translationRepository.countForBulk("fr", null, null)).thenReturn(3L);
+        when(translationRepository.findIdsForBulk(eq("fr"), isNull(), isNull(), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(1L, 2L));
+        when(translationRepository.findIdsForBulk(eq("fr"), isNull(), isNull(), eq(2L), any(Pageable.class)))
+            .thenReturn(List.of(5L));
+        when(translationRepository.findIdsForBulk(eq("fr"), isNull(), isNull(), eq(5L), any(Pageable.class)))
+            .thenReturn(Collections.emptyList());
+
+        BulkJobDto submitted = bulkJobService.submit(request);
+        BulkJobDto finished = awaitFinished(submitted.getId());
+
+        assertEquals(BulkJobDto.Status.COMPLETED, finished.getStatus());
+        assertEquals(3L, finished.getTotalCount());
+        assertEquals(3L, finished.getProcessedCount());
+        verify(translationRepository).deleteByIds(List.of(1L, 2L));
+        verify(translationRepository).deleteByIds(List.of(5L));
+        verify(changeLog).recordForIds(List.of(1L, 2L), TranslationChange.Operation.DELETE);
+        verify(changeLog).recordForIds(List.of(5L), TranslationChange.Operation.DELETE);
+        verify(cacheEvictor, times(1)).evictAll();
+    }
+
+    @Test
+    void submit_AddTag_UsesEscapedPrefixAndChangesOnlyUntagged() throws Exception {
+        BulkJobRequest request = new BulkJobRequest(BulkJobRequest.Type.ADD_TAG);
+        request.setKeyPrefix("app_1.");
+        request.setTargetTag("legacy");
+        Tag tag = new Tag("legacy");
+        tag.setId(7L);
+        when(tagRepository.findByName("legacy")).thenReturn(Optional.empty());
+        when(tagRepository.save(any(Tag.class))).thenReturn(tag);
+        when(translationRepository.findIdsForBulk(isNull(), eq("app\\_1.%"), isNull(), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(3L, 4L));
+        when(translationRepository.findIdsByTagLink(List.of(3L, 4L), 7L, false)).thenReturn(List.of(3L));
+
+        BulkJobDto finished = awaitFinished(bulkJobService.submit(request).getId());
+
+        assertEquals(BulkJobDto.Status.COMPLETED, finished.getStatus());
+        verify(translationRepository).insertTagLinkForIds(List.of(3L), 7L);
+        verify(translationRepository).incrementVersionByIds(List.of(3L));
+        verify(changeLog).recordForIds(List.of(3L), TranslationChange.Operation.UPDATE);
+    }
+
+    @Test
+    void submit_RemoveTagNoneTagged_ChangesNothing() throws Exception {
+        BulkJobRequest request = new BulkJobRequest(BulkJobRequest.Type.REMOVE_TAG);
+        request.setLocale("en");
+        request.setTargetTag("legacy");
+        Tag tag = new Tag("legacy");
+        tag.setId(7L);
+        when(tagRepository.findByName("legacy")).thenReturn(Optional.of(tag));
+        when(translationRepository.findIdsForBulk(eq("en"), isNull(), isNull(), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(3L));
+        when(translationRepository.findIdsByTagLink(List.of(3L), 7L, true)).thenReturn(List.of());
+
+        BulkJobDto finished = awaitFinished(bulkJobService.submit(request).getId());
+
+        assertEquals(BulkJobDto.Status.COMPLETED, finished.getStatus());
+        verify(translationRepository, never()).deleteTagLinkForIds(any(), any());
+        verify(translationRepository, never()).incrementVersionByIds(any());
+        verify(changeLog, never()).recordForIds(any(), any());
+    }
+
+    @Test
+    void submit_MoveKeyPrefix_CreatesTargetKeysBeforeRepointing() throws Exception {
+        BulkJobRequest request = new BulkJobRequest(BulkJobRequest.Type.MOVE_KEY_PREFIX);
+        request.setKeyPrefix("old.");
+        request.setNewKeyPrefix("new.");
+        when(translationRepository.findIdsForBulk(isNull(), eq("old.%"), isNull(), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(4L));
+
+        BulkJobDto finished = awaitFinished(bulkJobService.submit(request).getId());
+
+        assertEquals(BulkJobDto.Status.COMPLETED, finished.getStatus());
+        InOrder inOrder = inOrder(translationKeyRepository, translationRepository);
+        inOrder.verify(translationKeyRepository).insertPrefixReplacements(List.of(4L), "new.", 5);
+        inOrder.verify(translationRepository).replaceKeyPrefixByIds(List.of(4L), "new.", 5);
+    }
+
+    @Test
+    void submit_MoveKeyPrefixWithConflicts_Fails() throws Exception {
+        BulkJobRequest request = new BulkJobRequest(BulkJobRequest.Type.MOVE_KEY_PREFIX);
+        request.setKeyPrefix("old.");
+        request.setNewKeyPrefix("new.");
+        when(translationRepository.countKeyPrefixConflicts("old.%", null, "new.", 5)).thenReturn(2L);
+
+        BulkJobDto finished = awaitFinished(bulkJobService.submit(request).getId());
+
+        assertEquals(BulkJobDto.Status.FAILED, finished.getStatus());
+        assertTrue(finished.getError().contains("collide"));
+        verify(translationRepository, never()).replaceKeyPrefixByIds(any(), anyString(), anyInt());
+        verify(cacheEvictor, never()).evictAll();
+    }
+
+    @Test
+    void submit_WithoutFilter_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> bulkJobService.submit(new BulkJobRequest(BulkJobRequest.Type.DELETE)));
+    }
+
+    @Test
+    void submit_RemoveTagWithoutTargetTag_ThrowsException() {
+        BulkJobRequest request = new BulkJobRequest(BulkJobRequest.Type.REMOVE_TAG);
+        request.setLocale("en");
+
+        assertThrows(IllegalArgumentException.class, () -> bulkJobService.submit(request));
+    }
+
+    @Test
+    void getJob_Unknown_ThrowsException() {
+        assertThrows(ResourceNotFoundException.class, () -> bulkJobService.getJob("missing"));
+    }
+
+    private BulkJobDto awaitFinished(String jobId) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            BulkJobDto job = bulkJobService.getJob(jobId);
+            if (job.getFinishedAt() != null) {
+                return job;
+            }
+            Thread.sleep(20);
+        }
+        fail("Bulk job did not finish in time");
+        return null;
+    }
+}
@@ -0,0 +1,103 @@
+package com.digitaltolk.translationservice.service;
+
+import com.digitaltolk.translationservice.exception.CapacityExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+class ExportAdmissionControlTest {
+
+    private PlatformTransactionManager transactionManager;
+    private MeterRegistry meterRegistry;
+    private ExportAdmissionControl exportAdmission;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        meterRegistry = new SimpleMeterRegistry();
+        exportAdmission = new ExportAdmissionControl(transactionManager, meterRegistry, 60, 2, 1000, 1);
+    }
+
+    @Test
+    void admitClient_BurstExhausted_RejectsOnlyThatClient() {
+        assertEquals(0, exportAdmission.admitClient("10.0.0.1"));
+        assertEquals(0, exportAdmission.admitClient("10.0.0.1"));
+
+        assertEquals(1, exportAdmission.admitClient("10.0.0.1"));
+        assertEquals(0, exportAdmission.admitClient("10.0.0.2"));
+        assertEquals(1.0, meterRegistry.counter("translation.export.shed", "reason", "rate-limited").count());
+    }
+
+    @Test
+    void tryAcquire_RefillsAtConfiguredRate() {
+        AtomicLong clock = new AtomicLong(1_000);
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(60, 2, 1000, clock::get);
+
+        assertEquals(0, limiter.tryAcquire("client"));
+        assertEquals(0, limiter.tryAcquire("client"));
+        assertEquals(TimeUnit.SECONDS.toNanos(1), limiter.tryAcquire("client"));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(400));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(600), limiter.tryAcquire("client"));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(600));
+        assertEquals(0, limiter.tryAcquire("client"));
+        assertTrue(limiter.tryAcquire("client") > 0);
+    }
+
+    @Test
+    void tryAcquire_IdleClient_RefillsToCapacityOnly() {
+        AtomicLong clock = new AtomicLong(0);
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(60, 2, 1000, clock::get);
+        limiter.tryAcquire("client");
+
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(10));
+
+        assertEquals(0, limiter.tryAcquire("client"));
+        assertEquals(0, limiter.tryAcquire("client"));
+        assertTrue(limiter.tryAcquire("client") > 0);
+    }
+
+    @Test
+    void build_RunsInReadOnlyTransaction() {
+        assertEquals("export", exportAdmission.build(() -> "export"));
+
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        assertEquals(0.0, meterRegistry.get("translation.export.builds.active").gauge().value());
+    }
+
+    @Test
+    void build_AllSlotsTaken_RejectsWithoutTransaction() {
+        CapacityExceededException rejected = exportAdmission.build(() ->
+                assertThrows(CapacityExceededException.class, () -> exportAdmission.build(() -> "nested")));
+
+        assertEquals(2, rejected.getRetryAfterSeconds());
+        verify(transactionManager, times(1)).getTransaction(any());
+        assertEquals(1.0, meterRegistry.counter("translation.export.shed", "reason", "build-limit").count());
+        assertEquals("export", exportAdmission.build(() -> "export"));
+    }
+
+    @Test
+    void recordBuild_TaggedByLocaleAndKind() {
+        exportAdmission.recordBuild("en", false, TimeUnit.MILLISECONDS.toNanos(40), 1200);
+        exportAdmission.recordBuild(null, true, TimeUnit.MILLISECONDS.toNanos(90), 5000);
+
+        Timer enBuild = meterRegistry.get("translation.export.build").tags("locale", "en", "kind", "latest").timer();
+        assertEquals(40, enBuild.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(5000, meterRegistry.get("translation.export.size")
+                .tags("locale", "all", "kind", "as-of").summary().totalAmount());
+    }
+}
@@ -0,0 +1,164 @@
+package com.digitaltolk.translationservice.service;
+
+import com.digitaltolk.translationservice.domain.entity.TranslationChange;
+import com.digitaltolk.translationservice.domain.repository.TranslationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ActiveProfiles("test")
+class LocalePartitionManagerTest {
+
+    @Mock
+    private TranslationRepository translationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TranslationChangeHub changeHub;
+
+    private LocalePartitionManager partitionManager;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(translationRepository.ensureLocalePartition("fr")).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (partitionManager != null) {
+            partitionManager.destroy();
+        }
+    }
+
+    @Test
+    void ensurePartition_NoTransaction_CreatesOnceAndRemembers() throws InterruptedException {
+        start(60000);
+
+        partitionManager.ensurePartition("fr");
+        awaitPartitionTasks();
+        partitionManager.ensurePartition("fr");
+        awaitPartitionTasks();
+
+        verify(translationRepository, times(1)).ensureLocalePartition("fr");
+        verify(transactionManager).commit(any(TransactionStatus.class));
+        verify(changeHub).addListener(partitionManager);
+    }
+
+    @Test
+    void ensurePartition_InTransaction_CreatesOnlyAfterCompletion() throws InterruptedException {
+        start(60000);
+        TransactionSynchronizationManager.initSynchronization();
+
+        partitionManager.ensurePartition("fr");
+        partitionManager.ensurePartition("fr");
+        awaitPartitionTasks();
+        verify(translationRepository, never()).ensureLocalePartition(any());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        awaitPartitionTasks();
+
+        verify(translationRepository, times(1)).ensureLocalePartition("fr");
+    }
+
+    @Test
+    void ensurePartition_CreationFails_BacksOffUntilRetryDelay() throws InterruptedException {
+        start(200);
+        when(translationRepository.ensureLocalePartition("fr"))
+            .thenThrow(new QueryTimeoutException("canceling statement due to lock timeout"))
+            .thenReturn(true);
+
+        partitionManager.ensurePartition("fr");
+        awaitPartitionTasks();
+        partitionManager.ensurePartition("fr");
+        awaitPartitionTasks();
+        verify(translationRepository, times(1)).ensureLocalePartition("fr");
+        verify(transactionManager).rollback(any(TransactionStatus.class));
+
+        Thread.sleep(250);
+        partitionManager.ensurePartition("fr");
+        awaitPartitionTasks();
+        verify(translationRepository, times(2)).ensureLocalePartition("fr");
+    }
+
+    @Test
+    void onChanges_DeleteInLocale_ChecksPartitionAgain() throws InterruptedException {
+        start(60000);
+        partitionManager.ensurePartition("fr");
+        awaitPartitionTasks();
+
+        partitionManager.onChanges(List.of(change("en", TranslationChange.Operation.DELETE),
+                change("fr", TranslationChange.Operation.UPDATE)));
+        partitionManager.ensurePartition("fr");
+        awaitPartitionTasks();
+        verify(translationRepository, times(1)).ensureLocalePartition("fr");
+
+        partitionManager.onChanges(List.of(change("fr", TranslationChange.Operation.DELETE)));
+        partitionManager.ensurePartition("fr");
+        awaitPartitionTasks();
+        verify(translationRepository, times(2)).ensureLocalePartition("fr");
+    }
+
+    @Test
+    void dropPartition_Disabled_DeletesRowsWithoutDdl() throws InterruptedException {
+        partitionManager = new LocalePartitionManager(translationRepository, transactionManager, changeHub, false, 60000);
+
+        partitionManager.ensurePartition("fr");
+        awaitPartitionTasks();
+        assertFalse(partitionManager.dropPartition("fr"));
+
+        verify(translationRepository).deleteTagLinksForLocale("fr");
+        verify(translationRepository).deleteByLocale("fr");
+        verify(translationRepository, never()).ensureLocalePartition(any());
+        verify(translationRepository, never()).dropLocalePartition(any());
+        verify(changeHub, never()).addListener(any());
+    }
+
+    private void start(long retryDelayMillis) {
+        partitionManager = new LocalePartitionManager(translationRepository, transactionManager, changeHub, true, retryDelayMillis);
+    }
+
+    private void awaitPartitionTasks() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        ((ExecutorService) ReflectionTestUtils.getField(partitionManager, "partitionExecutor")).execute(latch::countDown);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    private TranslationChange change(String locale, TranslationChange.Operation operation) {
+        TranslationChange change = new TranslationChange();
+        change.setLocale(locale);
+        change.setOperation(operation);
+        return change;
+    }
+}
@@ -0,0 +1,149 @@
+package com.digitaltolk.translationservice.service;
+
+import com.digitaltolk.translationservice.api.dto.ReleaseDto;
+import com.digitaltolk.translationservice.api.dto.ReleaseRequest;
+import com.digitaltolk.translationservice.domain.entity.TranslationRelease;
+import com.digitaltolk.translationservice.domain.projection.TranslationContent;
+import com.digitaltolk.translationservice.domain.repository.LocaleStatsRepository;
+import com.digitaltolk.translationservice.domain.repository.TranslationBundleRepository;
+import com.digitaltolk.translationservice.domain.repository.TranslationReleaseRepository;
+import com.digitaltolk.translationservice.domain.repository.TranslationRepository;
+import com.digitaltolk.translationservice.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class ReleaseServiceTest {
+
+    @Mock
+    private TranslationRepository translationRepository;
+
+    @Mock
+    private TranslationBundleRepository bundleRepository;
+
+    @Mock
+    private TranslationReleaseRepository releaseRepository;
+
+    @Mock
+    private LocaleStatsRepository localeStatsRepository;
+
+    @Mock
+    private TranslationChangeLog changeLog;
+
+    private ReleaseService releaseService;
+
+    @BeforeEach
+    void setUp() {
+        releaseService = new ReleaseService(translationRepository, bundleRepository, releaseRepository,
+                localeStatsRepository, changeLog, new ObjectMapper());
+    }
+
+    @Test
+    void publish_NewContent_StoresCanonicalBundleAndLinksRelease() {
+        when(changeLog.getLatestRevision()).thenReturn(42L);
+        when(translationRepository.findContentByLocale("en")).thenReturn(List.of(
+            new TranslationContent("b.key", "B"),
+            new TranslationContent("a.key", "A")));
+        when(releaseRepository.insertIfAbsent(anyString(), eq("v1"), eq(42L))).thenReturn(1);
+        stubFindRelease();
+
+        ReleaseDto release = releaseService.publish(request("v1", "en"));
+
+        ArgumentCaptor<byte[]> compressed = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        verify(bundleRepository).insertIfAbsent(hash.capture(), eq("en"), eq(2), anyInt(), anyInt(), compressed.capture());
+        assertEquals("{\"a.key\":\"A\",\"b.key\":\"B\"}",
+                new String(ReleaseService.gunzip(compressed.getValue()), StandardCharsets.UTF_8));
+        assertEquals(64, hash.getValue().length());
+        verify(releaseRepository).insertBundleLink(release.getId(), "en", hash.getValue());
+        assertEquals(42L, release.getRevision());
+    }
+
+    @Test
+    void publish_SameContent_ProducesSameReleaseId() {
+        when(translationRepository.findContentByLocale("en")).thenReturn(List.of(new TranslationContent("a.key", "A")));
+        when(releaseRepository.insertIfAbsent(anyString(), any(), anyLong())).thenReturn(1, 0);
+        stubFindRelease();
+
+        String first = releaseService.publish(request(null, "en")).getId();
+        String second = releaseService.publish(request("again", "en")).getId();
+
+        assertEquals(first, second);
+        // The second publish found the release already present and must not relink its bundles
+        verify(releaseRepository, times(1)).insertBundleLink(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void publish_ChangedContent_ProducesNewReleaseId() {
+        when(translationRepository.findContentByLocale("en"))
+                .thenReturn(List.of(new TranslationContent("a.key", "A")))
+                .thenReturn(List.of(new TranslationContent("a.key", "A2")));
+        when(releaseRepository.insertIfAbsent(anyString(), any(), anyLong())).thenReturn(1);
+        stubFindRelease();
+
+        String first = releaseService.publish(request(null, "en")).getId();
+        String second = releaseService.publish(request(null, "en")).getId();
+
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void publish_LocaleWithoutTranslations_ThrowsException() {
+        when(translationRepository.findContentByLocale("xx")).thenReturn(List.of());
+
+        assertThrows(IllegalArgumentException.class, () -> releaseService.publish(request(null, "xx")));
+        verify(releaseRepository, never()).insertIfAbsent(anyString(), any(), anyLong());
+    }
+
+    @Test
+    void getExportETag_UnknownLocale_ThrowsResourceNotFoundException() {
+        TranslationRelease release = new TranslationRelease();
+        release.setId("abc");
+        release.setBundleHashes(Map.of("en", "hash-en"));
+        when(releaseRepository.findById("abc")).thenReturn(Optional.of(release));
+
+        assertEquals("hash-en", releaseService.getExportETag("abc", "en"));
+        assertEquals("abc", releaseService.getExportETag("abc", null));
+        assertThrows(ResourceNotFoundException.class, () -> releaseService.getExportETag("abc", "fr"));
+    }
+
+    private void stubFindRelease() {
+        Map<String, TranslationRelease> stored = new HashMap<>();
+        lenient().when(releaseRepository.insertBundleLink(anyString(), anyString(), anyString())).thenAnswer(invocation -> {
+            TranslationRelease release = stored.computeIfAbsent(invocation.getArgument(0), id -> {
+                TranslationRelease created = new TranslationRelease();
+                created.setId(id);
+                created.setRevision(42L);
+                created.setBundleHashes(new HashMap<>());
+                return created;
+            });
+            release.getBundleHashes().put(invocation.getArgument(1), invocation.getArgument(2));
+            return 1;
+        });
+        when(releaseRepository.findById(anyString())).thenAnswer(invocation -> Optional.ofNullable(stored.get(invocation.getArgument(0))));
+    }
+
+    private ReleaseRequest request(String name, String... locales) {
+        ReleaseRequest request = new ReleaseRequest();
+        request.setName(name);
+        request.setLocales(List.of(locales));
+        return request;
+    }
+}
@@ -0,0 +1,83 @@
+package com.digitaltolk.translationservice.service;
+
+import com.digitaltolk.translationservice.domain.entity.TranslationChange;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+class SecondLevelCacheEvictorTest {
+
+    private static final String TAGS_ROLE = "com.digitaltolk.translationservice.domain.entity.Translation.tags";
+
+    private Cache cache;
+    private TranslationChangeHub changeHub;
+    private SecondLevelCacheEvictor cacheEvictor;
+
+    @BeforeEach
+    void setUp() {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        cache = mock(Cache.class);
+        changeHub = mock(TranslationChangeHub.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(cache);
+
+        cacheEvictor = new SecondLevelCacheEvictor(entityManagerFactory, changeHub, true);
+        ReflectionTestUtils.setField(cacheEvictor, "evictAllThreshold", 2);
+    }
+
+    @Test
+    void constructor_BusEnabled_RegistersWithHub() {
+        verify(changeHub).addListener(cacheEvictor);
+    }
+
+    @Test
+    void onChanges_EvictsChangedTagCollectionsAndLookups() {
+        cacheEvictor.onChanges(List.of(change(1L), change(2L)));
+
+        verify(cache).evictCollectionData(TAGS_ROLE, 1L);
+        verify(cache).evictCollectionData(TAGS_ROLE, 2L);
+        verify(cache, never()).evictCollectionData(anyString());
+        verify(cache).evictQueryRegion("translation-lookups");
+        verify(cache).evictQueryRegion("key-lookups");
+        verify(cache).evictQueryRegion("tag-lookups");
+    }
+
+    @Test
+    void onChanges_AboveThreshold_EvictsAllTagCollections() {
+        cacheEvictor.onChanges(List.of(change(1L), change(2L), change(3L)));
+
+        verify(cache).evictCollectionData(TAGS_ROLE);
+        verify(cache, never()).evictCollectionData(eq(TAGS_ROLE), any());
+        verify(cache).evictQueryRegion("translation-lookups");
+    }
+
+    @Test
+    void evictTranslations_EvictsAllTagCollectionsAndTranslationLookups() {
+        cacheEvictor.evictTranslations();
+
+        verify(cache).evictCollectionData(TAGS_ROLE);
+        verify(cache).evictQueryRegion("translation-lookups");
+        verify(cache, never()).evictQueryRegion("key-lookups");
+        verify(cache, never()).evictQueryRegion("tag-lookups");
+    }
+
+    private TranslationChange change(Long id) {
+        TranslationChange change = new TranslationChange();
+        change.setTranslationId(id);
+        change.setKey("a.key");
+        change.setLocale("en");
+        change.setOperation(TranslationChange.Operation.UPDATE);
+        return change;
+    }
+}
@@ -20,6 +20,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -67,13 +68,16 @@ class TagServiceTest {
 
         tags = Arrays.asList(tag, tag2);
         tagDtos = Arrays.asList(tagDto, tagDto2);
+
+        lenient().when(tagRepository.countTranslationsByTagIds(List.of(1L, 2L)))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 42L}));
     }
 
     @Test
     void getAllTags_Success() {
         Page<Tag> page = new PageImpl<>(tags);
         when(tagRepository.findAll(any(Pageable.class))).thenReturn(page);
-        when(tagMapper.toDtoList(anyList())).thenReturn(tagDtos);
+        when(tagMapper.toDtoList(anyList(), anyMap())).thenReturn(tagDtos);
 
         PagedResponse<TagDto> result = tagService.getAllTags(0, 10, "name", "asc");
 
@@ -83,28 +87,29 @@ class TagServiceTest {
         assertEquals(0, result.getPage());
         assertEquals(1, result.getTotalPages());
         verify(tagRepository).findAll(PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "name")));
-        verify(tagMapper).toDtoList(tags);
+        verify(tagRepository).countTranslationsByTagIds(List.of(1L, 2L));
+        verify(tagMapper).toDtoList(tags, Map.of(1L, 42L));
     }
 
     @Test
     void getAllTags_WithDescendingSort() {
         Page<Tag> page = new PageImpl<>(tags);
         when(tagRepository.findAll(any(Pageable.class))).thenReturn(page);
-        when(tagMapper.toDtoList(anyList())).thenReturn(tagDtos);
+        when(tagMapper.toDtoList(anyList(), anyMap())).thenReturn(tagDtos);
 
         PagedResponse<TagDto> result = tagService.getAllTags(0, 10, "name", "desc");
 
         assertNotNull(result);
         assertEquals(2, result.getContent().size());
         verify(tagRepository).findAll(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "name")));
-        verify(tagMapper).toDtoList(tags);
+        verify(tagMapper).toDtoList(tags, Map.of(1L, 42L));
     }
 
     @Test
     void getAllTags_WithInvalidSortDirection() {
         Page<Tag> page = new PageImpl<>(tags);
         when(tagRepository.findAll(any(Pageable.class))).thenReturn(page);
-        when(tagMapper.toDtoList(anyList())).thenReturn(tagDtos);
+        when(tagMapper.toDtoList(anyList(), anyMap())).thenReturn(tagDtos);
 
         PagedResponse<TagDto> result = tagService.getAllTags(0, 10, "name", "invalid");
 
@@ -116,7 +121,7 @@ class TagServiceTest {
     void searchTags_Success() {
         Page<Tag> page = new PageImpl<>(tags);
         when(tagRepository.findByNameContainingIgnoreCase(anyString(), any(Pageable.class))).thenReturn(page);
-        when(tagMapper.toDtoList(anyList())).thenReturn(tagDtos);
+        when(tagMapper.toDtoList(anyList(), anyMap())).thenReturn(tagDtos);
 
         PagedResponse<TagDto> result = tagService.searchTags("web", 0, 10);
 
@@ -126,13 +131,13 @@ class TagServiceTest {
         assertEquals(0, result.getPage());
         assertEquals(1, result.getTotalPages());
         verify(tagRepository).findByNameContainingIgnoreCase("web", PageRequest.of(0, 10, Sort.by("name")));
-        verify(tagMapper).toDtoList(tags);
+        verify(tagMapper).toDtoList(tags, Map.of(1L, 42L));
     }
 
     @Test
     void getTagsByTranslationKey_Success() {
         when(tagRepository.findByTranslationKey(anyString())).thenReturn(tags);
-        when(tagMapper.toDtoList(anyList())).thenReturn(tagDtos);
+        when(tagMapper.toDtoList(anyList(), anyMap())).thenReturn(tagDtos);
 
         List<TagDto> result = tagService.getTagsByTranslationKey("app.title");
 
@@ -141,19 +146,20 @@ class TagServiceTest {
         assertEquals("web", result.get(0).getName());
         assertEquals("mobile", result.get(1).getName());
         verify(tagRepository).findByTranslationKey("app.title");
-        verify(tagMapper).toDtoList(tags);
+        verify(tagMapper).toDtoList(tags, Map.of(1L, 42L));
     }
 
     @Test
     void getTagsByTranslationKey_EmptyResult() {
         when(tagRepository.findByTranslationKey(anyString())).thenReturn(Arrays.asList());
-        when(tagMapper.toDtoList(anyList())).thenReturn(Arrays.asList());
+        when(tagMapper.toDtoList(anyList(), anyMap())).thenReturn(Arrays.asList());
 
         List<TagDto> result = tagService.getTagsByTranslationKey("nonexistent.key");
 
         assertNotNull(result);
         assertEquals(0, result.size());
         verify(tagRepository).findByTranslationKey("nonexistent.key");
-        verify(tagMapper).toDtoList(Arrays.asList());
+        verify(tagMapper).toDtoList(Arrays.asList(), Map.of());
+        verify(tagRepository, never()).countTranslationsByTagIds(anyCollection());
     }
 }
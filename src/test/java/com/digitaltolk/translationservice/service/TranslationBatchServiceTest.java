@@ -0,0 +1,184 @@
+package com.digitaltolk.translationservice.service;
+
+import com.digitaltolk.translationservice.api.dto.BatchOperation;
+import com.digitaltolk.translationservice.api.dto.BatchOperationResult;
+import com.digitaltolk.translationservice.api.dto.BatchRequest;
+import com.digitaltolk.translationservice.api.dto.BatchResponse;
+import com.digitaltolk.translationservice.api.dto.TranslationDto;
+import com.digitaltolk.translationservice.api.mapper.TranslationMapper;
+import com.digitaltolk.translationservice.domain.entity.Translation;
+import com.digitaltolk.translationservice.domain.repository.TranslationRepository;
+import com.digitaltolk.translationservice.exception.DuplicateResourceException;
+import com.digitaltolk.translationservice.exception.ResourceNotFoundException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ActiveProfiles("test")
+class TranslationBatchServiceTest {
+
+    @Mock
+    private TranslationService translationService;
+
+    @Mock
+    private TranslationRepository translationRepository;
+
+    @Mock
+    private TranslationMapper translationMapper;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<SimpleTransactionStatus> transactions = new ArrayList<>();
+    private TranslationBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            SimpleTransactionStatus status = new SimpleTransactionStatus();
+            transactions.add(status);
+            return status;
+        });
+        when(translationService.createTranslation(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        batchService = new TranslationBatchService(translationService, translationRepository, translationMapper,
+                entityManager, transactionManager, 3, BatchRequest.Mode.ATOMIC);
+    }
+
+    @Test
+    void execute_Atomic_RunsAllOperationsInOneTransaction() {
+        Translation stored = new Translation();
+        TranslationDto read = new TranslationDto("app.title", "en", "Title");
+        when(translationRepository.findById(7L)).thenReturn(Optional.of(stored));
+        when(translationMapper.toDto(stored)).thenReturn(read);
+
+        BatchResponse response = batchService.execute(new BatchRequest(null, List.of(
+                create("app.title"), get(7L), delete(8L))), true);
+
+        assertTrue(response.isSucceeded());
+        assertEquals(BatchRequest.Mode.ATOMIC, response.getMode());
+        assertEquals(List.of(201, 200, 204), statuses(response));
+        assertEquals("app.title", response.getResults().get(0).getTranslation().getKey());
+        assertSame(read, response.getResults().get(1).getTranslation());
+        verify(translationService).deleteTranslation(8L);
+        assertEquals(1, transactions.size());
+        assertFalse(transactions.get(0).isRollbackOnly());
+        verify(transactionManager).commit(transactions.get(0));
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    void execute_AtomicFailure_RollsBackAndReportsEveryOperation() {
+        when(translationService.updateTranslation(anyLong(), any()))
+            .thenThrow(new DuplicateResourceException("Translation with key 'app.b' and locale 'en' already exists"));
+
+        BatchResponse response = batchService.execute(new BatchRequest(BatchRequest.Mode.ATOMIC, List.of(
+                create("app.a"), update(1L, "app.b"), create("app.c"))), true);
+
+        assertFalse(response.isSucceeded());
+        assertEquals(3, response.getFailedCount());
+        assertEquals(List.of(424, 409, 424), statuses(response));
+        assertEquals("Rolled back because operation 1 failed", response.getResults().get(0).getError());
+        assertEquals("Not run because operation 1 failed", response.getResults().get(2).getError());
+        assertTrue(transactions.get(0).isRollbackOnly());
+        verify(translationService, times(1)).createTranslation(any());
+    }
+
+    @Test
+    void execute_PerOperation_CommitsEachAndCarriesOnPastFailures() {
+        doThrow(new ResourceNotFoundException("Translation not found with ID: 9"))
+            .when(translationService).deleteTranslation(9L);
+
+        BatchResponse response = batchService.execute(new BatchRequest(BatchRequest.Mode.PER_OPERATION, List.of(
+                create("app.a"), delete(9L), create("app.c"))), true);
+
+        assertEquals(List.of(201, 404, 201), statuses(response));
+        assertEquals(1, response.getFailedCount());
+        assertEquals(3, transactions.size());
+        verify(translationService, times(2)).createTranslation(any());
+        verify(entityManager, never()).clear();
+    }
+
+    @Test
+    void execute_DeleteWithoutAdmin_Forbidden() {
+        BatchResponse response = batchService.execute(new BatchRequest(BatchRequest.Mode.PER_OPERATION, List.of(
+                delete(1L), create("app.a"))), false);
+
+        assertEquals(List.of(403, 201), statuses(response));
+        verify(translationService, never()).deleteTranslation(any());
+    }
+
+    @Test
+    void execute_MissingField_BadRequest() {
+        BatchOperation withoutContent = create("app.a");
+        withoutContent.setContent(null);
+
+        BatchResponse response = batchService.execute(new BatchRequest(BatchRequest.Mode.PER_OPERATION, List.of(withoutContent)), true);
+
+        BatchOperationResult result = response.getResults().get(0);
+        assertEquals(400, result.getStatus());
+        assertEquals("CREATE operations require content", result.getError());
+        verify(translationService, never()).createTranslation(any());
+    }
+
+    @Test
+    void execute_TooManyOperations_Rejected() {
+        BatchRequest request = new BatchRequest(null, Collections.nCopies(4, create("app.a")));
+
+        assertThrows(IllegalArgumentException.class, () -> batchService.execute(request, true));
+        verifyNoInteractions(translationService, transactionManager);
+    }
+
+    private static BatchOperation create(String key) {
+        BatchOperation operation = new BatchOperation(BatchOperation.Type.CREATE);
+        operation.setKey(key);
+        operation.setLocale("en");
+        operation.setContent("Content of " + key);
+        return operation;
+    }
+
+    private static BatchOperation update(long id, String key) {
+        BatchOperation operation = create(key);
+        operation.setType(BatchOperation.Type.UPDATE);
+        operation.setId(id);
+        return operation;
+    }
+
+    private static BatchOperation get(long id) {
+        BatchOperation operation = new BatchOperation(BatchOperation.Type.GET);
+        operation.setId(id);
+        return operation;
+    }
+
+    private static BatchOperation delete(long id) {
+        BatchOperation operation = new BatchOperation(BatchOperation.Type.DELETE);
+        operation.setId(id);
+        return operation;
+    }
+
+    private static List<Integer> statuses(BatchResponse response) {
+        return response.getResults().stream().map(BatchOperationResult::getStatus).toList();
+    }
+}
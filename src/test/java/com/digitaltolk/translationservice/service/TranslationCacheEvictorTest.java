@@ -0,0 +1,223 @@
+package com.digitaltolk.translationservice.service;
+
+import com.digitaltolk.translationservice.domain.entity.TranslationChange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+class TranslationCacheEvictorTest {
+
+    private ConcurrentMapCacheManager cacheManager;
+    private TranslationChangeHub changeHub;
+    private TranslationChangeLog changeLog;
+    private SecondLevelCacheEvictor secondLevelCacheEvictor;
+    private TranslationCacheEvictor cacheEvictor;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("translations", "export", "locales");
+        changeHub = mock(TranslationChangeHub.class);
+        changeLog = mock(TranslationChangeLog.class);
+        secondLevelCacheEvictor = mock(SecondLevelCacheEvictor.class);
+        cacheEvictor = new TranslationCacheEvictor(cacheManager, changeHub, changeLog, secondLevelCacheEvictor, true);
+        ReflectionTestUtils.setField(cacheEvictor, "evictAllThreshold", 2);
+
+        cache("translations").put(1L, "one");
+        cache("translations").put("a.key_en", "one");
+        cache("translations").put(2L, "two");
+        cache("export").put("en", "en export");
+        cache("export").put("fr", "fr export");
+        cache("export").put("all", "full export");
+        cache("locales").put("locales", List.of("en", "fr"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheEvictor.destroy();
+    }
+
+    @Test
+    void constructor_BusEnabled_RegistersWithHub() {
+        verify(changeHub).addListener(cacheEvictor);
+    }
+
+    @Test
+    void evictLocales_OutsideTransaction_ClearsOnlyLocales() {
+        cacheEvictor.evictLocales();
+
+        assertNull(cache("locales").get("locales"));
+        assertNotNull(cache("translations").get(1L));
+        assertNotNull(cache("export").get("all"));
+    }
+
+    @Test
+    void evictTranslation_InTransaction_EvictsOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cacheEvictor.evictTranslation(1L, "a.key", "en");
+            assertNotNull(cache("translations").get(1L));
+
+            commit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertNull(cache("translations").get(1L));
+        assertNull(cache("translations").get("a.key_en"));
+        assertNull(cache("export").get("en"));
+        assertNotNull(cache("export").get("fr"));
+    }
+
+    @Test
+    void onChanges_Update_EvictsOnlyAffectedEntries() throws Exception {
+        cacheEvictor.onChanges(List.of(change(1L, "a.key", "en", TranslationChange.Operation.UPDATE)));
+        awaitEvictions();
+
+        assertNull(cache("translations").get(1L));
+        assertNull(cache("translations").get("a.key_en"));
+        assertNotNull(cache("translations").get(2L));
+        assertNull(cache("export").get("en"));
+        assertNull(cache("export").get("all"));
+        assertNotNull(cache("export").get("fr"));
+        assertNotNull(cache("locales").get("locales"));
+    }
+
+    @Test
+    void onChanges_Create_AlsoEvictsLocales() throws Exception {
+        cacheEvictor.onChanges(List.of(change(3L, "b.key", "de", TranslationChange.Operation.CREATE)));
+        awaitEvictions();
+
+        assertNull(cache("locales").get("locales"));
+        assertNotNull(cache("export").get("en"));
+    }
+
+    @Test
+    void evictAll_InTransaction_EvictsSecondLevelCacheBeforeRedisAfterCommit() {
+        doAnswer(invocation -> {
+            // Until Redis is cleared, a lookup can only hit the old entry, not refill it from the second level
+            assertNotNull(cache("translations").get(1L));
+            return null;
+        }).when(secondLevelCacheEvictor).evictTranslations();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cacheEvictor.evictAll();
+            verify(secondLevelCacheEvictor, never()).evictTranslations();
+
+            commit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(secondLevelCacheEvictor).evictTranslations();
+        assertNull(cache("translations").get(1L));
+        assertNull(cache("export").get("all"));
+        assertNull(cache("locales").get("locales"));
+    }
+
+    @Test
+    void onChanges_AboveThreshold_ClearsAllCaches() throws Exception {
+        cacheEvictor.onChanges(List.of(
+            change(1L, "a.key", "en", TranslationChange.Operation.UPDATE),
+            change(2L, "b.key", "en", TranslationChange.Operation.UPDATE),
+            change(4L, "c.key", "en", TranslationChange.Operation.UPDATE)));
+        awaitEvictions();
+
+        assertNull(cache("translations").get(2L));
+        assertNull(cache("export").get("fr"));
+        assertNull(cache("locales").get("locales"));
+    }
+
+    @Test
+    void onChanges_AlreadyEvictedAfterLocalCommit_SkipsUntilLaterRevision() throws Exception {
+        when(changeLog.getAppendedRevision()).thenReturn(10L);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cacheEvictor.evictTranslation(1L, "a.key", "en");
+            commit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        cache("translations").put(1L, "one again");
+        cache("export").put("en", "en export again");
+
+        cacheEvictor.onChanges(List.of(change(10L, 1L, "a.key", "en", TranslationChange.Operation.UPDATE)));
+        awaitEvictions();
+        assertNotNull(cache("translations").get(1L));
+        assertNotNull(cache("export").get("en"));
+
+        cacheEvictor.onChanges(List.of(change(11L, 1L, "a.key", "en", TranslationChange.Operation.UPDATE)));
+        awaitEvictions();
+        assertNull(cache("translations").get(1L));
+        assertNull(cache("export").get("en"));
+    }
+
+    @Test
+    void onChanges_OtherEntriesThanEvictedLocally_StillEvicted() throws Exception {
+        when(changeLog.getAppendedRevision()).thenReturn(10L);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cacheEvictor.evictTranslation(1L, "a.key", "en");
+            commit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        cache("export").put("all", "full export again");
+
+        cacheEvictor.onChanges(List.of(change(9L, 2L, "b.key", "fr", TranslationChange.Operation.CREATE)));
+        awaitEvictions();
+
+        assertNull(cache("translations").get(2L));
+        assertNull(cache("export").get("fr"));
+        assertNull(cache("locales").get("locales"));
+        assertNotNull(cache("export").get("all"));
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    private void awaitEvictions() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        ((ExecutorService) ReflectionTestUtils.getField(cacheEvictor, "evictionExecutor")).execute(latch::countDown);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+
+    private TranslationChange change(Long id, String key, String locale, TranslationChange.Operation operation) {
+        return change(id, id, key, locale, operation);
+    }
+
+    private TranslationChange change(Long revision, Long id, String key, String locale,
+                                     TranslationChange.Operation operation) {
+        TranslationChange change = new TranslationChange();
+        change.setRevision(revision);
+        change.setTranslationId(id);
+        change.setKey(key);
+        change.setLocale(locale);
+        change.setOperation(operation);
+        return change;
+    }
+}
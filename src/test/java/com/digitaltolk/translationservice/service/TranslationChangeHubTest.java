@@ -0,0 +1,105 @@
+package com.digitaltolk.translationservice.service;
+
+import com.digitaltolk.translationservice.domain.entity.TranslationChange;
+import com.digitaltolk.translationservice.domain.repository.TranslationChangeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class TranslationChangeHubTest {
+
+    @Mock
+    private TranslationChangeRepository changeRepository;
+
+    private TranslationChangeHub changeHub;
+
+    @BeforeEach
+    void setUp() {
+        changeHub = new TranslationChangeHub(changeRepository);
+        ReflectionTestUtils.setField(changeHub, "batchSize", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        changeHub.destroy();
+    }
+
+    @Test
+    void signal_DispatchesChangesAfterWatermarkInPages() throws Exception {
+        when(changeRepository.findLatestRevision()).thenReturn(10L);
+        when(changeRepository.findSince(10L, null, PageRequest.of(0, 2))).thenReturn(List.of(change(11L), change(12L)));
+        when(changeRepository.findSince(12L, null, PageRequest.of(0, 2))).thenReturn(List.of(change(14L)));
+
+        List<Long> received = new CopyOnWriteArrayList<>();
+        changeHub.addListener(changes -> changes.forEach(change -> received.add(change.getRevision())));
+        changeHub.start();
+        changeHub.signal();
+
+        awaitDispatcher();
+        assertEquals(List.of(11L, 12L, 14L), received);
+        assertEquals(14L, changeHub.getRevision());
+    }
+
+    @Test
+    void signal_NoNewChanges_DoesNotNotifyListeners() throws Exception {
+        when(changeRepository.findLatestRevision()).thenReturn(3L);
+        when(changeRepository.findSince(3L, null, PageRequest.of(0, 2))).thenReturn(Collections.emptyList());
+
+        TranslationChangeHub.Listener listener = mock(TranslationChangeHub.Listener.class);
+        changeHub.addListener(listener);
+        changeHub.start();
+        changeHub.signal();
+
+        awaitDispatcher();
+        verifyNoInteractions(listener);
+        assertEquals(3L, changeHub.getRevision());
+    }
+
+    @Test
+    void signal_FailingListener_DoesNotBlockOthers() throws Exception {
+        when(changeRepository.findLatestRevision()).thenReturn(0L);
+        when(changeRepository.findSince(0L, null, PageRequest.of(0, 2))).thenReturn(List.of(change(1L)));
+
+        List<Long> received = new CopyOnWriteArrayList<>();
+        changeHub.addListener(changes -> {
+            throw new IllegalStateException("boom");
+        });
+        changeHub.addListener(changes -> changes.forEach(change -> received.add(change.getRevision())));
+        changeHub.start();
+        changeHub.signal();
+
+        awaitDispatcher();
+        assertEquals(List.of(1L), received);
+    }
+
+    private void awaitDispatcher() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        changeHub.execute(latch::countDown);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    private TranslationChange change(long revision) {
+        TranslationChange change = new TranslationChange();
+        change.setRevision(revision);
+        change.setLocale("en");
+        change.setOperation(TranslationChange.Operation.UPDATE);
+        return change;
+    }
+}
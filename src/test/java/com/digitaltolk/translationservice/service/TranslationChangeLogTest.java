@@ -0,0 +1,137 @@
+package com.digitaltolk.translationservice.service;
+
+import com.digitaltolk.translationservice.domain.entity.TranslationChange;
+import com.digitaltolk.translationservice.domain.repository.TranslationChangeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class TranslationChangeLogTest {
+
+    @Mock
+    private TranslationChangeRepository changeRepository;
+
+    @Mock
+    private TranslationChangeHub changeHub;
+
+    private TranslationChangeLog changeLog;
+
+    @BeforeEach
+    void setUp() {
+        changeLog = new TranslationChangeLog(changeRepository, changeHub);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.unbindResourceIfPossible(changeLog);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void recordLocaleDeletion_TakesAppendLockOnlyAtCommit() {
+        Runnable deletion = mock(Runnable.class);
+
+        Boolean result = changeLog.recordLocaleDeletion("fr", () -> {
+            deletion.run();
+            return true;
+        });
+
+        assertTrue(result);
+        verify(changeRepository, never()).acquireAppendLock(anyLong());
+        beforeCommit();
+
+        InOrder order = inOrder(changeRepository, deletion);
+        order.verify(changeRepository).createDeletedTranslations();
+        order.verify(changeRepository).copyToDeletedTranslations("fr");
+        order.verify(deletion).run();
+        order.verify(changeRepository).acquireAppendLock(TranslationChangeLog.APPEND_LOCK_KEY);
+        order.verify(changeRepository).appendDeletedTranslations();
+        order.verify(changeRepository).notifyCommit(TranslationChangeLog.NOTIFY_CHANNEL);
+    }
+
+    @Test
+    void recordCreate_BeforeCommit_AppendsBufferedChangesInOneStatementAndKeepsRevision() {
+        when(changeRepository.notifyCommit(TranslationChangeLog.NOTIFY_CHANNEL)).thenReturn(42L);
+
+        changeLog.recordCreate(1L, "app.title", "en", "Title");
+        changeLog.recordUpdate(1L, "app.title", "en", "Title 2");
+        changeLog.recordDelete(2L, "app.old", "fr");
+        assertEquals(-1, changeLog.getAppendedRevision());
+        verifyNoInteractions(changeRepository);
+        beforeCommit();
+
+        assertEquals(42L, changeLog.getAppendedRevision());
+        InOrder order = inOrder(changeRepository);
+        order.verify(changeRepository).acquireAppendLock(TranslationChangeLog.APPEND_LOCK_KEY);
+        order.verify(changeRepository).appendAll(
+                new Long[] {1L, 1L, 2L},
+                new String[] {"app.title", "app.title", "app.old"},
+                new String[] {"en", "en", "fr"},
+                new String[] {"CREATE", "UPDATE", "DELETE"},
+                new String[] {"Title", "Title 2", null});
+        order.verify(changeRepository).notifyCommit(TranslationChangeLog.NOTIFY_CHANNEL);
+        verify(changeRepository, times(1)).acquireAppendLock(anyLong());
+    }
+
+    @Test
+    void recordForIds_TakesRowsWhenRecordedAndKeepsOrderAroundLocaleDeletion() {
+        when(changeRepository.findLoggedFields(List.of(3L, 4L))).thenReturn(List.of(
+                new Object[] {3L, "app.a", "de", "A"},
+                new Object[] {4L, "app.b", "de", "B"}));
+
+        changeLog.recordForIds(List.of(3L, 4L), TranslationChange.Operation.DELETE);
+        changeLog.recordLocaleDeletion("fr", () -> true);
+        changeLog.recordCreate(5L, "app.c", "en", "C");
+        beforeCommit();
+
+        InOrder order = inOrder(changeRepository);
+        order.verify(changeRepository).appendAll(new Long[] {3L, 4L}, new String[] {"app.a", "app.b"},
+                new String[] {"de", "de"}, new String[] {"DELETE", "DELETE"}, new String[] {null, null});
+        order.verify(changeRepository).appendDeletedTranslations();
+        order.verify(changeRepository).appendAll(new Long[] {5L}, new String[] {"app.c"},
+                new String[] {"en"}, new String[] {"CREATE"}, new String[] {"C"});
+    }
+
+    @Test
+    void beforeCommit_NothingRecorded_NoLockOrNotify() {
+        changeLog.recordForIds(List.of(), TranslationChange.Operation.UPDATE);
+        when(changeRepository.findLoggedFields(List.of(9L))).thenReturn(List.of());
+        changeLog.recordForIds(List.of(9L), TranslationChange.Operation.UPDATE);
+        beforeCommit();
+
+        verify(changeRepository, never()).acquireAppendLock(anyLong());
+        verify(changeRepository, never()).notifyCommit(anyString());
+        assertEquals(-1, changeLog.getAppendedRevision());
+    }
+
+    @Test
+    void recordLocaleDeletion_DeletionFails_NothingAppended() {
+        assertThrows(IllegalStateException.class, () -> changeLog.recordLocaleDeletion("fr", () -> {
+            throw new IllegalStateException("lock timeout");
+        }));
+
+        verify(changeRepository, never()).acquireAppendLock(anyLong());
+        verify(changeRepository, never()).notifyCommit(anyString());
+        verify(changeRepository, never()).appendDeletedTranslations();
+    }
+
+    private void beforeCommit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.beforeCommit(false));
+    }
+}
@@ -0,0 +1,124 @@
+package com.digitaltolk.translationservice.service;
+
+import com.digitaltolk.translationservice.api.dto.TranslationChangeDto;
+import com.digitaltolk.translationservice.api.dto.TranslationChangeFeedResponse;
+import com.digitaltolk.translationservice.api.mapper.TranslationMapper;
+import com.digitaltolk.translationservice.domain.entity.TranslationChange;
+import com.digitaltolk.translationservice.domain.repository.TranslationChangeRepository;
+import com.digitaltolk.translationservice.exception.CapacityExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ActiveProfiles("test")
+class TranslationChangeLongPollTest {
+
+    @Mock
+    private TranslationChangeHub changeHub;
+
+    @Mock
+    private TranslationChangeRepository changeRepository;
+
+    @Mock
+    private TranslationMapper translationMapper;
+
+    private TranslationChangeLongPoll longPoll;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(changeHub).execute(any(Runnable.class));
+        when(translationMapper.toChangeDto(any(TranslationChange.class))).thenAnswer(invocation -> {
+            TranslationChangeDto dto = new TranslationChangeDto();
+            dto.setRevision(invocation.<TranslationChange>getArgument(0).getRevision());
+            return dto;
+        });
+
+        longPoll = new TranslationChangeLongPoll(changeHub, changeRepository, translationMapper);
+        ReflectionTestUtils.setField(longPoll, "maxWaiters", 2);
+    }
+
+    @Test
+    void await_ChangesAlreadyCommitted_CompletesImmediately() {
+        when(changeHub.getRevision()).thenReturn(8L);
+        when(changeRepository.findSinceInLocales(5L, Set.of("en"), PageRequest.of(0, 11)))
+            .thenReturn(List.of(change(6L, "en"), change(9L, "en")));
+
+        DeferredResult<TranslationChangeFeedResponse> result = longPoll.await(5L, Set.of("en"), 10, 30000);
+
+        TranslationChangeFeedResponse response = (TranslationChangeFeedResponse) result.getResult();
+        assertNotNull(response);
+        assertEquals(1, response.getChanges().size());
+        assertEquals(6L, response.getChanges().get(0).getRevision());
+        assertEquals(8L, response.getNextRevision());
+    }
+
+    @Test
+    void await_NoChanges_ParksUntilMatchingChangeCommits() {
+        when(changeHub.getRevision()).thenReturn(5L);
+
+        DeferredResult<TranslationChangeFeedResponse> result = longPoll.await(5L, Set.of("fr"), 10, 30000);
+        assertFalse(result.hasResult());
+
+        longPoll.onChanges(List.of(change(6L, "en")));
+        assertFalse(result.hasResult());
+
+        longPoll.onChanges(List.of(change(7L, "de"), change(8L, "fr")));
+        TranslationChangeFeedResponse response = (TranslationChangeFeedResponse) result.getResult();
+        assertEquals(1, response.getChanges().size());
+        assertEquals(8L, response.getChanges().get(0).getRevision());
+        assertEquals(8L, response.getNextRevision());
+        assertFalse(response.isHasMore());
+    }
+
+    @Test
+    void await_NothingRelevantInLog_SkipsAheadToHubRevision() {
+        when(changeHub.getRevision()).thenReturn(12L);
+        when(changeRepository.findSince(eq(3L), isNull(), any())).thenReturn(Collections.emptyList());
+
+        DeferredResult<TranslationChangeFeedResponse> result = longPoll.await(3L, Set.of(), 10, 30000);
+        assertFalse(result.hasResult());
+
+        longPoll.onChanges(List.of(change(13L, "en")));
+        TranslationChangeFeedResponse response = (TranslationChangeFeedResponse) result.getResult();
+        assertEquals(13L, response.getNextRevision());
+    }
+
+    @Test
+    void await_TooManyWaiters_ThrowsException() {
+        when(changeHub.getRevision()).thenReturn(0L);
+
+        longPoll.await(0L, Set.of(), 10, 30000);
+        longPoll.await(0L, Set.of(), 10, 30000);
+
+        assertThrows(CapacityExceededException.class, () -> longPoll.await(0L, Set.of(), 10, 30000));
+    }
+
+    private TranslationChange change(long revision, String locale) {
+        TranslationChange change = new TranslationChange();
+        change.setRevision(revision);
+        change.setLocale(locale);
+        change.setOperation(TranslationChange.Operation.UPDATE);
+        return change;
+    }
+}
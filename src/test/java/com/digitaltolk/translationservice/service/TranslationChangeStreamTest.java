@@ -0,0 +1,286 @@
+package com.digitaltolk.translationservice.service;
+
+import com.digitaltolk.translationservice.api.controller.TranslationStreamController;
+import com.digitaltolk.translationservice.api.dto.TranslationChangeDto;
+import com.digitaltolk.translationservice.api.mapper.TranslationMapper;
+import com.digitaltolk.translationservice.domain.entity.TranslationChange;
+import com.digitaltolk.translationservice.domain.repository.TranslationChangeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.Filter;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ActiveProfiles("test")
+class TranslationChangeStreamTest {
+
+    private static final String STALL_HEADER = "X-Test-Stall";
+
+    @Mock
+    private TranslationChangeHub changeHub;
+
+    @Mock
+    private TranslationChangeRepository changeRepository;
+
+    @Mock
+    private TranslationMapper translationMapper;
+
+    @Mock
+    private TranslationChangeLongPoll changeLongPoll;
+
+    private final AtomicBoolean stalling = new AtomicBoolean();
+    private final CountDownLatch unstall = new CountDownLatch(1);
+    private final CountDownLatch sendBlocked = new CountDownLatch(1);
+
+    private TranslationChangeStream changeStream;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(changeHub).execute(any(Runnable.class));
+        when(translationMapper.toChangeDto(any(TranslationChange.class))).thenAnswer(invocation -> {
+            TranslationChange change = invocation.getArgument(0);
+            TranslationChangeDto dto = new TranslationChangeDto();
+            dto.setRevision(change.getRevision());
+            dto.setLocale(change.getLocale());
+            return dto;
+        });
+        when(changeHub.getRevision()).thenReturn(5L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        unstall.countDown();
+        if (changeStream != null) {
+            changeStream.destroy();
+        }
+    }
+
+    @Test
+    void subscribe_NoLastEventId_SendsReadyThenLiveChanges() throws Exception {
+        start(256, 60000, 4);
+
+        MvcResult stream = open(get("/translations/stream"));
+        awaitBody(stream, "event:ready\nid:5\n");
+
+        changeStream.onChanges(List.of(change(6L, "en"), change(7L, "fr")));
+
+        awaitBody(stream, "event:change\nid:6\n");
+        awaitBody(stream, "event:change\nid:7\n");
+        assertEquals(1, changeStream.getSubscriberCount());
+    }
+
+    @Test
+    void onChanges_LocaleFilter_SendsOnlySubscribedLocales() throws Exception {
+        start(256, 60000, 4);
+
+        MvcResult stream = open(get("/translations/stream").param("locales", "fr"));
+        awaitBody(stream, "event:ready");
+
+        changeStream.onChanges(List.of(change(6L, "en"), change(7L, "fr")));
+
+        awaitBody(stream, "id:7\n");
+        assertFalse(body(stream).contains("id:6\n"));
+    }
+
+    @Test
+    void subscribe_LastEventIdWithLocales_ReplaysOnlyThoseLocales() throws Exception {
+        start(256, 60000, 4);
+        when(changeHub.getRevision()).thenReturn(10L);
+        when(changeRepository.findSinceInLocales(4L, Set.of("fr"), PageRequest.of(0, 256)))
+            .thenReturn(List.of(change(7L, "fr"), change(9L, "fr")));
+
+        MvcResult stream = open(get("/translations/stream").param("locales", "fr").header("Last-Event-ID", "4"));
+
+        awaitBody(stream, "id:9\n");
+        assertTrue(body(stream).contains("event:change\nid:7\n"));
+        assertFalse(body(stream).contains("event:ready"));
+        verify(changeRepository, never()).findSince(anyLong(), any(), any());
+    }
+
+    @Test
+    void subscribe_LastEventIdWithoutLocales_ReplaysAllLocales() throws Exception {
+        start(256, 60000, 4);
+        when(changeHub.getRevision()).thenReturn(10L);
+        when(changeRepository.findSince(eq(4L), isNull(), eq(PageRequest.of(0, 256))))
+            .thenReturn(List.of(change(7L, "fr"), change(8L, "en")));
+
+        MvcResult stream = open(get("/translations/stream").header("Last-Event-ID", "4"));
+
+        awaitBody(stream, "id:8\n");
+        assertTrue(body(stream).contains("id:7\n"));
+    }
+
+    @Test
+    void subscribe_TooManyMissed_SendsResync() throws Exception {
+        start(2, 60000, 4);
+        when(changeHub.getRevision()).thenReturn(10L);
+        when(changeRepository.findSinceInLocales(eq(4L), eq(Set.of("fr")), any()))
+            .thenReturn(List.of(change(5L, "fr"), change(6L, "fr")));
+
+        MvcResult stream = open(get("/translations/stream").param("locales", "fr").header("Last-Event-ID", "4"));
+
+        awaitBody(stream, "event:resync\nid:10\n");
+        assertFalse(body(stream).contains("event:change"));
+    }
+
+    @Test
+    void onChanges_QueueOverflows_DropsBacklogAndSendsResync() throws Exception {
+        start(2, 60000, 4);
+
+        MvcResult stream = open(get("/translations/stream").header(STALL_HEADER, "true"));
+        awaitBody(stream, "event:ready");
+        stalling.set(true);
+
+        changeStream.onChanges(List.of(change(6L, "en")));
+        // Change 6 has left the queue once its send blocks
+        assertTrue(sendBlocked.await(5, TimeUnit.SECONDS));
+        changeStream.onChanges(List.of(change(7L, "en"), change(8L, "en"), change(9L, "en")));
+        unstall.countDown();
+
+        awaitBody(stream, "event:resync");
+        assertTrue(body(stream).contains("id:6\n"));
+        assertFalse(body(stream).contains("id:7\n"));
+        assertFalse(body(stream).contains("id:9\n"));
+        assertEquals(1, changeStream.getSubscriberCount());
+    }
+
+    @Test
+    void send_BlockedPastTimeout_DropsSubscriberWithoutStallingOthers() throws Exception {
+        start(256, 200, 1);
+
+        MvcResult slow = open(get("/translations/stream").header(STALL_HEADER, "true"));
+        MvcResult fast = open(get("/translations/stream"));
+        awaitBody(slow, "event:ready");
+        awaitBody(fast, "event:ready");
+        stalling.set(true);
+
+        changeStream.onChanges(List.of(change(6L, "en")));
+        changeStream.onChanges(List.of(change(7L, "en")));
+
+        awaitBody(fast, "id:7\n");
+        await(() -> changeStream.getSubscriberCount() == 1);
+        assertFalse(body(slow).contains("id:6\n"));
+    }
+
+    private void start(int bufferSize, long sendTimeoutMillis, int writerThreads) {
+        changeStream = new TranslationChangeStream(changeHub, changeRepository, translationMapper, new ObjectMapper(),
+                100, bufferSize, 60000, 60000, sendTimeoutMillis, writerThreads);
+        mockMvc = MockMvcBuilders.standaloneSetup(new TranslationStreamController(changeStream, changeLongPoll))
+                .addFilters(stallFilter())
+                .build();
+    }
+
+    private MvcResult open(MockHttpServletRequestBuilder builder) throws Exception {
+        return mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+    }
+
+    /**
+     * Wraps responses of requests carrying {@link #STALL_HEADER} so that their writes block, as a socket with
+     * a full send buffer does, while {@link #stalling} is set and until {@link #unstall} is released. A blocked
+     * write counts down {@link #sendBlocked}.
+     */
+    private Filter stallFilter() {
+        return (request, response, chain) -> {
+            if (((HttpServletRequest) request).getHeader(STALL_HEADER) == null) {
+                chain.doFilter(request, response);
+                return;
+            }
+            ServletOutputStream out = response.getOutputStream();
+            ServletOutputStream stalled = new ServletOutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    if (stalling.get()) {
+                        sendBlocked.countDown();
+                        try {
+                            unstall.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    out.write(b);
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener listener) {
+                }
+            };
+            chain.doFilter(request, new HttpServletResponseWrapper((HttpServletResponse) response) {
+                @Override
+                public ServletOutputStream getOutputStream() {
+                    return stalled;
+                }
+            });
+        };
+    }
+
+    private String body(MvcResult result) throws Exception {
+        return result.getResponse().getContentAsString();
+    }
+
+    private void awaitBody(MvcResult result, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!body(result).contains(expected)) {
+            if (System.nanoTime() > deadline) {
+                fail("Expected '" + expected + "' in stream, got: " + body(result));
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met within 5s");
+            Thread.sleep(10);
+        }
+    }
+
+    private TranslationChange change(long revision, String locale) {
+        TranslationChange change = new TranslationChange();
+        change.setRevision(revision);
+        change.setLocale(locale);
+        change.setOperation(TranslationChange.Operation.UPDATE);
+        return change;
+    }
+}
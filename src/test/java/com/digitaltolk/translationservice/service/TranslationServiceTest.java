@@ -1,23 +1,38 @@
 package com.digitaltolk.translationservice.service;
 
 import com.digitaltolk.translationservice.api.dto.PagedResponse;
+import com.digitaltolk.translationservice.api.dto.ResponseView;
 import com.digitaltolk.translationservice.api.dto.TagDto;
+import com.digitaltolk.translationservice.api.dto.TranslationChangeFeedResponse;
 import com.digitaltolk.translationservice.api.dto.TranslationDto;
 import com.digitaltolk.translationservice.api.dto.TranslationExportResponse;
+import com.digitaltolk.translationservice.api.dto.TranslationPatchRequest;
 import com.digitaltolk.translationservice.api.dto.TranslationSearchRequest;
 import com.digitaltolk.translationservice.api.mapper.TranslationMapper;
 import com.digitaltolk.translationservice.domain.entity.Tag;
 import com.digitaltolk.translationservice.domain.entity.Translation;
+import com.digitaltolk.translationservice.domain.entity.TranslationChange;
+import com.digitaltolk.translationservice.domain.entity.TranslationKey;
+import com.digitaltolk.translationservice.domain.projection.LocalizedContent;
+import com.digitaltolk.translationservice.domain.projection.TranslationRef;
+import com.digitaltolk.translationservice.domain.projection.TranslationTag;
+import com.digitaltolk.translationservice.domain.projection.TranslationView;
+import com.digitaltolk.translationservice.domain.repository.LocaleStatsRepository;
 import com.digitaltolk.translationservice.domain.repository.TagRepository;
+import com.digitaltolk.translationservice.domain.repository.TranslationKeyRepository;
 import com.digitaltolk.translationservice.domain.repository.TranslationRepository;
+import com.digitaltolk.translationservice.exception.CapacityExceededException;
 import com.digitaltolk.translationservice.exception.DuplicateResourceException;
 import com.digitaltolk.translationservice.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -26,7 +41,10 @@ import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -39,17 +57,38 @@ class TranslationServiceTest {
     @Mock
     private TranslationRepository translationRepository;
 
+    @Mock
+    private TranslationKeyRepository translationKeyRepository;
+
     @Mock
     private TagRepository tagRepository;
 
+    @Mock
+    private LocaleStatsRepository localeStatsRepository;
+
     @Mock
     private TranslationMapper translationMapper;
 
+    @Mock
+    private TranslationCacheEvictor cacheEvictor;
+
+    @Mock
+    private TranslationChangeLog changeLog;
+
+    @Mock
+    private LocalePartitionManager partitionManager;
+
+    @Mock
+    private ExportAdmissionControl exportAdmission;
+
     @InjectMocks
     private TranslationService translationService;
 
     private TranslationDto translationDto;
     private Translation translation;
+    private TranslationView translationView;
+    private LocalizedContent exportRow;
+    private TranslationKey translationKey;
     private Tag tag;
     private TagDto tagDto;
 
@@ -59,6 +98,7 @@ class TranslationServiceTest {
         ReflectionTestUtils.setField(translationService, "cacheTtl", 300L);
         ReflectionTestUtils.setField(translationService, "cdnEnabled", false);
         ReflectionTestUtils.setField(translationService, "cdnBaseUrl", "");
+        lenient().when(exportAdmission.build(any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
 
         tag = new Tag();
         tag.setId(1L);
@@ -74,17 +114,23 @@ class TranslationServiceTest {
         translationDto.setContent("Test Content");
         translationDto.setTags(Set.of(tagDto));
 
+        translationKey = new TranslationKey("test.key");
+        ReflectionTestUtils.setField(translationKey, "id", 10L);
+        lenient().when(translationKeyRepository.findByKey("test.key")).thenReturn(Optional.of(translationKey));
+
         translation = new Translation();
         translation.setId(1L);
-        translation.setKey("test.key");
+        translation.setTranslationKey(translationKey);
         translation.setLocale("en");
         translation.setContent("Test Content");
         translation.setTags(Set.of(tag));
+
+        translationView = new TranslationView(1L, "test.key", "en", "Test Content", null, null, 0L);
+        exportRow = new LocalizedContent("en", "test.key", "Test Content");
     }
 
     @Test
     void createTranslation_Success() {
-        when(translationRepository.existsByKeyAndLocale(anyString(), anyString())).thenReturn(false);
         when(translationMapper.toEntity(any(TranslationDto.class))).thenReturn(translation);
         when(tagRepository.findByName(anyString())).thenReturn(Optional.of(tag));
         when(translationRepository.save(any(Translation.class))).thenReturn(translation);
@@ -94,13 +140,35 @@ class TranslationServiceTest {
 
         assertNotNull(result);
         assertEquals("test.key", result.getKey());
-        verify(translationRepository).existsByKeyAndLocale("test.key", "en");
+        verify(translationRepository, never()).existsByKeyAndLocale(anyString(), anyString());
         verify(translationRepository).save(any(Translation.class));
+        verify(changeLog).recordCreate(1L, "test.key", "en", "Test Content");
+        verify(cacheEvictor).evictTranslation(1L, "test.key", "en");
+        InOrder inOrder = inOrder(partitionManager, translationRepository);
+        inOrder.verify(partitionManager).ensurePartition("en");
+        inOrder.verify(translationRepository).save(any(Translation.class));
+    }
+
+    @Test
+    void createTranslation_NewKey_InsertsSharedKeyOnce() {
+        translationDto.setKey("new.key");
+        translationDto.setTags(null);
+        TranslationKey newKey = new TranslationKey("new.key");
+        when(translationKeyRepository.findByKey("new.key"))
+            .thenReturn(Optional.empty())
+            .thenReturn(Optional.of(newKey));
+        when(translationMapper.toEntity(any(TranslationDto.class))).thenReturn(translation);
+        when(translationRepository.save(any(Translation.class))).thenReturn(translation);
+        when(translationMapper.toDto(any(Translation.class))).thenReturn(translationDto);
+
+        translationService.createTranslation(translationDto);
+
+        verify(translationKeyRepository).insertIfAbsent("new.key");
+        assertSame(newKey, translation.getTranslationKey());
     }
 
     @Test
     void createTranslation_WithNewTag_Success() {
-        when(translationRepository.existsByKeyAndLocale(anyString(), anyString())).thenReturn(false);
         when(translationMapper.toEntity(any(TranslationDto.class))).thenReturn(translation);
         when(tagRepository.findByName(anyString())).thenReturn(Optional.empty());
         when(tagRepository.save(any(Tag.class))).thenReturn(tag);
@@ -116,7 +184,6 @@ class TranslationServiceTest {
     @Test
     void createTranslation_WithoutTags_Success() {
         translationDto.setTags(null);
-        when(translationRepository.existsByKeyAndLocale(anyString(), anyString())).thenReturn(false);
         when(translationMapper.toEntity(any(TranslationDto.class))).thenReturn(translation);
         when(translationRepository.save(any(Translation.class))).thenReturn(translation);
         when(translationMapper.toDto(any(Translation.class))).thenReturn(translationDto);
@@ -130,7 +197,6 @@ class TranslationServiceTest {
     @Test
     void createTranslation_WithEmptyTags_Success() {
         translationDto.setTags(Collections.emptySet());
-        when(translationRepository.existsByKeyAndLocale(anyString(), anyString())).thenReturn(false);
         when(translationMapper.toEntity(any(TranslationDto.class))).thenReturn(translation);
         when(translationRepository.save(any(Translation.class))).thenReturn(translation);
         when(translationMapper.toDto(any(Translation.class))).thenReturn(translationDto);
@@ -143,7 +209,11 @@ class TranslationServiceTest {
 
     @Test
     void createTranslation_DuplicateKey_ThrowsException() {
-        when(translationRepository.existsByKeyAndLocale(anyString(), anyString())).thenReturn(true);
+        when(translationMapper.toEntity(any(TranslationDto.class))).thenReturn(translation);
+        when(tagRepository.findByName(anyString())).thenReturn(Optional.of(tag));
+        when(translationRepository.save(any(Translation.class))).thenThrow(new DataIntegrityViolationException(
+            "could not execute statement",
+            new SQLException("duplicate key value violates unique constraint \"uk_translation_key_locale\"", "23505")));
 
         DuplicateResourceException exception = assertThrows(
             DuplicateResourceException.class,
@@ -151,10 +221,66 @@ class TranslationServiceTest {
         );
 
         assertTrue(exception.getMessage().contains("already exists"));
+        verify(translationRepository, never()).existsByKeyAndLocale(anyString(), anyString());
+    }
+
+    @Test
+    void createTranslation_OtherIntegrityViolation_Rethrown() {
+        translationDto.setTags(null);
+        when(translationMapper.toEntity(any(TranslationDto.class))).thenReturn(translation);
+        when(translationRepository.save(any(Translation.class))).thenThrow(new DataIntegrityViolationException(
+            "could not execute statement", new SQLException("null value in column \"content\"", "23502")));
+
+        assertThrows(DataIntegrityViolationException.class,
+            () -> translationService.createTranslation(translationDto));
+    }
+
+    @Test
+    void upsertTranslation_Success() {
+        when(translationRepository.upsertContent(10L, "en", "Test Content")).thenReturn(1);
+        when(translationRepository.findRefByKeyAndLocale("test.key", "en")).thenReturn(Optional.of(new TranslationRef(1L, 2L)));
+        when(tagRepository.findByName("web")).thenReturn(Optional.of(tag));
+        when(translationRepository.findById(1L)).thenReturn(Optional.of(translation));
+        when(translationMapper.toDto(translation)).thenReturn(translationDto);
+
+        TranslationDto result = translationService.upsertTranslation(translationDto);
+
+        assertNotNull(result);
+        verify(translationRepository).insertTagLinks(1L, Set.of(1L));
         verify(translationRepository, never()).save(any(Translation.class));
+        verify(cacheEvictor).evictTranslation(1L, "test.key", "en");
+        verify(changeLog).recordUpdate(1L, "test.key", "en", "Test Content");
     }
 
+    @Test
+    void upsertTranslation_NewRow_RecordsCreate() {
+        translationDto.setTags(null);
+        when(translationRepository.upsertContent(10L, "en", "Test Content")).thenReturn(1);
+        when(translationRepository.findRefByKeyAndLocale("test.key", "en")).thenReturn(Optional.of(new TranslationRef(1L, 0L)));
+        when(translationRepository.findById(1L)).thenReturn(Optional.of(translation));
+        when(translationMapper.toDto(translation)).thenReturn(translationDto);
 
+        translationService.upsertTranslation(translationDto);
+
+        verify(changeLog).recordCreate(1L, "test.key", "en", "Test Content");
+        verify(changeLog, never()).recordUpdate(any(), anyString(), anyString(), anyString());
+        verify(cacheEvictor).evictLocales();
+    }
+
+    @Test
+    void upsertTranslation_WithoutTags_KeepsExistingTags() {
+        translationDto.setTags(null);
+        when(translationRepository.upsertContent(10L, "en", "Test Content")).thenReturn(0);
+        when(translationRepository.findRefByKeyAndLocale("test.key", "en")).thenReturn(Optional.of(new TranslationRef(1L, 2L)));
+        when(translationRepository.findById(1L)).thenReturn(Optional.of(translation));
+        when(translationMapper.toDto(translation)).thenReturn(translationDto);
+
+        translationService.upsertTranslation(translationDto);
+
+        verify(translationRepository, never()).deleteAllTagLinks(any());
+        verify(translationRepository, never()).deleteTagLinksExcept(any(), any());
+        verifyNoInteractions(changeLog);
+    }
 
     @Test
     void updateTranslation_DifferentKeyExists_ThrowsException() {
@@ -180,6 +306,89 @@ class TranslationServiceTest {
             () -> translationService.updateTranslation(translationId, translationDto));
     }
 
+    @Test
+    void patchTranslation_ContentOnly_Success() {
+        TranslationPatchRequest patch = new TranslationPatchRequest("Patched Content");
+        patch.setVersion(2L);
+        when(translationRepository.updateContentByKeyAndLocale("test.key", "en", "Patched Content", 2L)).thenReturn(1);
+        when(translationRepository.findRefByKeyAndLocale("test.key", "en")).thenReturn(Optional.of(new TranslationRef(1L, 3L)));
+        when(translationRepository.findById(1L)).thenReturn(Optional.of(translation));
+        when(translationMapper.toDto(translation)).thenReturn(translationDto);
+
+        TranslationDto result = translationService.patchTranslation("test.key", "en", patch);
+
+        assertSame(translationDto, result);
+        InOrder order = inOrder(translationRepository);
+        order.verify(translationRepository).updateContentByKeyAndLocale("test.key", "en", "Patched Content", 2L);
+        order.verify(translationRepository).findById(1L);
+        verify(translationRepository, never()).save(any(Translation.class));
+        verify(translationRepository, never()).deleteAllTagLinks(any());
+        verify(cacheEvictor).evictTranslation(1L, "test.key", "en");
+    }
+
+    @Test
+    void patchTranslation_TagsOnly_ReplacesTagLinks() {
+        TranslationPatchRequest patch = new TranslationPatchRequest();
+        patch.setTags(Set.of(tagDto));
+        when(translationRepository.incrementVersionByKeyAndLocale("test.key", "en", null)).thenReturn(1);
+        when(translationRepository.findRefByKeyAndLocale("test.key", "en")).thenReturn(Optional.of(new TranslationRef(1L, 1L)));
+        when(tagRepository.findByName("web")).thenReturn(Optional.of(tag));
+        when(translationRepository.findById(1L)).thenReturn(Optional.of(translation));
+        when(translationMapper.toDto(translation)).thenReturn(translationDto);
+
+        TranslationDto result = translationService.patchTranslation("test.key", "en", patch);
+
+        assertSame(translationDto, result);
+        verify(translationRepository, never()).updateContentByKeyAndLocale(anyString(), anyString(), anyString(), any());
+        InOrder order = inOrder(translationRepository);
+        order.verify(translationRepository).deleteTagLinksExcept(1L, Set.of(1L));
+        order.verify(translationRepository).insertTagLinks(1L, Set.of(1L));
+        order.verify(translationRepository).findById(1L);
+    }
+
+    @Test
+    void patchTranslation_EmptyTags_RemovesAllTagLinks() {
+        TranslationPatchRequest patch = new TranslationPatchRequest();
+        patch.setTags(Collections.emptySet());
+        when(translationRepository.incrementVersionByKeyAndLocale("test.key", "en", null)).thenReturn(1);
+        when(translationRepository.findRefByKeyAndLocale("test.key", "en")).thenReturn(Optional.of(new TranslationRef(1L, 1L)));
+        when(translationRepository.findById(1L)).thenReturn(Optional.of(translation));
+
+        translationService.patchTranslation("test.key", "en", patch);
+
+        verify(translationRepository).deleteAllTagLinks(1L);
+        verify(translationRepository, never()).insertTagLinks(any(), any());
+    }
+
+    @Test
+    void patchTranslation_StaleVersion_ThrowsException() {
+        TranslationPatchRequest patch = new TranslationPatchRequest("Patched Content");
+        patch.setVersion(1L);
+        when(translationRepository.updateContentByKeyAndLocale("test.key", "en", "Patched Content", 1L)).thenReturn(0);
+        when(translationRepository.findRefByKeyAndLocale("test.key", "en")).thenReturn(Optional.of(new TranslationRef(1L, 4L)));
+
+        assertThrows(OptimisticLockingFailureException.class,
+            () -> translationService.patchTranslation("test.key", "en", patch));
+        verify(cacheEvictor, never()).evictTranslation(any(), anyString(), anyString());
+    }
+
+    @Test
+    void patchTranslation_NotFound_ThrowsException() {
+        TranslationPatchRequest patch = new TranslationPatchRequest("Patched Content");
+        when(translationRepository.updateContentByKeyAndLocale("missing.key", "en", "Patched Content", null)).thenReturn(0);
+        when(translationRepository.findRefByKeyAndLocale("missing.key", "en")).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+            () -> translationService.patchTranslation("missing.key", "en", patch));
+    }
+
+    @Test
+    void patchTranslation_NoChanges_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> translationService.patchTranslation("test.key", "en", new TranslationPatchRequest()));
+        verifyNoInteractions(translationRepository);
+    }
+
     @Test
     void getTranslationById_Success() {
         Long translationId = 1L;
@@ -237,10 +446,10 @@ class TranslationServiceTest {
         request.setSortBy("key");
         request.setSortDirection("asc");
 
-        Page<Translation> page = new PageImpl<>(Arrays.asList(translation));
+        Page<TranslationView> page = new PageImpl<>(Arrays.asList(translationView));
         when(translationRepository.searchTranslations(anyString(), anyString(), anyString(), anyString(), any(Pageable.class)))
             .thenReturn(page);
-        when(translationMapper.toDtoList(anyList())).thenReturn(Arrays.asList(translationDto));
+        when(translationMapper.toDtoList(anyList(), anyList())).thenReturn(Arrays.asList(translationDto));
 
         PagedResponse<TranslationDto> result = translationService.searchTranslations(request);
 
@@ -257,16 +466,16 @@ class TranslationServiceTest {
         request.setSize(10);
         request.setSortBy("key");
 
-        Page<Translation> page = new PageImpl<>(Arrays.asList(translation));
+        Page<TranslationView> page = new PageImpl<>(Arrays.asList(translationView));
         when(translationRepository.searchTranslations(anyString(), isNull(), isNull(), isNull(), any(Pageable.class)))
             .thenReturn(page);
-        when(translationMapper.toDtoList(anyList())).thenReturn(Arrays.asList(translationDto));
+        when(translationMapper.toDtoList(anyList(), anyList())).thenReturn(Arrays.asList(translationDto));
 
         PagedResponse<TranslationDto> result = translationService.searchTranslations(request);
 
         assertNotNull(result);
         verify(translationRepository).searchTranslations(eq("%test%"), isNull(), isNull(), isNull(), 
-            eq(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "key"))));
+            eq(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "translationKey.key"))));
     }
 
     @Test
@@ -279,10 +488,10 @@ class TranslationServiceTest {
         request.setSortBy("key");
         request.setSortDirection("asc");
 
-        Page<Translation> page = new PageImpl<>(Arrays.asList(translation));
+        Page<TranslationView> page = new PageImpl<>(Arrays.asList(translationView));
         when(translationRepository.searchTranslations(isNull(), isNull(), isNull(), isNull(), any(Pageable.class)))
             .thenReturn(page);
-        when(translationMapper.toDtoList(anyList())).thenReturn(Arrays.asList(translationDto));
+        when(translationMapper.toDtoList(anyList(), anyList())).thenReturn(Arrays.asList(translationDto));
 
         PagedResponse<TranslationDto> result = translationService.searchTranslations(request);
 
@@ -293,21 +502,76 @@ class TranslationServiceTest {
     @Test
     void getTranslationsByLocale_Success() {
         String locale = "en";
-        Page<Translation> page = new PageImpl<>(Arrays.asList(translation));
+        Page<TranslationView> page = new PageImpl<>(Arrays.asList(translationView));
         when(translationRepository.findByLocale(eq(locale), any(Pageable.class))).thenReturn(page);
-        when(translationMapper.toDtoList(anyList())).thenReturn(Arrays.asList(translationDto));
+        when(translationMapper.toDtoList(anyList(), anyList())).thenReturn(Arrays.asList(translationDto));
 
         PagedResponse<TranslationDto> result = translationService.getTranslationsByLocale(locale, 0, 10);
 
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
-        verify(translationRepository).findByLocale(eq(locale), eq(PageRequest.of(0, 10, Sort.by("key"))));
+        verify(translationRepository).findByLocale(eq(locale), eq(PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void getTranslationsByLocale_FetchesTagsForWholePageOnce() {
+        TranslationView other = new TranslationView(2L, "other.key", "en", "Other", null, null, 0L);
+        List<TranslationTag> tags = List.of(new TranslationTag(1L, 1L, "web", null, null, null));
+        when(translationRepository.findByLocale(eq("en"), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(translationView, other)));
+        when(translationRepository.findTagsByTranslationIds(List.of(1L, 2L))).thenReturn(tags);
+        when(translationMapper.toDtoList(anyList(), anyList())).thenReturn(List.of(translationDto, new TranslationDto()));
+
+        translationService.getTranslationsByLocale("en", 0, 10);
+
+        verify(translationRepository, times(1)).findTagsByTranslationIds(anyCollection());
+        verify(translationMapper).toDtoList(List.of(translationView, other), tags);
+        verify(translationRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void getTranslationsByLocale_MinimalView_SkipsTags() {
+        LocalizedContent row = new LocalizedContent("en", "test.key", "Test content");
+        TranslationDto minimal = new TranslationDto("test.key", "en", "Test content");
+        when(translationRepository.findContentPageByLocale(eq("en"), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(row)));
+        when(translationMapper.toMinimalDto(row)).thenReturn(minimal);
+
+        PagedResponse<TranslationDto> result = translationService.getTranslationsByLocale("en", 0, 10, ResponseView.MINIMAL);
+
+        assertEquals(List.of(minimal), result.getContent());
+        verify(translationRepository, never()).findByLocale(anyString(), any(Pageable.class));
+        verify(translationRepository, never()).findTagsByTranslationIds(anyCollection());
+    }
+
+    @Test
+    void searchTranslations_MinimalView_SkipsTags() {
+        TranslationSearchRequest request = new TranslationSearchRequest();
+        request.setLocale("en");
+        request.setView(ResponseView.MINIMAL);
+        LocalizedContent row = new LocalizedContent("en", "test.key", "Test content");
+        when(translationRepository.searchTranslationContent(isNull(), eq("en"), isNull(), isNull(), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(row)));
+        when(translationMapper.toMinimalDto(row)).thenReturn(new TranslationDto("test.key", "en", "Test content"));
+
+        PagedResponse<TranslationDto> result = translationService.searchTranslations(request);
+
+        assertEquals(1, result.getContent().size());
+        verify(translationRepository, never()).searchTranslations(any(), any(), any(), any(), any(Pageable.class));
+        verify(translationRepository, never()).findTagsByTranslationIds(anyCollection());
+    }
+
+    @Test
+    void responseView_ParsesAnyCaseAndRejectsUnknown() {
+        assertEquals(ResponseView.MINIMAL, ResponseView.from("Minimal"));
+        assertEquals(ResponseView.FULL, ResponseView.from(null));
+        assertThrows(IllegalArgumentException.class, () -> ResponseView.from("tags"));
     }
 
     @Test
     void exportTranslations_WithLocale_Success() {
         String locale = "en";
-        when(translationRepository.findByLocaleForExport(locale)).thenReturn(Arrays.asList(translation));
+        when(translationRepository.findByLocaleForExport(locale)).thenReturn(Arrays.asList(exportRow));
 
         TranslationExportResponse result = translationService.exportTranslations(locale);
 
@@ -317,11 +581,12 @@ class TranslationServiceTest {
         assertEquals("Test Content", result.getTranslations().get("en").get("test.key"));
         assertEquals(300L, result.getCacheTtl());
         assertNull(result.getCdnUrl());
+        verify(exportAdmission).recordBuild(eq("en"), eq(false), anyLong(), eq(1L));
     }
 
     @Test
     void exportTranslations_AllLocales_Success() {
-        when(translationRepository.findAllForExport()).thenReturn(Arrays.asList(translation));
+        when(translationRepository.findAllForExport()).thenReturn(Arrays.asList(exportRow));
 
         TranslationExportResponse result = translationService.exportTranslations(null);
 
@@ -332,7 +597,7 @@ class TranslationServiceTest {
 
     @Test
     void exportTranslations_EmptyLocale_Success() {
-        when(translationRepository.findAllForExport()).thenReturn(Arrays.asList(translation));
+        when(translationRepository.findAllForExport()).thenReturn(Arrays.asList(exportRow));
 
         TranslationExportResponse result = translationService.exportTranslations("  ");
 
@@ -346,7 +611,7 @@ class TranslationServiceTest {
         ReflectionTestUtils.setField(translationService, "cdnBaseUrl", "https://cdn.example.com");
 
         String locale = "en";
-        when(translationRepository.findByLocaleForExport(locale)).thenReturn(Arrays.asList(translation));
+        when(translationRepository.findByLocaleForExport(locale)).thenReturn(Arrays.asList(exportRow));
 
         TranslationExportResponse result = translationService.exportTranslations(locale);
 
@@ -359,7 +624,7 @@ class TranslationServiceTest {
         ReflectionTestUtils.setField(translationService, "cdnEnabled", true);
         ReflectionTestUtils.setField(translationService, "cdnBaseUrl", "https://cdn.example.com");
 
-        when(translationRepository.findAllForExport()).thenReturn(Arrays.asList(translation));
+        when(translationRepository.findAllForExport()).thenReturn(Arrays.asList(exportRow));
 
         TranslationExportResponse result = translationService.exportTranslations(null);
 
@@ -370,7 +635,7 @@ class TranslationServiceTest {
     @Test
     void exportTranslations_ExceedsMaxSize_LogsWarning() {
         ReflectionTestUtils.setField(translationService, "maxExportSize", 0);
-        when(translationRepository.findAllForExport()).thenReturn(Arrays.asList(translation));
+        when(translationRepository.findAllForExport()).thenReturn(Arrays.asList(exportRow));
 
         TranslationExportResponse result = translationService.exportTranslations(null);
 
@@ -378,30 +643,142 @@ class TranslationServiceTest {
         assertEquals(1, result.getTotalTranslations());
     }
 
+    @Test
+    void exportTranslations_NoBuildSlot_RejectedWithoutReading() {
+        doThrow(new CapacityExceededException("busy", 2)).when(exportAdmission).build(any());
+
+        assertThrows(CapacityExceededException.class, () -> translationService.exportTranslations(null));
+        verifyNoInteractions(translationRepository, changeLog);
+    }
+
+    @Test
+    void exportTranslationsAsOf_Revision_ReadsHistoryAtRevision() {
+        when(changeLog.getLatestRevision()).thenReturn(50L);
+        when(changeLog.findContentAsOf("en", 42L)).thenReturn(List.of(exportRow));
+
+        TranslationExportResponse result = translationService.exportTranslationsAsOf("en", 42L, null);
+
+        assertEquals(42L, result.getRevision());
+        assertEquals("Test Content", result.getTranslations().get("en").get("test.key"));
+        verify(changeLog, never()).findRevisionAt(any());
+    }
+
+    @Test
+    void exportTranslationsAsOf_Timestamp_ResolvesRevisionFirst() {
+        LocalDateTime at = LocalDateTime.of(2024, 1, 1, 10, 0);
+        when(changeLog.getLatestRevision()).thenReturn(50L);
+        when(changeLog.findRevisionAt(at)).thenReturn(7L);
+        when(changeLog.findContentAsOf(null, 7L)).thenReturn(List.of(exportRow));
+
+        TranslationExportResponse result = translationService.exportTranslationsAsOf(" ", null, at);
+
+        assertEquals(7L, result.getRevision());
+        assertEquals(1, result.getTotalTranslations());
+    }
+
+    @Test
+    void exportTranslationsAsOf_RevisionAndTimestamp_Rejected() {
+        assertThrows(IllegalArgumentException.class,
+            () -> translationService.exportTranslationsAsOf("en", 1L, LocalDateTime.now()));
+        assertThrows(IllegalArgumentException.class,
+            () -> translationService.exportTranslationsAsOf("en", null, null));
+        verifyNoInteractions(changeLog);
+    }
+
+    @Test
+    void exportTranslationsAsOf_FutureRevision_Rejected() {
+        when(changeLog.getLatestRevision()).thenReturn(50L);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> translationService.exportTranslationsAsOf("en", 51L, null));
+        verify(changeLog, never()).findContentAsOf(any(), anyLong());
+    }
+
     @Test
     void deleteTranslation_Success() {
         Long translationId = 1L;
-        when(translationRepository.existsById(translationId)).thenReturn(true);
+        when(translationRepository.findById(translationId)).thenReturn(Optional.of(translation));
 
         translationService.deleteTranslation(translationId);
 
-        verify(translationRepository).deleteById(translationId);
+        InOrder inOrder = inOrder(changeLog, translationRepository);
+        inOrder.verify(changeLog).recordForIds(List.of(translationId), TranslationChange.Operation.DELETE);
+        inOrder.verify(translationRepository).deleteById(translationId);
+        verify(cacheEvictor).evictTranslation(translationId, translation.getKey(), translation.getLocale());
     }
 
     @Test
     void deleteTranslation_NotFound_ThrowsException() {
         Long translationId = 999L;
-        when(translationRepository.existsById(translationId)).thenReturn(false);
+        when(translationRepository.findById(translationId)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class,
             () -> translationService.deleteTranslation(translationId));
         verify(translationRepository, never()).deleteById(any());
     }
 
+    @Test
+    void deleteLocale_Success_DropsPartitionWhileRecordingDeletion() {
+        when(translationRepository.countByLocale("fr")).thenReturn(3L);
+        when(partitionManager.dropPartition("fr")).thenReturn(true);
+        when(changeLog.recordLocaleDeletion(eq("fr"), any()))
+            .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+
+        long deleted = translationService.deleteLocale("fr");
+
+        assertEquals(3L, deleted);
+        verify(partitionManager).dropPartition("fr");
+        verify(cacheEvictor).evictAll();
+    }
+
+    @Test
+    void deleteLocale_NoTranslations_ThrowsException() {
+        when(translationRepository.countByLocale("xx")).thenReturn(0L);
+
+        assertThrows(ResourceNotFoundException.class, () -> translationService.deleteLocale("xx"));
+        verify(partitionManager, never()).dropPartition(anyString());
+        verify(changeLog, never()).recordLocaleDeletion(anyString(), any());
+    }
+
+    @Test
+    void getChanges_MorePagesAvailable_ReturnsLastRevisionOfPage() {
+        when(changeLog.getLatestRevision()).thenReturn(12L);
+        when(changeLog.findSince(5L, null, 3)).thenReturn(List.of(change(6L), change(7L), change(9L)));
+
+        TranslationChangeFeedResponse result = translationService.getChanges(5L, null, 2);
+
+        assertEquals(2, result.getChanges().size());
+        assertTrue(result.isHasMore());
+        assertEquals(7L, result.getNextRevision());
+        assertEquals(12L, result.getLatestRevision());
+    }
+
+    @Test
+    void getChanges_NoMatchingChanges_AdvancesToLatestRevision() {
+        when(changeLog.getLatestRevision()).thenReturn(12L);
+        when(changeLog.findSince(5L, "fr", 501)).thenReturn(Collections.emptyList());
+
+        TranslationChangeFeedResponse result = translationService.getChanges(5L, "fr", 500);
+
+        assertTrue(result.getChanges().isEmpty());
+        assertFalse(result.isHasMore());
+        assertEquals(12L, result.getNextRevision());
+    }
+
+    private TranslationChange change(long revision) {
+        TranslationChange change = new TranslationChange();
+        change.setRevision(revision);
+        change.setTranslationId(1L);
+        change.setKey("test.key");
+        change.setLocale("en");
+        change.setOperation(TranslationChange.Operation.UPDATE);
+        return change;
+    }
+
     @Test
     void getAvailableLocales_Success() {
         List<String> locales = Arrays.asList("en", "fr", "es");
-        when(translationRepository.findDistinctLocales()).thenReturn(locales);
+        when(localeStatsRepository.findActiveLocales()).thenReturn(locales);
 
         List<String> result = translationService.getAvailableLocales();
 
@@ -415,11 +792,18 @@ class TranslationServiceTest {
     @Test
     void getTranslationCountByLocale_Success() {
         String locale = "en";
-        when(translationRepository.countByLocale(locale)).thenReturn(5L);
+        when(localeStatsRepository.findTranslationCount(locale)).thenReturn(Optional.of(5L));
 
         long result = translationService.getTranslationCountByLocale(locale);
 
         assertEquals(5L, result);
-        verify(translationRepository).countByLocale(locale);
+        verify(translationRepository, never()).countByLocale(anyString());
+    }
+
+    @Test
+    void getTranslationCountByLocale_UnknownLocale_ReturnsZero() {
+        when(localeStatsRepository.findTranslationCount("xx")).thenReturn(Optional.empty());
+
+        assertEquals(0L, translationService.getTranslationCountByLocale("xx"));
     }
 }